@@ -16,6 +16,7 @@
 
 import ballerina/crypto;
 import ballerina/jballerina.java;
+import ballerina/lang.'transaction as transactions;
 import ballerina/sql;
 
 # Represents a PostgreSQL database client.
@@ -80,7 +81,11 @@ public isolated client class Client {
     # + sqlQuery - The SQL query such as `` `DELETE FROM Album WHERE artist=${artistName}` ``
     # + return - Metadata of the query execution as an `sql:ExecutionResult` or an `sql:Error`
     remote isolated function execute(sql:ParameterizedQuery sqlQuery) returns sql:ExecutionResult|sql:Error {
-        return nativeExecute(self, sqlQuery);
+        sql:ExecutionResult|sql:Error result = nativeExecute(self, sqlQuery);
+        if transactional {
+            invalidateCachedResultsOnCommit(getCacheInvalidation(self, sqlQuery));
+        }
+        return result;
     }
 
     # Executes the SQL query with multiple sets of parameters in a batch. Only the metadata of the execution is returned (not results from the query).
@@ -92,7 +97,11 @@ public isolated client class Client {
         if sqlQueries.length() == 0 {
             return error sql:ApplicationError("Parameter 'sqlQueries' cannot be empty array");
         }
-        return nativeBatchExecute(self, sqlQueries);
+        sql:ExecutionResult[]|sql:Error result = nativeBatchExecute(self, sqlQueries);
+        if transactional {
+            invalidateCachedResultsOnCommit(getCacheInvalidation(self, sqlQueries[0]));
+        }
+        return result;
     }
 
     # Executes an SQL query, which calls a stored procedure. This may or may not
@@ -103,7 +112,61 @@ public isolated client class Client {
     # + return - Summary of the execution and results are returned in an `sql:ProcedureCallResult`, or an `sql:Error`
     remote isolated function call(sql:ParameterizedCallQuery sqlQuery, typedesc<record {}>[] rowTypes = []) 
     returns sql:ProcedureCallResult|sql:Error {
-        return nativeCall(self, sqlQuery, rowTypes);
+        sql:ProcedureCallResult|sql:Error result = nativeCall(self, sqlQuery, rowTypes);
+        if transactional {
+            invalidateCachedResultsOnCommit(getCacheInvalidation(self, ()));
+        }
+        return result;
+    }
+
+    # Executes independent SQL queries in a pipeline, i.e. the queries are sent back to back over a single connection
+    # and the results are read once the server replies to all of them. If a query fails, the server rolls back all
+    # the queries of the pipeline, and the queries, including the failed one, are executed again one by one so that
+    # the error affects only the result of the failed query. If the pipeline fails otherwise, e.g. the connection is
+    # lost or a query is cancelled, the queries are not executed again and the error is the result of each query.
+    # Each query should contain a single statement, and the pipeline cannot be used within a transaction.
+    #
+    # + sqlQueries - The SQL queries such as `` [`SELECT * FROM Album WHERE id=${albumId}`, `SELECT * FROM Artist`] ``
+    # + return - The result of each query in the given order, or an `sql:Error` if the pipeline cannot be executed
+    remote isolated function pipeline(sql:ParameterizedQuery[] sqlQueries) returns PipelineResult[]|sql:Error {
+        if sqlQueries.length() == 0 {
+            return error sql:ApplicationError("Parameter 'sqlQueries' cannot be empty array");
+        }
+        string[] strings = [];
+        sql:Value[] insertions = [];
+        foreach sql:ParameterizedQuery sqlQuery in sqlQueries {
+            if strings.length() == 0 {
+                strings.push(...sqlQuery.strings);
+            } else {
+                int last = strings.length() - 1;
+                strings[last] = strings[last] + ";\n" + sqlQuery.strings[0];
+                strings.push(...sqlQuery.strings.slice(1));
+            }
+            insertions.push(...sqlQuery.insertions);
+        }
+        PipelineResult[] results = [];
+        check nativePipeline(self, new BoundQuery(strings.cloneReadOnly(), insertions), sqlQueries, results,
+            PipelineRow);
+        return results;
+    }
+
+    # Prepares an SQL template to be executed many times with different parameter values.
+    #
+    # + sqlQuery - The SQL template such as `` `SELECT * FROM Album WHERE id = ${0}` ``. The insertions are the
+    #              placeholders of the parameters, and their types decide how the values are bound
+    # + return - The `postgresql:PreparedStatement` or an `sql:Error`
+    remote isolated function prepare(sql:ParameterizedQuery sqlQuery) returns PreparedStatement|sql:Error {
+        PreparedStatement statement = new;
+        check prepareStatement(statement, self, sqlQuery);
+        return statement;
+    }
+
+    # Returns the number of times the calls of the client and the transactions retried with the client's
+    # `postgresql:TransactionRetryManager` are retried due to a serialization failure or a deadlock.
+    #
+    # + return - The number of retries
+    public isolated function getRetryCount() returns int {
+        return getRetryCount(self);
     }
 
     # Closes the PostgreSQL client and shuts down the connection pool. The client must be closed only at the end of the
@@ -115,6 +178,12 @@ public isolated client class Client {
     }
 }
 
+# Represents the result of a query executed in a pipeline. The rows are returned for a query which returns a
+# result set, and the `sql:ExecutionResult` for the others.
+public type PipelineResult record {}[]|sql:ExecutionResult|sql:Error;
+
+type PipelineRow record {};
+
 # Provides a set of configurations for the PostgreSQL client to be passed internally within the module.
 #
 # + host - Hostname of the PostgreSQL server
@@ -143,7 +212,9 @@ type ClientConfiguration record {|
 # + socketTimeout - Socket timeout (in seconds) to be used during the read/write operations with the PostgreSQL server
 #                   (0 means no socket timeout)
 # + loginTimeout - Timeout (in seconds) to be used when connecting to the PostgreSQL server and authentication (0 means no timeout)
-# + rowFetchSize - The number of rows to be fetched in one trip to the database
+# + rowFetchSize - The number of rows to be fetched in one trip to the database. Outside a transaction, the rows of
+#                  a `query` stream are then read through a cursor, which is closed as soon as the stream is closed,
+#                  so that the server does not produce the rows which are not consumed
 # + cachedMetadataFieldsCount - The maximum number of fields to be cached per connection.
 #                               A value of 0 disables the cache
 # + cachedMetadataFieldSize - The maximum size (in megabytes) of fields to be cached per connection.
@@ -156,6 +227,24 @@ type ClientConfiguration record {|
 #                         so that the cancel message itself can get stuck. The default value is 10 seconds
 # + keepAliveTcpProbe - Enable or disable the TCP keep-alive probe
 # + binaryTransfer - Use the binary format for sending and receiving data if possible
+# + queryCache - Enables the client-side cache of the `query` and `queryRow` results
+# + readReplicas - The read replicas to which the `query` and `queryRow` calls are routed
+# + warmUp - Opens the connections of the pool and prepares the given statements on them before the client is
+#            initialized
+# + offloadBlockingCalls - Runs the blocking database calls of `query` (including the fetches of its result
+#                          stream), `queryRow`, `execute`, `batchExecute`, `pipeline`, and the prepared statements on
+#                          separate threads (virtual threads on Java 21 or later), so that slow queries do not hold the
+#                          threads of the Ballerina scheduler. The calls within a transaction are not offloaded. As
+#                          `call` cannot be offloaded, it returns an `sql:ApplicationError` outside a transaction
+# + retry - Retries the `queryRow` and `execute` calls and the prepared statements which fail due to a serialization
+#           failure (SQLSTATE `40001`) or a deadlock (SQLSTATE `40P01`). The calls within a transaction are not
+#           retried, as the failure aborts the transaction, which can be retried with
+#           `postgresql:TransactionRetryManager` instead
+# + clientName - The name of the client, which is used as the `client_name` tag of the connection pool metrics, and
+#                should be unique among the clients. Defaults to `<host>:<port>/<database>`, followed by `#<n>` for
+#                the n-th client created for the same database
+# + queryMetrics - Records the time taken by each SQL template to acquire a connection, execute, return the first row,
+#                  and be consumed, with the number of rows, and logs the slow queries
 public type Options record {|
     SecureSocket ssl?;
     decimal connectTimeout = 0;
@@ -170,8 +259,111 @@ public type Options record {|
     decimal cancelSignalTimeout = 10;
     boolean keepAliveTcpProbe?;
     boolean binaryTransfer?;
+    QueryCacheConfiguration queryCache?;
+    ReadReplicaConfiguration readReplicas?;
+    WarmUpConfiguration warmUp?;
+    boolean offloadBlockingCalls = false;
+    RetryConfiguration retry?;
+    string clientName?;
+    QueryMetricsConfiguration queryMetrics?;
 |};
 
+# Provides a set of configurations for the client-side query result cache. Results are cached by the SQL query,
+# the parameter values and the return type, and are returned as immutable values without using a connection.
+# The cache is bypassed within transactions, and the entries of a table are dropped once the table is modified
+# through the same client, or once the transaction which modified it is committed. A procedure call drops all the
+# entries.
+#
+# + maxEntries - The maximum number of results to be cached
+# + maxSize - The maximum estimated size (in bytes) of the cached results
+# + ttl - Time (in seconds) a result is cached for
+# + queryTtls - Time (in seconds) the results of specific queries are cached for, keyed by the SQL query in which
+#               the parameters are replaced with `?` (e.g., `SELECT * FROM products WHERE id = ?`). A value of 0
+#               disables caching for the query
+# + invalidationChannel - A channel on which `NOTIFY` is sent with the name of a changed table as the payload to
+#                         drop the cached results of the table. An empty payload drops all the cached results
+public type QueryCacheConfiguration record {|
+    int maxEntries = 1000;
+    int maxSize = 16777216;
+    decimal ttl = 60;
+    map<decimal> queryTtls = {};
+    string invalidationChannel?;
+|};
+
+# Provides a set of configurations for the read replicas of the client. Each replica has its own connection pool and
+# is connected with the credentials, database, and options of the primary. The `query` and `queryRow` calls are
+# routed to the replicas, whereas the `execute`, `batchExecute`, and `call` calls and all the calls within a
+# transaction are sent to the primary.
+#
+# + replicas - The read replicas
+# + loadBalancing - The strategy used to select the replica for a query
+public type ReadReplicaConfiguration record {|
+    ReplicaConfiguration[] replicas;
+    LoadBalancing loadBalancing = ROUND_ROBIN;
+|};
+
+# Provides a set of configurations for a read replica.
+#
+# + host - Hostname of the replica
+# + port - Port number of the replica
+# + connectionPool - The `sql:ConnectionPool` of the replica. If not provided, the connection pool configurations
+#                    of the primary are used
+public type ReplicaConfiguration record {|
+    string host;
+    int port = 5432;
+    sql:ConnectionPool connectionPool?;
+|};
+
+# Provides a set of configurations to warm up the connection pool of the client and of its read replicas. The
+# client initialization returns only after the connections are opened and the statements are prepared.
+#
+# + connections - The number of connections to be opened. Defaults to the `minIdleConnections` of the connection
+#                 pool, limited by its `maxOpenConnections`
+# + statements - The SQL statements, in which the parameters are given as `?` (e.g.,
+#                `SELECT * FROM products WHERE id = ?`), to be prepared on the server for each connection. The
+#                statements are only parsed and described on the server, and are never executed, hence the warm-up
+#                has no side effects. No statement is prepared if the `preparedStatementThreshold` is 0
+# + timeout - Time (in seconds) to wait for the warm-up to complete
+public type WarmUpConfiguration record {|
+    int connections?;
+    string[] statements = [];
+    decimal timeout = 30;
+|};
+
+# Provides a set of configurations to retry the calls which fail due to a serialization failure or a deadlock. Each
+# retry waits for a random interval of up to `initialInterval * backOffFactor^(retry - 1)`, limited by
+# `maxInterval`, so that the conflicting calls do not collide again at once.
+#
+# + maxRetries - The maximum number of retries of a call
+# + initialInterval - The upper bound of the time (in seconds) to wait before the first retry
+# + backOffFactor - The multiplier of the upper bound of the wait time on each retry
+# + maxInterval - The maximum time (in seconds) to wait before a retry
+public type RetryConfiguration record {|
+    int maxRetries = 3;
+    decimal initialInterval = 0.05;
+    decimal backOffFactor = 2;
+    decimal maxInterval = 1;
+|};
+
+# Provides a set of configurations to record the latency of the calls per SQL template. The `queryRow` and `execute`
+# calls outside a transaction are executed by the module to time their phases, whereas only the total time is
+# recorded for the other calls executed by the `sql` module. The times of a `query` include consuming the stream.
+#
+# + slowQueryThreshold - Time (in seconds) after which a call is logged as a slow query with its SQL template,
+#                        duration, and row count. A value of 0 disables the slow query log
+# + publishMetrics - Publishes the times and the row counts as metrics tagged with the client name, the operation,
+#                    and the SQL template, if metrics are enabled
+public type QueryMetricsConfiguration record {|
+    decimal slowQueryThreshold = 1;
+    boolean publishMetrics = true;
+|};
+
+# Possible strategies to select the read replica for a query.
+public enum LoadBalancing {
+    ROUND_ROBIN,
+    LEAST_OUTSTANDING
+}
+
 # Possible values for the SSL mode.
 public enum SSLMode {
     PREFER,
@@ -206,6 +398,91 @@ public type CertKey record {|
     string keyPassword?;
 |};
 
+# Holds the connection pool of a read replica of a `postgresql:Client`.
+isolated class ReplicaPool {
+}
+
+isolated class MaterializedResultIterator {
+    private final readonly & record {}[] rows;
+    private final sql:Error? err;
+    private int index = 0;
+
+    isolated function init(readonly & record {}[] rows, sql:Error? err) {
+        self.rows = rows;
+        self.err = err;
+    }
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        lock {
+            if self.err is sql:Error {
+                return self.err;
+            }
+            if self.index >= self.rows.length() {
+                return;
+            }
+            readonly & record {} row = self.rows[self.index];
+            self.index += 1;
+            return {value: row};
+        }
+    }
+
+    public isolated function close() returns sql:Error? {
+        lock {
+            self.index = self.rows.length();
+        }
+    }
+}
+
+isolated class CursorResultIterator {
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        record {}|sql:Error? row = nextCursorResult(self);
+        if row is record {} {
+            return {value: row};
+        }
+        return row;
+    }
+
+    public isolated function close() returns sql:Error? {
+        return closeCursorResult(self);
+    }
+}
+
+class InstrumentedResultIterator {
+    private final stream<record {}, sql:Error?> rows;
+
+    isolated function init(stream<record {}, sql:Error?> rows) {
+        self.rows = rows;
+    }
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        record {|record {} value;|}|sql:Error? row = self.rows.next();
+        recordInstrumentedRow(self, row is record {|record {} value;|});
+        return row;
+    }
+
+    public isolated function close() returns sql:Error? {
+        finishInstrumentedResult(self);
+        return self.rows.close();
+    }
+}
+
+isolated function nextCursorResult(CursorResultIterator iterator) returns record {}|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.utils.RecordIteratorUtils"
+} external;
+
+isolated function closeCursorResult(CursorResultIterator iterator) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.utils.RecordIteratorUtils"
+} external;
+
+isolated function recordInstrumentedRow(InstrumentedResultIterator iterator, boolean hasRow) = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.utils.RecordIteratorUtils"
+} external;
+
+isolated function finishInstrumentedResult(InstrumentedResultIterator iterator) = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.utils.RecordIteratorUtils"
+} external;
+
 isolated function createClient(Client postgresqlClient, ClientConfiguration clientConf, 
     sql:ConnectionPool globalConnPool) returns sql:Error? = @java:Method {
     'class: "io.ballerina.stdlib.postgresql.nativeimpl.ClientProcessorUtils"
@@ -216,6 +493,11 @@ returns sql:ExecutionResult|sql:Error = @java:Method {
     'class: "io.ballerina.stdlib.postgresql.nativeimpl.ExecuteProcessorUtils"
 } external;
 
+isolated function nativePipeline(Client sqlClient, BoundQuery pipelineQuery, sql:ParameterizedQuery[] sqlQueries,
+        PipelineResult[] results, typedesc<record {}> rowType) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.QueryProcessorUtils"
+} external;
+
 isolated function nativeBatchExecute(Client sqlClient, sql:ParameterizedQuery[] sqlQueries) 
 returns sql:ExecutionResult[]|sql:Error = @java:Method {
     'class: "io.ballerina.stdlib.postgresql.nativeimpl.ExecuteProcessorUtils"
@@ -226,6 +508,27 @@ returns sql:ProcedureCallResult|sql:Error = @java:Method {
     'class: "io.ballerina.stdlib.postgresql.nativeimpl.CallProcessorUtils"
 } external;
 
+# Drops the cached results of the tables modified within a transaction once the transaction is committed, as the
+# change is not visible to the other strands, which may cache the results of the tables, until then.
+#
+# + invalidation - The action which drops the cached results, or `()` if the client has no query result cache
+transactional isolated function invalidateCachedResultsOnCommit(handle? invalidation) {
+    if invalidation is handle {
+        transactions:onCommit(isolated function(transactions:Info info) {
+            invalidateCachedResults(invalidation);
+        });
+    }
+}
+
+isolated function getCacheInvalidation(Client sqlClient, sql:ParameterizedQuery? sqlQuery) returns handle? =
+@java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ExecuteProcessorUtils"
+} external;
+
+isolated function invalidateCachedResults(handle invalidation) = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ExecuteProcessorUtils"
+} external;
+
 isolated function close(Client postgresqlClient) returns sql:Error? = @java:Method {
     'class: "io.ballerina.stdlib.postgresql.nativeimpl.ClientProcessorUtils"
 } external;
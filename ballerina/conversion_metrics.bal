@@ -0,0 +1,52 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Returns the statistics of the conversions of the PostgreSQL specific types, which are counted only if the
+# `conversionMetrics` configurable is set. Both the parameters and the results are counted per PostgreSQL type name
+# (e.g., `tstzrange` for a `TsTzRangeValue`), with `[]` appended for arrays.
+#
+# + reset - Whether to reset the statistics, so that the next call returns only the conversions done in between
+# + return - The statistics per type and direction, ordered by the total time spent, the largest first
+public isolated function getConversionStatistics(boolean reset = false) returns ConversionStatistics[] =
+@java:Method {
+    'class: "io.ballerina.stdlib.postgresql.observability.ConversionMetrics",
+    name: "getStatistics"
+} external;
+
+# Represents the statistics of the conversions of a PostgreSQL specific type in a direction.
+#
+# + typeName - The PostgreSQL type name, with `[]` appended for arrays
+# + direction - Whether the values are encoded as parameters or decoded from results
+# + count - The number of values, or arrays, converted
+# + elements - The total number of elements of the arrays converted
+# + totalTime - The total time (in seconds) spent converting the values
+# + maxTime - The longest time (in seconds) spent converting a value
+public type ConversionStatistics record {|
+    string typeName;
+    ConversionDirection direction;
+    int count;
+    int elements;
+    decimal totalTime;
+    decimal maxTime;
+|};
+
+# The directions of the conversions of the PostgreSQL specific types.
+public enum ConversionDirection {
+    ENCODE,
+    DECODE
+}
@@ -16,10 +16,35 @@
 
 import ballerina/jballerina.java;
 
+# The names of the text columns whose values are decoded with a per-column dictionary, so that the rows sharing a
+# value also share a single string. Meant for low-cardinality columns such as status or country codes. The values
+# of enum columns are always decoded this way.
+configurable string[] internedTextColumns = [];
+
+# The maximum number of distinct values kept in the dictionary of a column. Once exceeded, the new values of the
+# column are decoded without being interned. A value of 0 disables interning.
+configurable int maxInternedValues = 1024;
+
+# Whether to count and time the conversions of the PostgreSQL specific types, which are returned by
+# `postgresql:getConversionStatistics` and published as metrics if metrics are enabled.
+configurable boolean conversionMetrics = false;
+
 isolated function init() {
     setModule();
+    configureInternedValues(internedTextColumns, maxInternedValues);
+    configureConversionMetrics(conversionMetrics);
 }
 
 isolated function setModule() = @java:Method {
     'class: "io.ballerina.stdlib.postgresql.utils.ModuleUtils"
 } external;
+
+isolated function configureInternedValues(string[] textColumns, int maxValues) = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.utils.InternedValues",
+    name: "configure"
+} external;
+
+isolated function configureConversionMetrics(boolean enabled) = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.observability.ConversionMetrics",
+    name: "configure"
+} external;
@@ -0,0 +1,152 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+# Represents a PostgreSQL `LISTEN`/`NOTIFY` listener. A single dedicated connection is held for all the attached
+# services, and the notifications received on the channels are dispatched to the `onNotification` remote method of
+# the service attached to the channel.
+public isolated class Listener {
+
+    # Initializes the PostgreSQL listener. The connection is opened only when the listener is started.
+    #
+    # + config - The configurations of the listener
+    # + return - An `sql:Error` if the listener configuration is invalid
+    public isolated function init(*ListenerConfiguration config) returns sql:Error? {
+        if config.batchSize < 1 {
+            return error sql:ApplicationError("Listener 'batchSize' should be greater than zero");
+        }
+        return initListener(self, config);
+    }
+
+    # Attaches a notification service to the listener. The service receives the notifications sent to the channels
+    # given as the attach point (e.g., `service "orders" on pgListener { ... }`).
+    #
+    # + s - The `postgresql:NotificationService` to be attached
+    # + name - The channel name or the list of channel names to `LISTEN` on
+    # + return - An `sql:Error` if the service cannot be attached
+    public isolated function attach(NotificationService s, string[]|string? name = ()) returns sql:Error? {
+        string[] channels = name is string ? [name] : name ?: [];
+        if channels.length() == 0 {
+            return error sql:ApplicationError("At least one notification channel should be given as the attach point");
+        }
+        return attach(self, s, channels);
+    }
+
+    # Detaches a notification service from the listener and stops listening on its channels.
+    #
+    # + s - The `postgresql:NotificationService` to be detached
+    # + return - An `sql:Error` if the service cannot be detached
+    public isolated function detach(NotificationService s) returns sql:Error? {
+        return detach(self, s);
+    }
+
+    # Opens the dedicated connection, issues the `LISTEN` commands, and starts dispatching notifications.
+    #
+    # + return - An `sql:Error` if the listener cannot be started
+    public isolated function 'start() returns sql:Error? {
+        return 'start(self);
+    }
+
+    # Stops the listener after the notifications that are being dispatched are processed.
+    #
+    # + return - An `sql:Error` if the listener cannot be stopped
+    public isolated function gracefulStop() returns sql:Error? {
+        return gracefulStop(self);
+    }
+
+    # Stops the listener immediately and closes the dedicated connection.
+    #
+    # + return - An `sql:Error` if the listener cannot be stopped
+    public isolated function immediateStop() returns sql:Error? {
+        return immediateStop(self);
+    }
+}
+
+# Provides a set of configurations for the PostgreSQL listener.
+#
+# + host - Hostname of the PostgreSQL server
+# + port - Port number of the PostgreSQL server
+# + username - If the PostgreSQL server is secured, the username
+# + password - The password of the PostgreSQL server for the provided username
+# + database - The name of the database. The default is to connect to a database with the
+#              same name as the username
+# + options - The database specific PostgreSQL connection properties
+# + pollTimeout - Time (in seconds) the dedicated connection blocks waiting for a notification before
+#                 checking whether the listener is stopped
+# + batchSize - The maximum number of notifications delivered to the service in a single `onNotification` call
+# + batchWindow - Time (in seconds) to wait for more notifications of a burst before dispatching a batch
+#                 which is smaller than the `batchSize`. A value of 0 dispatches whatever is already received
+# + reconnectInterval - Initial time (in seconds) to wait before reconnecting when the connection is lost. The
+#                       interval is doubled on each failed attempt up to `maxReconnectInterval`
+# + maxReconnectInterval - Maximum time (in seconds) to wait between reconnection attempts
+public type ListenerConfiguration record {|
+    string host = "localhost";
+    int port = 5432;
+    string? username = "postgres";
+    string? password = ();
+    string? database = ();
+    Options? options = ();
+    decimal pollTimeout = 1;
+    int batchSize = 100;
+    decimal batchWindow = 0;
+    decimal reconnectInterval = 1;
+    decimal maxReconnectInterval = 30;
+|};
+
+# Represents a service that receives PostgreSQL notifications. The service should implement the
+# `remote function onNotification(postgresql:Notification[] notifications) returns error?` method and may
+# implement `remote function onError(sql:Error err)` to get notified of connection failures.
+public type NotificationService distinct isolated service object {};
+
+# Represents a notification received from a PostgreSQL channel.
+#
+# + channel - The name of the channel the notification was sent to
+# + payload - The payload of the notification. An empty string if no payload was given
+# + processId - The process ID of the backend that sent the notification
+public type Notification record {|
+    string channel;
+    string payload;
+    int processId;
+|};
+
+isolated function initListener(Listener pgListener, ListenerConfiguration config) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ListenerProcessorUtils",
+    name: "init"
+} external;
+
+isolated function attach(Listener pgListener, NotificationService s, string[] channels)
+returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ListenerProcessorUtils"
+} external;
+
+isolated function detach(Listener pgListener, NotificationService s) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ListenerProcessorUtils"
+} external;
+
+isolated function 'start(Listener pgListener) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ListenerProcessorUtils",
+    name: "start"
+} external;
+
+isolated function gracefulStop(Listener pgListener) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ListenerProcessorUtils"
+} external;
+
+isolated function immediateStop(Listener pgListener) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ListenerProcessorUtils"
+} external;
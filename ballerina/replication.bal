@@ -0,0 +1,165 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+# Represents a PostgreSQL logical replication client. The row changes of a set of publications are decoded from the
+# `pgoutput` plugin and streamed as `postgresql:ChangeEvent` records. The server requires `wal_level = logical`.
+public isolated class ReplicationClient {
+
+    # Initializes the replication client. The replication connection is opened only when `receive` is called.
+    #
+    # + config - The configurations of the replication client
+    # + return - An `sql:Error` if the configuration is invalid
+    public isolated function init(*ReplicationConfiguration config) returns sql:Error? {
+        if config.publications.length() == 0 {
+            return error sql:ApplicationError("At least one publication should be given for the logical replication");
+        }
+        return initReplicationClient(self, config);
+    }
+
+    # Starts streaming the changes of the replication slot. Changes are read from the server only as the stream is
+    # consumed. The slot position does not advance until the changes are acknowledged with `acknowledge`, hence
+    # unacknowledged changes are streamed again after a restart.
+    #
+    # + return - A stream of `postgresql:ChangeEvent` records or an `sql:Error`
+    public isolated function receive() returns stream<ChangeEvent, sql:Error?>|sql:Error {
+        check startReplication(self);
+        ChangeEventIterator iterator = new (self);
+        return new stream<ChangeEvent, sql:Error?>(iterator);
+    }
+
+    # Acknowledges that the changes up to (and including) the given position are processed, which lets the server
+    # recycle the WAL retained for the slot.
+    #
+    # + lsn - The `lsn` of the last processed `postgresql:ChangeEvent`
+    # + return - An `sql:Error` if the acknowledgement fails
+    public isolated function acknowledge(PglsnValue lsn) returns sql:Error? {
+        string? value = lsn.value;
+        if value is () {
+            return error sql:ApplicationError("LSN to be acknowledged cannot be nil");
+        }
+        return acknowledge(self, value);
+    }
+
+    # Stops the streaming and closes the replication connection. The replication slot is retained unless it was
+    # created as a temporary slot.
+    #
+    # + return - `()` or an `sql:Error`
+    public isolated function close() returns sql:Error? {
+        return closeReplication(self);
+    }
+}
+
+isolated class ChangeEventIterator {
+    private final ReplicationClient replicationClient;
+
+    isolated function init(ReplicationClient replicationClient) {
+        self.replicationClient = replicationClient;
+    }
+
+    public isolated function next() returns record {|ChangeEvent value;|}|sql:Error? {
+        ChangeEvent|sql:Error? event = nextChangeEvent(self.replicationClient);
+        if event is ChangeEvent {
+            return {value: event};
+        }
+        return event;
+    }
+
+    public isolated function close() returns sql:Error? {
+        return closeReplication(self.replicationClient);
+    }
+}
+
+# Provides a set of configurations for the PostgreSQL logical replication client.
+#
+# + host - Hostname of the PostgreSQL server
+# + port - Port number of the PostgreSQL server
+# + username - The username of a role with the `REPLICATION` attribute
+# + password - The password of the PostgreSQL server for the provided username
+# + database - The name of the database of the publications
+# + options - The database specific PostgreSQL connection properties
+# + slotName - The name of the logical replication slot
+# + publications - The names of the publications (created with `CREATE PUBLICATION`) to stream the changes of
+# + createSlot - Creates the slot with the `pgoutput` plugin if it does not exist
+# + temporarySlot - Creates the slot as a temporary slot, which is dropped when the client is closed
+# + startLsn - The position to start streaming from. The confirmed position of the slot is used if not given
+# + statusInterval - Time (in seconds) between the status updates sent to the server
+public type ReplicationConfiguration record {|
+    string host = "localhost";
+    int port = 5432;
+    string? username = "postgres";
+    string? password = ();
+    string? database = ();
+    Options? options = ();
+    string slotName;
+    string[] publications;
+    boolean createSlot = true;
+    boolean temporarySlot = false;
+    string? startLsn = ();
+    decimal statusInterval = 10;
+|};
+
+# Represents a row change decoded from the logical replication stream.
+#
+# + operation - The kind of the change
+# + lsn - The WAL position of the change. Pass it to `ReplicationClient.acknowledge` once the change is processed
+# + transactionId - The ID of the transaction the change belongs to
+# + schema - The schema of the changed table
+# + 'table - The name of the changed table
+# + before - The old key (or the old row, based on the replica identity of the table) of an update or a delete
+# + after - The new row of an insert or an update. Unchanged TOASTed columns are not included
+public type ChangeEvent record {|
+    ChangeOperation operation;
+    string lsn;
+    int transactionId;
+    string schema;
+    string 'table;
+    map<anydata> before?;
+    map<anydata> after?;
+|};
+
+# The kinds of row changes streamed by the logical replication.
+public enum ChangeOperation {
+    INSERT,
+    UPDATE,
+    DELETE,
+    TRUNCATE
+}
+
+isolated function initReplicationClient(ReplicationClient replicationClient, ReplicationConfiguration config)
+returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ReplicationProcessorUtils",
+    name: "init"
+} external;
+
+isolated function startReplication(ReplicationClient replicationClient) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ReplicationProcessorUtils"
+} external;
+
+isolated function nextChangeEvent(ReplicationClient replicationClient) returns ChangeEvent|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ReplicationProcessorUtils"
+} external;
+
+isolated function acknowledge(ReplicationClient replicationClient, string lsn) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ReplicationProcessorUtils"
+} external;
+
+isolated function closeReplication(ReplicationClient replicationClient) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.ReplicationProcessorUtils",
+    name: "close"
+} external;
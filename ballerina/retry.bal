@@ -0,0 +1,76 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/lang.runtime;
+
+# Retries a transaction which fails due to a serialization failure (SQLSTATE `40001`) or a deadlock (SQLSTATE
+# `40P01`), e.g., `retry<postgresql:TransactionRetryManager>({maxRetries: 5}, dbClient) transaction { ... }`. The
+# retries wait for a jittered exponential back-off interval as configured by the `postgresql:RetryConfiguration`.
+public isolated class TransactionRetryManager {
+    private final RetryConfiguration & readonly config;
+    private final Client? dbClient;
+    private int retries = 0;
+
+    # Initializes the retry manager of a transaction.
+    #
+    # + config - The configurations of the retries
+    # + dbClient - The client whose retry count is incremented on each retry
+    public isolated function init(RetryConfiguration config = {}, Client? dbClient = ()) {
+        self.config = config.cloneReadOnly();
+        self.dbClient = dbClient;
+    }
+
+    # Decides whether the transaction is retried, and waits for the back-off interval if it is.
+    #
+    # + e - The error returned by the transaction
+    # + return - `true` if the transaction should be retried
+    public isolated function shouldRetry(error e) returns boolean {
+        if !isRetryableError(e) {
+            return false;
+        }
+        int retry;
+        lock {
+            if self.retries >= self.config.maxRetries {
+                return false;
+            }
+            self.retries += 1;
+            retry = self.retries;
+        }
+        runtime:sleep(getRetryInterval(self.config, retry));
+        Client? dbClient = self.dbClient;
+        if dbClient is Client {
+            recordRetry(dbClient);
+        }
+        return true;
+    }
+}
+
+isolated function isRetryableError(error e) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.RetryProcessorUtils"
+} external;
+
+isolated function getRetryInterval(RetryConfiguration config, int retry) returns decimal = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.RetryProcessorUtils"
+} external;
+
+isolated function getRetryCount(Client dbClient) returns int = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.RetryProcessorUtils"
+} external;
+
+isolated function recordRetry(Client dbClient) = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.RetryProcessorUtils"
+} external;
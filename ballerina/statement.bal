@@ -0,0 +1,115 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+# Represents an SQL template prepared with `postgresql:Client->prepare`. The SQL query and the binding of the
+# parameters are computed once, and each execution only binds the given values. The statement is executed on any
+# connection of the pool, on which it is prepared again if it is not already cached by the connection.
+public isolated client class PreparedStatement {
+
+    # Executes the prepared query, which may return multiple results. The rows are read before the stream is
+    # returned, hence this is meant for queries with bounded results.
+    #
+    # + values - The values of the parameters, in the order of the insertions of the prepared template
+    # + rowType - The `typedesc` of the record to which the result needs to be returned
+    # + return - Stream of records in the `rowType` type
+    remote isolated function query(sql:Value[] values = [], typedesc<record {}> rowType = <>)
+    returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.postgresql.nativeimpl.PreparedStatementProcessorUtils",
+        name: "nativeQuery"
+    } external;
+
+    # Executes the prepared query, which is expected to return at most one row of the result.
+    # If the query does not return any results, an `sql:NoRowsError` is returned.
+    #
+    # + values - The values of the parameters, in the order of the insertions of the prepared template
+    # + returnType - The `typedesc` of the record to which the result needs to be returned.
+    #                It can be a basic type if the query result contains only one column
+    # + return - Result in the `returnType` type or an `sql:Error`
+    remote isolated function queryRow(sql:Value[] values = [], typedesc<anydata> returnType = <>)
+    returns returnType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.postgresql.nativeimpl.PreparedStatementProcessorUtils",
+        name: "nativeQueryRow"
+    } external;
+
+    # Executes the prepared statement. Only the metadata of the execution is returned (not the results from the query).
+    #
+    # + values - The values of the parameters, in the order of the insertions of the prepared template
+    # + return - Metadata of the query execution as an `sql:ExecutionResult` or an `sql:Error`
+    remote isolated function execute(sql:Value[] values = []) returns sql:ExecutionResult|sql:Error {
+        sql:ExecutionResult|sql:Error result = nativePreparedExecute(self, values);
+        if transactional {
+            invalidateCachedResultsOnCommit(getPreparedCacheInvalidation(self));
+        }
+        return result;
+    }
+}
+
+# Represents an SQL template built by the module, e.g., a prepared template bound to the values of an execution.
+class BoundQuery {
+    public final readonly & string[] strings;
+    public final sql:Value[] insertions;
+
+    isolated function init(readonly & string[] strings, sql:Value[] insertions) {
+        self.strings = strings;
+        self.insertions = insertions;
+    }
+}
+
+# Represents an SQL template executed with a timeout
+# (e.g., `dbClient->query(new postgresql:TimedQuery(`SELECT ...`, 2))`). When the timeout elapses, the server is
+# requested to cancel the statement and a `postgresql:QueryTimeoutError` is returned, while the connection remains
+# usable. The rows of a timed `query` are read before the stream is returned, and a `batchExecute` is given the longest
+# timeout of its queries. Within a transaction, the timeout is not applied. As `call` cannot apply the timeout, it
+# returns an `sql:ApplicationError` for a timed query.
+public class TimedQuery {
+    *sql:ParameterizedQuery;
+    # The time (in seconds) the statement is allowed to run. A value of 0 disables the timeout
+    public final decimal timeout;
+
+    # Wraps an SQL template with a timeout.
+    #
+    # + sqlQuery - The SQL template
+    # + timeout - The time (in seconds) the statement is allowed to run
+    public isolated function init(sql:ParameterizedQuery sqlQuery, decimal timeout) {
+        self.strings = sqlQuery.strings;
+        self.insertions = sqlQuery.insertions;
+        self.timeout = timeout;
+    }
+}
+
+# Represents an error returned when a `postgresql:TimedQuery` is cancelled as its timeout elapsed. A statement cancelled
+# otherwise, e.g. by the `statement_timeout` of the server, returns an `sql:DatabaseError`.
+public type QueryTimeoutError distinct sql:DatabaseError;
+
+isolated function prepareStatement(PreparedStatement statement, Client dbClient, sql:ParameterizedQuery sqlQuery)
+returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.PreparedStatementProcessorUtils",
+    name: "prepare"
+} external;
+
+isolated function nativePreparedExecute(PreparedStatement statement, sql:Value[] values)
+returns sql:ExecutionResult|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.PreparedStatementProcessorUtils",
+    name: "nativeExecute"
+} external;
+
+isolated function getPreparedCacheInvalidation(PreparedStatement statement) returns handle? = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.nativeimpl.PreparedStatementProcessorUtils",
+    name: "getCacheInvalidation"
+} external;
@@ -361,6 +361,18 @@ function testStopClientUsingGlobalPool() returns error? {
     validateApplicationError(retVal2);
 }
 
+@test:Config {
+    groups: ["pool"]
+}
+function testNamedClientPool() returns error? {
+    // The name is the tag of the pool metrics, which are published only if metrics are enabled.
+    Client dbClient = check new (host, user, password, poolDB_1, connectionPoolPort, {clientName: "orders"},
+        {maxOpenConnections: 2});
+    stream<Result, error?> result = dbClient->query(`select count(*) as val from Customers where registrationID = 1`);
+    test:assertEquals(getReturnValue(result), 1);
+    check dbClient.close();
+}
+
 @test:Config {
     groups: ["pool"]
 }
@@ -0,0 +1,98 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+string conversionMetricsDB = "postgres";
+
+type ConversionRow record {|
+    int id;
+    Point location;
+    Point[] route;
+|};
+
+@test:BeforeGroups {
+    value: ["conversion-metrics"]
+}
+function initConversionMetricsTable() returns error? {
+    Client dbClient = check new (host, user, password, conversionMetricsDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS ConversionMetrics`);
+    _ = check dbClient->execute(`CREATE TABLE ConversionMetrics(id INTEGER PRIMARY KEY, location POINT,
+        route POINT[])`);
+    check dbClient.close();
+    // The conversions are counted only by the tests of this group, as timing each value is not free.
+    enableConversionMetrics(true);
+}
+
+@test:AfterGroups {
+    value: ["conversion-metrics"]
+}
+function disableConversionMetrics() {
+    enableConversionMetrics(false);
+}
+
+@test:Config {
+    groups: ["conversion-metrics"]
+}
+function testConversionStatistics() returns error? {
+    Client dbClient = check new (host, user, password, conversionMetricsDB, port);
+    _ = getConversionStatistics(true);
+    foreach int i in 1 ... 3 {
+        PointValue location = new ({x: i, y: i});
+        PointArrayValue route = new ([{x: 0, y: 0}, {x: i, y: i}]);
+        _ = check dbClient->execute(`INSERT INTO ConversionMetrics VALUES (${i}, ${location}, ${route})`);
+    }
+    ConversionRow[] rows = check from ConversionRow row
+        in dbClient->query(`SELECT * FROM ConversionMetrics ORDER BY id`) select row;
+    test:assertEquals(rows.length(), 3);
+    test:assertEquals(rows[2].route.length(), 2);
+
+    ConversionStatistics[] statistics = getConversionStatistics(true);
+    ConversionStatistics? encodedPoints = findStatistics(statistics, ENCODE, "point");
+    test:assertTrue(encodedPoints is ConversionStatistics);
+    test:assertEquals((<ConversionStatistics>encodedPoints).count, 3);
+    ConversionStatistics? encodedRoutes = findStatistics(statistics, ENCODE, "point[]");
+    test:assertTrue(encodedRoutes is ConversionStatistics);
+    test:assertEquals((<ConversionStatistics>encodedRoutes).elements, 6);
+    ConversionStatistics? decodedPoints = findStatistics(statistics, DECODE, "point");
+    test:assertTrue(decodedPoints is ConversionStatistics);
+    test:assertEquals((<ConversionStatistics>decodedPoints).count, 3);
+    ConversionStatistics? decodedRoutes = findStatistics(statistics, DECODE, "point[]");
+    test:assertTrue(decodedRoutes is ConversionStatistics);
+    test:assertEquals((<ConversionStatistics>decodedRoutes).count, 3);
+    test:assertEquals((<ConversionStatistics>decodedRoutes).elements, 6);
+    test:assertTrue((<ConversionStatistics>decodedRoutes).totalTime >= (<ConversionStatistics>decodedRoutes).maxTime);
+
+    test:assertEquals(getConversionStatistics(), []);
+    check dbClient.close();
+}
+
+isolated function findStatistics(ConversionStatistics[] statistics, ConversionDirection direction, string typeName)
+returns ConversionStatistics? {
+    foreach ConversionStatistics typeStatistics in statistics {
+        if typeStatistics.direction == direction && typeStatistics.typeName == typeName {
+            return typeStatistics;
+        }
+    }
+    return ();
+}
+
+isolated function enableConversionMetrics(boolean enabled) = @java:Method {
+    'class: "io.ballerina.stdlib.postgresql.observability.ConversionMetrics",
+    name: "configure"
+} external;
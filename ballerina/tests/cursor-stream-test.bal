@@ -0,0 +1,79 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string cursorStreamDB = "postgres";
+
+@test:BeforeGroups {
+    value: ["cursor-stream"]
+}
+function initCursorStreamTable() returns error? {
+    Client dbClient = check new (host, user, password, cursorStreamDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS CursorItems`);
+    _ = check dbClient->execute(`CREATE TABLE CursorItems(id INTEGER PRIMARY KEY, name VARCHAR(50))`);
+    _ = check dbClient->execute(`INSERT INTO CursorItems SELECT i, 'item-' || i FROM generate_series(1, 25) AS i`);
+    check dbClient.close();
+}
+
+type CursorItem record {|
+    int id;
+    string name;
+|};
+
+@test:Config {
+    groups: ["cursor-stream"]
+}
+function testCursorStreamFullRead() returns error? {
+    Client dbClient = check new (host, user, password, cursorStreamDB, port, {rowFetchSize: 10});
+    CursorItem[] items = check from CursorItem item in dbClient->query(`SELECT * FROM CursorItems ORDER BY id`)
+        select item;
+    test:assertEquals(items.length(), 25);
+    test:assertEquals(items[24], {id: 25, name: "item-25"});
+
+    // The changes of a data-modifying query are committed once its stream is closed.
+    stream<CursorItem, sql:Error?> inserted = dbClient->query(
+        `INSERT INTO CursorItems VALUES (26, 'item-26') RETURNING id, name`);
+    check inserted.close();
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM CursorItems`);
+    test:assertEquals(count, 26);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["cursor-stream"]
+}
+function testCursorStreamEarlyClose() returns error? {
+    Client dbClient = check new (host, user, password, cursorStreamDB, port, {rowFetchSize: 10},
+        {maxOpenConnections: 1});
+    stream<record {|int n;|}, sql:Error?> numbers = dbClient->query(
+        `SELECT n FROM generate_series(1, 100000000) AS n`);
+    int sum = 0;
+    foreach int i in 0 ..< 10 {
+        record {|record {|int n;|} value;|}? next = check numbers.next();
+        sum += next is () ? 0 : next.value.n;
+    }
+    test:assertEquals(sum, 55);
+    check numbers.close();
+
+    // The only connection of the pool is released once the stream is closed.
+    int active = check dbClient->queryRow(`SELECT COUNT(*) FROM pg_stat_activity
+        WHERE query LIKE 'SELECT n FROM generate_series%' AND state = 'active'`);
+    test:assertEquals(active, 0);
+    check dbClient.close();
+}
@@ -0,0 +1,77 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/test;
+
+string internedValuesDB = "postgres";
+
+type InternedEnumRow record {|
+    int row_id;
+    string value_type;
+|};
+
+type InternedTextRow record {|
+    int id;
+    string interned_status;
+|};
+
+@test:BeforeGroups {
+    value: ["interned-values"]
+}
+function initInternedValuesTables() returns error? {
+    Client dbClient = check new (host, user, password, internedValuesDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS InternedEnums`);
+    _ = check dbClient->execute(`CREATE TABLE InternedEnums(row_id INTEGER PRIMARY KEY, value_type value)`);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS InternedTexts`);
+    _ = check dbClient->execute(`CREATE TABLE InternedTexts(id INTEGER PRIMARY KEY, interned_status TEXT)`);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["interned-values"]
+}
+function testInternedEnumParametersAndColumns() returns error? {
+    Client dbClient = check new (host, user, password, internedValuesDB, port);
+    foreach int i in 1 ... 6 {
+        EnumValue enumValue = new (sqlTypeName = "value", value = {value: i % 2 == 0 ? "value2" : "value3"});
+        _ = check dbClient->execute(`INSERT INTO InternedEnums VALUES (${i}, ${enumValue})`);
+    }
+    InternedEnumRow[] rows = check from InternedEnumRow row
+        in dbClient->query(`SELECT * FROM InternedEnums ORDER BY row_id`) select row;
+    test:assertEquals(rows.length(), 6);
+    foreach InternedEnumRow row in rows {
+        test:assertEquals(row.value_type, row.row_id % 2 == 0 ? "value2" : "value3");
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["interned-values"]
+}
+function testInternedTextColumns() returns error? {
+    Client dbClient = check new (host, user, password, internedValuesDB, port);
+    _ = check dbClient->execute(`INSERT INTO InternedTexts SELECT i, CASE WHEN i % 3 = 0 THEN 'closed'
+        WHEN i % 3 = 1 THEN 'open' ELSE NULL END FROM generate_series(1, 30) AS i`);
+    record {int id; string? interned_status;}[] rows = check from record {int id; string? interned_status;} row
+        in dbClient->query(`SELECT * FROM InternedTexts ORDER BY id`) select row;
+    test:assertEquals(rows.length(), 30);
+    test:assertEquals(rows[0].interned_status, "open");
+    test:assertEquals(rows[1].interned_status, ());
+    test:assertEquals(rows[2].interned_status, "closed");
+    InternedTextRow openRow = check dbClient->queryRow(`SELECT * FROM InternedTexts WHERE id = 4`);
+    test:assertEquals(openRow.interned_status, "open");
+    check dbClient.close();
+}
@@ -0,0 +1,82 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime as runtime;
+import ballerina/sql;
+import ballerina/test;
+
+string listenerDB = "postgres";
+
+isolated Notification[] receivedNotifications = [];
+
+isolated service class NotificationCollector {
+    *NotificationService;
+
+    isolated remote function onNotification(Notification[] notifications) {
+        lock {
+            receivedNotifications.push(...notifications.clone());
+        }
+    }
+}
+
+@test:Config {
+    groups: ["listener"]
+}
+function testListenerReceivesNotifications() returns error? {
+    Listener pgListener = check new (host = host, username = user, password = password, database = listenerDB,
+        port = port, batchWindow = 0.1);
+    check pgListener.attach(new NotificationCollector(), ["orders_channel", "customers_channel"]);
+    check pgListener.'start();
+
+    Client dbClient = check new (host, user, password, listenerDB, port);
+    _ = check dbClient->execute(`NOTIFY orders_channel, 'order-1'`);
+    _ = check dbClient->execute(`NOTIFY customers_channel, 'customer-1'`);
+    _ = check dbClient->execute(`NOTIFY unrelated_channel, 'ignored'`);
+    check dbClient.close();
+
+    runtime:sleep(2);
+    check pgListener.gracefulStop();
+
+    Notification[] notifications;
+    lock {
+        notifications = receivedNotifications.clone();
+    }
+    test:assertEquals(notifications.length(), 2);
+    test:assertEquals(notifications[0].channel, "orders_channel");
+    test:assertEquals(notifications[0].payload, "order-1");
+    test:assertEquals(notifications[1].channel, "customers_channel");
+    test:assertEquals(notifications[1].payload, "customer-1");
+}
+
+@test:Config {
+    groups: ["listener"]
+}
+function testListenerWithoutChannel() returns error? {
+    Listener pgListener = check new (host = host, username = user, password = password, database = listenerDB,
+        port = port);
+    sql:Error? result = pgListener.attach(new NotificationCollector());
+    test:assertTrue(result is sql:ApplicationError);
+    test:assertEquals((<sql:Error>result).message(),
+        "At least one notification channel should be given as the attach point");
+}
+
+@test:Config {
+    groups: ["listener"]
+}
+function testListenerWithInvalidBatchSize() {
+    Listener|sql:Error pgListener = new (host = host, username = user, password = password, database = listenerDB,
+        port = port, batchSize = 0);
+    test:assertTrue(pgListener is sql:ApplicationError);
+}
@@ -0,0 +1,95 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string offloadDB = "postgres";
+
+@test:BeforeGroups {
+    value: ["offload"]
+}
+function initOffloadTable() returns error? {
+    Client dbClient = check new (host, user, password, offloadDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS OffloadItems`);
+    _ = check dbClient->execute(`CREATE TABLE OffloadItems(id INTEGER PRIMARY KEY, name VARCHAR(50))`);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["offload"]
+}
+function testOffloadedBlockingCalls() returns error? {
+    Client dbClient = check new (host, user, password, offloadDB, port, {offloadBlockingCalls: true});
+    sql:ExecutionResult result = check dbClient->execute(`INSERT INTO OffloadItems VALUES (1, 'first')`);
+    test:assertEquals(result.affectedRowCount, 1);
+
+    future<string|sql:Error>[] lookups = [];
+    foreach int i in 0 ..< 20 {
+        future<string|sql:Error> lookup = start dbClient->queryRow(`SELECT name FROM OffloadItems WHERE id = 1`);
+        lookups.push(lookup);
+    }
+    foreach future<string|sql:Error> lookup in lookups {
+        test:assertEquals(check wait lookup, "first");
+    }
+
+    transaction {
+        _ = check dbClient->execute(`INSERT INTO OffloadItems VALUES (2, 'second')`);
+        int count = check dbClient->queryRow(`SELECT COUNT(*) FROM OffloadItems`);
+        test:assertEquals(count, 2);
+        check commit;
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["offload"],
+    dependsOn: [testOffloadedBlockingCalls]
+}
+function testOffloadedBatchExecuteAndStream() returns error? {
+    Client dbClient = check new (host, user, password, offloadDB, port,
+        {offloadBlockingCalls: true, rowFetchSize: 2});
+    sql:ParameterizedQuery[] inserts = from int id in 3 ... 7
+        select `INSERT INTO OffloadItems VALUES (${id}, ${"item" + id.toString()})`;
+    sql:ExecutionResult[] results = check dbClient->batchExecute(inserts);
+    test:assertEquals(results.length(), 5);
+    foreach sql:ExecutionResult result in results {
+        test:assertEquals(result.affectedRowCount, 1);
+    }
+
+    sql:ParameterizedQuery[] mixed = [`INSERT INTO OffloadItems VALUES (8, 'eight')`, `DELETE FROM OffloadItems`];
+    sql:ExecutionResult[]|sql:Error mixedResult = dbClient->batchExecute(mixed);
+    test:assertTrue(mixedResult is sql:ApplicationError);
+
+    stream<record {|int id; string name;|}, sql:Error?> items =
+        dbClient->query(`SELECT id, name FROM OffloadItems ORDER BY id`);
+    int[] ids = check from var item in items select item.id;
+    test:assertEquals(ids, [1, 2, 3, 4, 5, 6, 7]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["offload"]
+}
+function testOffloadedCallRejected() returns error? {
+    Client dbClient = check new (host, user, password, offloadDB, port, {offloadBlockingCalls: true});
+    sql:ProcedureCallResult|sql:Error result = dbClient->call(`CALL OffloadProcedure()`);
+    test:assertTrue(result is sql:ApplicationError);
+    if result is sql:ApplicationError {
+        test:assertTrue(result.message().includes("offloadBlockingCalls"));
+    }
+    check dbClient.close();
+}
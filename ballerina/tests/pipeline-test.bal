@@ -0,0 +1,104 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string pipelineDB = "postgres";
+
+@test:BeforeGroups {
+    value: ["pipeline"]
+}
+function initPipelineTable() returns error? {
+    Client dbClient = check new (host, user, password, pipelineDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS PipelineItems`);
+    _ = check dbClient->execute(`CREATE TABLE PipelineItems(id INTEGER PRIMARY KEY, name VARCHAR(50))`);
+    _ = check dbClient->execute(`INSERT INTO PipelineItems VALUES (1, 'first'), (2, 'second')`);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["pipeline"]
+}
+function testPipeline() returns error? {
+    Client dbClient = check new (host, user, password, pipelineDB, port);
+    int firstId = 1;
+    string name = "third";
+    PipelineResult[] results = check dbClient->pipeline([
+        `SELECT name FROM PipelineItems WHERE id = ${firstId}`,
+        `INSERT INTO PipelineItems VALUES (3, ${name})`,
+        `SELECT COUNT(*) AS total FROM PipelineItems`
+    ]);
+    test:assertEquals(results.length(), 3);
+    test:assertEquals(results[0], [{name: "first"}]);
+    PipelineResult insertResult = results[1];
+    if insertResult is sql:ExecutionResult {
+        test:assertEquals(insertResult.affectedRowCount, 1);
+    } else {
+        test:assertFail("Insert should return an execution result.");
+    }
+    test:assertEquals(results[2], [{total: 3}]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["pipeline"],
+    dependsOn: [testPipeline]
+}
+function testPipelineErrorIsolation() returns error? {
+    Client dbClient = check new (host, user, password, pipelineDB, port);
+    PipelineResult[] results = check dbClient->pipeline([
+        `INSERT INTO PipelineItems VALUES (4, 'fourth')`,
+        `SELECT * FROM NonExistentPipelineTable`,
+        `SELECT name FROM PipelineItems WHERE id = 4`
+    ]);
+    test:assertTrue(results[0] is sql:ExecutionResult);
+    test:assertTrue(results[1] is sql:DatabaseError);
+    test:assertEquals(results[2], [{name: "fourth"}]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["pipeline"],
+    dependsOn: [testPipelineErrorIsolation]
+}
+function testPipelineCancelledQuery() returns error? {
+    Client dbClient = check new (host, user, password, pipelineDB, port);
+    // The statement timeout is set within the implicit transaction of the pipeline, and is rolled back with it.
+    PipelineResult[] results = check dbClient->pipeline([
+        `INSERT INTO PipelineItems VALUES (5, 'fifth')`,
+        `SET statement_timeout = 100`,
+        `SELECT pg_sleep(2)::TEXT AS slept`
+    ]);
+    // A cancelled query is not executed again, nor are the other queries, which are rolled back with it.
+    test:assertEquals(results.length(), 3);
+    foreach PipelineResult result in results {
+        test:assertTrue(result is sql:DatabaseError, "Each query should return the error of the pipeline.");
+    }
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM PipelineItems WHERE id = 5`);
+    test:assertEquals(count, 0);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["pipeline"]
+}
+function testEmptyPipeline() returns error? {
+    Client dbClient = check new (host, user, password, pipelineDB, port);
+    PipelineResult[]|sql:Error results = dbClient->pipeline([]);
+    test:assertTrue(results is sql:ApplicationError);
+    check dbClient.close();
+}
@@ -0,0 +1,79 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string preparedStatementDB = "postgres";
+
+type PreparedItem record {|
+    int id;
+    string name;
+    decimal price;
+|};
+
+@test:BeforeGroups {
+    value: ["prepared-statement"]
+}
+function initPreparedStatementTable() returns error? {
+    Client dbClient = check new (host, user, password, preparedStatementDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS PreparedItems`);
+    _ = check dbClient->execute(`CREATE TABLE PreparedItems(id SERIAL PRIMARY KEY, name VARCHAR(50), price NUMERIC)`);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["prepared-statement"]
+}
+function testPreparedStatementExecutions() returns error? {
+    Client dbClient = check new (host, user, password, preparedStatementDB, port);
+    PreparedStatement insert = check dbClient->prepare(`INSERT INTO PreparedItems(name, price) VALUES (${""}, ${0d})`);
+    foreach int i in 1 ... 5 {
+        sql:ExecutionResult result = check insert->execute([string `item${i}`, <decimal>i * 1.5d]);
+        test:assertEquals(result.affectedRowCount, 1);
+        test:assertEquals(result.lastInsertId, i);
+    }
+
+    PreparedStatement select = check dbClient->prepare(`SELECT * FROM PreparedItems WHERE id = ${0}`);
+    PreparedItem item = check select->queryRow([3]);
+    test:assertEquals(item, {id: 3, name: "item3", price: 4.5d});
+    PreparedItem|sql:Error missing = select->queryRow([10]);
+    test:assertTrue(missing is sql:NoRowsError);
+
+    PreparedStatement range = check dbClient->prepare(`SELECT * FROM PreparedItems WHERE id > ${0} ORDER BY id`);
+    PreparedItem[] items = check from PreparedItem row in range->query([3]) select row;
+    test:assertEquals(items.length(), 2);
+    // A value which does not match the type of the prepared insertion is bound by the parameter processor.
+    sql:IntegerValue typedId = new (4);
+    items = check from PreparedItem row in range->query([typedId]) select row;
+    test:assertEquals(items.length(), 1);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["prepared-statement"]
+}
+function testPreparedStatementParameterCountMismatch() returns error? {
+    Client dbClient = check new (host, user, password, preparedStatementDB, port);
+    PreparedStatement select = check dbClient->prepare(`SELECT * FROM PreparedItems WHERE id = ${0}`);
+    PreparedItem|sql:Error item = select->queryRow([1, 2]);
+    if item is sql:Error {
+        test:assertEquals(item.message(), "Prepared statement expects 1 parameter(s) but 2 given.");
+    } else {
+        test:assertFail("Parameter count mismatch should return an error.");
+    }
+    check dbClient.close();
+}
@@ -0,0 +1,229 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime as runtime;
+import ballerina/sql;
+import ballerina/test;
+
+string queryCacheDB = "postgres";
+
+type CachedProduct record {|
+    int id;
+    string name;
+|};
+
+@test:BeforeGroups {
+    value: ["query-cache"]
+}
+function initQueryCacheTable() returns error? {
+    Client dbClient = check new (host, user, password, queryCacheDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS CachedProducts`);
+    _ = check dbClient->execute(`CREATE TABLE CachedProducts(id INTEGER PRIMARY KEY, name VARCHAR(50))`);
+    _ = check dbClient->execute(`INSERT INTO CachedProducts VALUES (1, 'apple'), (2, 'orange')`);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query-cache"]
+}
+function testQueryRowCacheHit() returns error? {
+    Client cachedClient = check new (host, user, password, queryCacheDB, port, {queryCache: {}});
+    Client dbClient = check new (host, user, password, queryCacheDB, port);
+    int id = 1;
+    CachedProduct product = check cachedClient->queryRow(`SELECT * FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(product.name, "apple");
+    test:assertTrue(product.isReadOnly(), "Cached results should be immutable.");
+
+    // A change made through another client is not visible until the entry expires or is invalidated.
+    _ = check dbClient->execute(`UPDATE CachedProducts SET name = 'green apple' WHERE id = 1`);
+    product = check cachedClient->queryRow(`SELECT * FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(product.name, "apple");
+
+    // A change made through the same client drops the cached results of the table.
+    _ = check cachedClient->execute(`UPDATE CachedProducts SET name = 'red apple' WHERE id = 1`);
+    product = check cachedClient->queryRow(`SELECT * FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(product.name, "red apple");
+
+    check dbClient.close();
+    check cachedClient.close();
+}
+
+@test:Config {
+    groups: ["query-cache"],
+    dependsOn: [testQueryRowCacheHit]
+}
+function testQueryCacheInvalidationChannel() returns error? {
+    Client cachedClient = check new (host, user, password, queryCacheDB, port,
+        {queryCache: {invalidationChannel: "cache_invalidation"}});
+    Client dbClient = check new (host, user, password, queryCacheDB, port);
+    CachedProduct[] products = check from CachedProduct product
+        in cachedClient->query(`SELECT * FROM CachedProducts ORDER BY id`) select product;
+    test:assertEquals(products.length(), 2);
+
+    _ = check dbClient->execute(`INSERT INTO CachedProducts VALUES (3, 'banana')`);
+    _ = check dbClient->execute(`NOTIFY cache_invalidation, 'cachedproducts'`);
+    runtime:sleep(2);
+
+    products = check from CachedProduct product
+        in cachedClient->query(`SELECT * FROM CachedProducts ORDER BY id`) select product;
+    test:assertEquals(products.length(), 3);
+
+    check dbClient.close();
+    check cachedClient.close();
+}
+
+@test:Config {
+    groups: ["query-cache"],
+    dependsOn: [testQueryCacheInvalidationChannel]
+}
+function testQueryCachePerQueryTtl() returns error? {
+    Client cachedClient = check new (host, user, password, queryCacheDB, port,
+        {queryCache: {queryTtls: {"SELECT name FROM CachedProducts WHERE id = ?": 0}}});
+    Client dbClient = check new (host, user, password, queryCacheDB, port);
+    int id = 2;
+    string name = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(name, "orange");
+
+    _ = check dbClient->execute(`UPDATE CachedProducts SET name = 'mandarin' WHERE id = 2`);
+    name = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(name, "mandarin");
+
+    check dbClient.close();
+    check cachedClient.close();
+}
+
+@test:Config {
+    groups: ["query-cache"],
+    dependsOn: [testQueryCachePerQueryTtl]
+}
+function testQueryCacheWithVaryingTemplateInsertions() returns error? {
+    Client cachedClient = check new (host, user, password, queryCacheDB, port, {queryCache: {}});
+    // The same template is evaluated with insertions of different types.
+    (int|sql:IntegerValue)[] ids = [1, new sql:IntegerValue(2), 1];
+    string[] expectedNames = ["red apple", "mandarin", "red apple"];
+    foreach int i in 0 ..< ids.length() {
+        string name = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = ${ids[i]}`);
+        test:assertEquals(name, expectedNames[i]);
+    }
+    check cachedClient.close();
+}
+
+@test:Config {
+    groups: ["query-cache"],
+    dependsOn: [testQueryCacheWithVaryingTemplateInsertions]
+}
+function testDefaultCallsWithTemplateCache() returns error? {
+    Client dbClient = check new (host, user, password, queryCacheDB, port);
+    // The concatenated templates are built at runtime by the `sql` module, hence they are not cached.
+    foreach int i in 0 ..< 3000 {
+        string name = check dbClient->queryRow(sql:queryConcat(`SELECT name FROM CachedProducts WHERE id = `,
+                `${i % 2 + 1}`));
+        test:assertEquals(name, i % 2 == 0 ? "red apple" : "mandarin");
+    }
+    stream<CachedProduct, sql:Error?> products = dbClient->query(`SELECT * FROM CachedProducts ORDER BY id`);
+    string[] names = check from CachedProduct product in products select product.name;
+    test:assertEquals(names, ["red apple", "mandarin"]);
+
+    transaction {
+        _ = check dbClient->execute(`UPDATE CachedProducts SET name = 'tangerine' WHERE id = 2`);
+        string name = check dbClient->queryRow(`SELECT name FROM CachedProducts WHERE id = 2`);
+        test:assertEquals(name, "tangerine");
+        rollback;
+    }
+    string committedName = check dbClient->queryRow(`SELECT name FROM CachedProducts WHERE id = 2`);
+    test:assertEquals(committedName, "mandarin");
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query-cache"],
+    dependsOn: [testDefaultCallsWithTemplateCache]
+}
+function testQueryCacheInvalidationOnCommit() returns error? {
+    Client cachedClient = check new (host, user, password, queryCacheDB, port, {queryCache: {}});
+    int id = 2;
+    string name = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(name, "mandarin");
+
+    transaction {
+        _ = check cachedClient->execute(`UPDATE CachedProducts SET name = 'clementine' WHERE id = 2`);
+        check commit;
+    }
+    // The entries of the table are dropped once the transaction is committed, rather than when the statement is
+    // executed, when the other strands may still cache the committed row.
+    name = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(name, "clementine");
+
+    transaction {
+        _ = check cachedClient->execute(`UPDATE CachedProducts SET name = 'satsuma' WHERE id = 2`);
+        rollback;
+    }
+    name = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(name, "clementine");
+    check cachedClient.close();
+}
+
+@test:Config {
+    groups: ["query-cache"],
+    dependsOn: [testQueryCacheInvalidationOnCommit]
+}
+function testQueryCacheInvalidationOnCall() returns error? {
+    Client cachedClient = check new (host, user, password, queryCacheDB, port, {queryCache: {}});
+    _ = check cachedClient->execute(`CREATE OR REPLACE PROCEDURE RenameCachedProduct(productId INTEGER, newName TEXT)
+        LANGUAGE SQL AS $$ UPDATE CachedProducts SET name = newName WHERE id = productId $$`);
+    int id = 2;
+    string name = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(name, "clementine");
+
+    // The procedure modifies a table which does not appear in the call, hence all the entries are dropped.
+    sql:ProcedureCallResult result = check cachedClient->call(`CALL RenameCachedProduct(2, 'tangerine')`);
+    check result.close();
+    name = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = ${id}`);
+    test:assertEquals(name, "tangerine");
+    check cachedClient.close();
+}
+
+@test:Config {
+    groups: ["query-cache"],
+    dependsOn: [testQueryCacheInvalidationOnCall]
+}
+function testQueryCacheWithInterleavedWrites() returns error? {
+    Client cachedClient = check new (host, user, password, queryCacheDB, port, {queryCache: {}});
+    Client dbClient = check new (host, user, password, queryCacheDB, port);
+    // The reads of the row run in parallel with its writes, hence some of them read the row before a write and
+    // complete after it. Such a read must not cache the row again once the write drops the cached row.
+    future<error?>[] calls = [];
+    foreach int i in 0 ..< 20 {
+        calls.push(start renameCachedProduct(cachedClient, string `lime ${i}`));
+        calls.push(start readCachedProduct(cachedClient));
+        calls.push(start readCachedProduct(cachedClient));
+    }
+    foreach future<error?> call in calls {
+        check wait call;
+    }
+    string committedName = check dbClient->queryRow(`SELECT name FROM CachedProducts WHERE id = 2`);
+    string cachedName = check cachedClient->queryRow(`SELECT name FROM CachedProducts WHERE id = 2`);
+    test:assertEquals(cachedName, committedName);
+    check dbClient.close();
+    check cachedClient.close();
+}
+
+isolated function renameCachedProduct(Client dbClient, string name) returns error? {
+    _ = check dbClient->execute(`UPDATE CachedProducts SET name = ${name} WHERE id = 2`);
+}
+
+isolated function readCachedProduct(Client dbClient) returns error? {
+    _ = check dbClient->queryRow(`SELECT name FROM CachedProducts WHERE id = 2`, string);
+}
@@ -0,0 +1,67 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string queryMetricsDB = "postgres";
+
+@test:BeforeGroups {
+    value: ["query-metrics"]
+}
+function initQueryMetricsTable() returns error? {
+    Client dbClient = check new (host, user, password, queryMetricsDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS MetricItems`);
+    _ = check dbClient->execute(`CREATE TABLE MetricItems(id INTEGER PRIMARY KEY, name VARCHAR(50))`);
+    check dbClient.close();
+}
+
+type MetricItem record {|
+    int id;
+    string name;
+|};
+
+@test:Config {
+    groups: ["query-metrics"]
+}
+function testQueryMetricsCalls() returns error? {
+    Client dbClient = check new (host, user, password, queryMetricsDB, port,
+        {clientName: "metrics", queryMetrics: {slowQueryThreshold: 0.2}});
+    sql:ExecutionResult result = check dbClient->execute(`INSERT INTO MetricItems VALUES (1, 'first'), (2, 'second')`);
+    test:assertEquals(result.affectedRowCount, 2);
+
+    // Logged as a slow query.
+    string slow = check dbClient->queryRow(`SELECT pg_sleep(0.3)::TEXT`);
+    test:assertEquals(slow, "");
+
+    MetricItem[] items = check from MetricItem item in dbClient->query(`SELECT * FROM MetricItems ORDER BY id`)
+        select item;
+    test:assertEquals(items, [{id: 1, name: "first"}, {id: 2, name: "second"}]);
+
+    stream<MetricItem, sql:Error?> partial = dbClient->query(`SELECT * FROM MetricItems ORDER BY id`);
+    record {|MetricItem value;|}? first = check partial.next();
+    test:assertEquals(first?.value, {id: 1, name: "first"});
+    check partial.close();
+
+    transaction {
+        _ = check dbClient->execute(`UPDATE MetricItems SET name = 'updated' WHERE id = 1`);
+        string name = check dbClient->queryRow(`SELECT name FROM MetricItems WHERE id = 1`);
+        test:assertEquals(name, "updated");
+        check commit;
+    }
+    check dbClient.close();
+}
@@ -0,0 +1,160 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string queryTimeoutDB = "postgres";
+
+@test:BeforeGroups {
+    value: ["query-timeout"]
+}
+function initQueryTimeoutTable() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS TimeoutItems`);
+    _ = check dbClient->execute(`CREATE TABLE TimeoutItems(id INTEGER PRIMARY KEY, name VARCHAR(50))`);
+    _ = check dbClient->execute(`INSERT INTO TimeoutItems VALUES (1, 'first')`);
+    check dbClient.close();
+}
+
+type TimeoutItem record {|
+    int id;
+    string name;
+|};
+
+@test:Config {
+    groups: ["query-timeout"]
+}
+function testQueryRowTimeout() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDB, port, connectionPool = {maxOpenConnections: 1});
+    string|sql:Error result = dbClient->queryRow(new TimedQuery(`SELECT pg_sleep(5)::TEXT`, 1));
+    test:assertTrue(result is QueryTimeoutError, "Expected a QueryTimeoutError");
+    if result is QueryTimeoutError {
+        test:assertEquals(result.detail().sqlState, "57014");
+    }
+
+    // The only connection of the pool is reused once the statement is cancelled.
+    string name = check dbClient->queryRow(new TimedQuery(`SELECT name FROM TimeoutItems WHERE id = 1`, 1));
+    test:assertEquals(name, "first");
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query-timeout"]
+}
+function testServerCancelledQueryWithoutTimeout() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDB, port, connectionPool = {maxOpenConnections: 1});
+    // The statement is cancelled by the server on its `statement_timeout`, rather than on a timeout of the call.
+    _ = check dbClient->execute(`SET statement_timeout = 100`);
+    string|sql:Error result = dbClient->queryRow(`SELECT pg_sleep(5)::TEXT`);
+    test:assertTrue(result is sql:DatabaseError, "Expected an sql:DatabaseError");
+    test:assertFalse(result is QueryTimeoutError, "A query without a timeout should not return a QueryTimeoutError");
+    if result is sql:DatabaseError {
+        test:assertEquals(result.detail().sqlState, "57014");
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query-timeout"]
+}
+function testQueryAndExecuteTimeout() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDB, port);
+    stream<TimeoutItem, sql:Error?> items = dbClient->query(
+        new TimedQuery(`SELECT id, name FROM TimeoutItems WHERE pg_sleep(5) IS NOT NULL`, 1));
+    record {|TimeoutItem value;|}|sql:Error? next = items.next();
+    test:assertTrue(next is QueryTimeoutError, "Expected a QueryTimeoutError");
+    check items.close();
+
+    sql:ExecutionResult|sql:Error result = dbClient->execute(
+        new TimedQuery(`UPDATE TimeoutItems SET name = 'updated' WHERE pg_sleep(5) IS NOT NULL`, 1));
+    test:assertTrue(result is QueryTimeoutError, "Expected a QueryTimeoutError");
+    string name = check dbClient->queryRow(`SELECT name FROM TimeoutItems WHERE id = 1`);
+    test:assertEquals(name, "first");
+
+    TimeoutItem[] rows = check from TimeoutItem item in dbClient->query(new TimedQuery(`SELECT * FROM TimeoutItems`, 0))
+        select item;
+    test:assertEquals(rows, [{id: 1, name: "first"}]);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query-timeout"]
+}
+function testTimedQueryWithRepeatedTemplateInsertions() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDB, port);
+    // The same template is executed with insertions of the same types, which are bound with the cached binding
+    // plan, and then of different types.
+    (int|string|PointValue?)[][] insertions = [
+        [1, "first", new PointValue({x: 1, y: 2})],
+        [1, "first", new PointValue({x: 3, y: 4})],
+        [1, (), new PointValue("(5,6)")],
+        ["1", "first", ()]
+    ];
+    string?[] expectedPoints = ["(1,2)", "(3,4)", "(5,6)", ()];
+    foreach int i in 0 ..< insertions.length() {
+        (int|string|PointValue?)[] values = insertions[i];
+        record {|string? name; string? point;|} result = check dbClient->queryRow(new TimedQuery(
+            `SELECT name, ${values[2]}::TEXT AS point FROM TimeoutItems
+             WHERE id = ${values[0]}::INTEGER AND COALESCE(${values[1]}::TEXT, name) = name`, 1));
+        test:assertEquals(result, {name: "first", point: expectedPoints[i]});
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query-timeout"]
+}
+function testQueryWithRepeatedTemplateInsertions() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDB, port);
+    // A plain query outside a transaction binds its insertions with the cached binding plan as well.
+    (int|string|PointValue?)[][] insertions = [
+        [1, "first", new PointValue({x: 1, y: 2})],
+        [1, "first", new PointValue({x: 3, y: 4})],
+        ["1", (), ()]
+    ];
+    string?[] expectedPoints = ["(1,2)", "(3,4)", ()];
+    foreach int i in 0 ..< insertions.length() {
+        (int|string|PointValue?)[] values = insertions[i];
+        stream<record {|string? name; string? point;|}, sql:Error?> results = dbClient->query(
+            `SELECT name, ${values[2]}::TEXT AS point FROM TimeoutItems
+             WHERE id = ${values[0]}::INTEGER AND COALESCE(${values[1]}::TEXT, name) = name`);
+        record {|string? name; string? point;|}[] rows = check from var row in results select row;
+        test:assertEquals(rows, [{name: "first", point: expectedPoints[i]}]);
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query-timeout"]
+}
+function testBatchExecuteAndCallTimeout() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDB, port, connectionPool = {maxOpenConnections: 1});
+    sql:ParameterizedQuery[] updates = from int id in 1 ... 2
+        select new TimedQuery(`UPDATE TimeoutItems SET name = 'updated' WHERE id = ${id} AND pg_sleep(5) IS NOT NULL`,
+            1);
+    sql:ExecutionResult[]|sql:Error result = dbClient->batchExecute(updates);
+    test:assertTrue(result is sql:BatchExecuteError, "Expected an sql:BatchExecuteError");
+    if result is sql:BatchExecuteError {
+        test:assertEquals(result.detail().sqlState, "57014");
+    }
+    string name = check dbClient->queryRow(`SELECT name FROM TimeoutItems WHERE id = 1`);
+    test:assertEquals(name, "first");
+
+    sql:ProcedureCallResult|sql:Error callResult = dbClient->call(new TimedQuery(`CALL TimeoutProcedure()`, 1));
+    test:assertTrue(callResult is sql:ApplicationError, "Expected an sql:ApplicationError");
+    check dbClient.close();
+}
@@ -0,0 +1,116 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string readReplicaDB = "postgres";
+
+type ReplicaItem record {|
+    int id;
+    string name;
+|};
+
+@test:BeforeGroups {
+    value: ["read-replica"]
+}
+function initReadReplicaTable() returns error? {
+    Client dbClient = check new (host, user, password, readReplicaDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS ReplicaItems`);
+    _ = check dbClient->execute(`CREATE TABLE ReplicaItems(id INTEGER PRIMARY KEY, name VARCHAR(50))`);
+    check dbClient.close();
+}
+
+// The test database has no streaming replicas, hence the primary itself is used as the replica.
+@test:Config {
+    groups: ["read-replica"]
+}
+function testReadReplicaRouting() returns error? {
+    Client dbClient = check new (host, user, password, readReplicaDB, port, {
+        readReplicas: {
+            replicas: [{host, port}, {host, port, connectionPool: {maxOpenConnections: 2}}]
+        }
+    });
+    _ = check dbClient->execute(`INSERT INTO ReplicaItems VALUES (1, 'first'), (2, 'second')`);
+    foreach int i in 1 ... 4 {
+        ReplicaItem[] items = check from ReplicaItem item
+            in dbClient->query(`SELECT * FROM ReplicaItems ORDER BY id`) select item;
+        test:assertEquals(items.length(), 2);
+        string name = check dbClient->queryRow(`SELECT name FROM ReplicaItems WHERE id = 2`);
+        test:assertEquals(name, "second");
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["read-replica"],
+    dependsOn: [testReadReplicaRouting]
+}
+function testReadReplicaWithinTransaction() returns error? {
+    Client dbClient = check new (host, user, password, readReplicaDB, port, {
+        readReplicas: {
+            replicas: [{host, port}],
+            loadBalancing: LEAST_OUTSTANDING
+        }
+    });
+    transaction {
+        _ = check dbClient->execute(`INSERT INTO ReplicaItems VALUES (3, 'third')`);
+        // The uncommitted row is visible only if the query is sent to the primary.
+        int count = check dbClient->queryRow(`SELECT COUNT(*) FROM ReplicaItems WHERE id = 3`);
+        test:assertEquals(count, 1);
+        check commit;
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["read-replica"],
+    dependsOn: [testReadReplicaRouting]
+}
+function testLeastOutstandingWithOpenStream() returns error? {
+    Client dbClient = check new (host, user, password, readReplicaDB, port, {
+        readReplicas: {
+            replicas: [{host, port, connectionPool: {maxOpenConnections: 1}},
+                {host, port, connectionPool: {maxOpenConnections: 1}}],
+            loadBalancing: LEAST_OUTSTANDING
+        }
+    });
+    // The open stream holds the only connection of the first replica until it is closed, hence the next stream
+    // is only executed without waiting for that connection if the first replica is still counted as outstanding.
+    stream<ReplicaItem, sql:Error?> first = dbClient->query(`SELECT * FROM ReplicaItems ORDER BY id`);
+    record {|ReplicaItem value;|}? firstItem = check first.next();
+    test:assertEquals(firstItem?.value?.id, 1);
+    string name = check dbClient->queryRow(`SELECT name FROM ReplicaItems WHERE id = 2`);
+    test:assertEquals(name, "second");
+    stream<ReplicaItem, sql:Error?> second = dbClient->query(`SELECT * FROM ReplicaItems ORDER BY id`);
+    record {|ReplicaItem value;|}? secondItem = check second.next();
+    test:assertEquals(secondItem?.value?.id, 1);
+    check second.close();
+    check first.close();
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["read-replica"]
+}
+function testReadReplicaConnectionFailure() {
+    Client|sql:Error dbClient = new (host, user, password, readReplicaDB, port, {
+        readReplicas: {
+            replicas: [{host: "localhost", port: 1}]
+        }
+    });
+    test:assertTrue(dbClient is sql:Error, "Client initialization should fail if a replica cannot be connected.");
+}
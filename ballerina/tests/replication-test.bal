@@ -0,0 +1,105 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/sql;
+import ballerina/test;
+
+string replicationDB = "postgres";
+
+@test:Config {
+    groups: ["replication"]
+}
+function testReplicationStreamsChanges() returns error? {
+    ReplicationClient replicationClient = check new (host = host, username = user, password = password,
+        database = replicationDB, port = port, slotName = "replication_test_slot",
+        publications = ["replication_test_publication"], temporarySlot = true);
+    stream<ChangeEvent, sql:Error?> changes = check replicationClient.receive();
+
+    Client dbClient = check new (host, user, password, replicationDB, port);
+    _ = check dbClient->execute(`INSERT INTO ReplicationTable VALUES (1, 'first', 10, '{"key": "value"}')`);
+    _ = check dbClient->execute(`UPDATE ReplicationTable SET int_type = 20 WHERE row_id = 1`);
+    _ = check dbClient->execute(`DELETE FROM ReplicationTable WHERE row_id = 1`);
+    check dbClient.close();
+
+    record {|ChangeEvent value;|}? insert = check changes.next();
+    record {|ChangeEvent value;|}? update = check changes.next();
+    record {|ChangeEvent value;|}? delete = check changes.next();
+
+    ChangeEvent insertEvent = (<record {|ChangeEvent value;|}>insert).value;
+    test:assertEquals(insertEvent.operation, INSERT);
+    test:assertEquals(insertEvent.'table, "replicationtable");
+    test:assertEquals(insertEvent.after, {row_id: 1, string_type: "first", int_type: 10, json_type: {"key": "value"}});
+
+    ChangeEvent updateEvent = (<record {|ChangeEvent value;|}>update).value;
+    test:assertEquals(updateEvent.operation, UPDATE);
+    test:assertEquals((<map<anydata>>updateEvent.after)["int_type"], 20);
+
+    ChangeEvent deleteEvent = (<record {|ChangeEvent value;|}>delete).value;
+    test:assertEquals(deleteEvent.operation, DELETE);
+    test:assertEquals(deleteEvent.before, {row_id: 1, string_type: (), int_type: (), json_type: ()});
+
+    check replicationClient.acknowledge(new PglsnValue(deleteEvent.lsn));
+    check changes.close();
+}
+
+@test:Config {
+    groups: ["replication"]
+}
+function testReplicationWithoutPublication() {
+    ReplicationClient|sql:Error replicationClient = new (host = host, username = user, password = password,
+        database = replicationDB, port = port, slotName = "replication_test_slot", publications = []);
+    test:assertTrue(replicationClient is sql:ApplicationError);
+}
+
+@test:Config {
+    groups: ["replication"]
+}
+function testReplicationSpecialNumericValues() returns error? {
+    ReplicationClient replicationClient = check new (host = host, username = user, password = password,
+        database = replicationDB, port = port, slotName = "replication_numeric_slot",
+        publications = ["replication_numeric_publication"], temporarySlot = true);
+    stream<ChangeEvent, sql:Error?> changes = check replicationClient.receive();
+
+    Client dbClient = check new (host, user, password, replicationDB, port);
+    _ = check dbClient->execute(`INSERT INTO ReplicationNumericTable VALUES (1, 1.5), (2, 'NaN'), (3, 'Infinity'),
+        (4, '-Infinity')`);
+    check dbClient.close();
+
+    anydata[] values = [];
+    foreach int i in 0 ..< 4 {
+        record {|ChangeEvent value;|}? change = check changes.next();
+        values.push((<map<anydata>>(<record {|ChangeEvent value;|}>change).value.after)["numeric_type"]);
+    }
+    test:assertEquals(values, [1.5d, "NaN", "Infinity", "-Infinity"]);
+    check changes.close();
+}
+
+@test:Config {
+    groups: ["replication"]
+}
+function testReplicationClosedWhileWaiting() returns error? {
+    ReplicationClient replicationClient = check new (host = host, username = user, password = password,
+        database = replicationDB, port = port, slotName = "replication_close_slot",
+        publications = ["replication_test_publication"], temporarySlot = true);
+    stream<ChangeEvent, sql:Error?> changes = check replicationClient.receive();
+
+    // No change is made, hence the read waits until the stream is closed.
+    future<record {|ChangeEvent value;|}|sql:Error?> pending = start changes.next();
+    runtime:sleep(1);
+    check replicationClient.close();
+    record {|ChangeEvent value;|}|sql:Error? next = wait pending;
+    test:assertTrue(next is (), "Expected the read to end once the stream is closed");
+}
@@ -0,0 +1,21 @@
+DROP TABLE IF EXISTS ReplicationTable;
+
+CREATE TABLE IF NOT EXISTS ReplicationTable(
+    row_id       INTEGER,
+    string_type  VARCHAR(50),
+    int_type     INTEGER,
+    json_type    JSONB,
+    PRIMARY KEY (row_id)
+);
+
+CREATE PUBLICATION replication_test_publication FOR TABLE ReplicationTable;
+
+DROP TABLE IF EXISTS ReplicationNumericTable;
+
+CREATE TABLE IF NOT EXISTS ReplicationNumericTable(
+    row_id        INTEGER,
+    numeric_type  NUMERIC,
+    PRIMARY KEY (row_id)
+);
+
+CREATE PUBLICATION replication_numeric_publication FOR TABLE ReplicationNumericTable;
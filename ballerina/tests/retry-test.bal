@@ -0,0 +1,90 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string retryDB = "postgres";
+
+@test:BeforeGroups {
+    value: ["retry"]
+}
+function initRetryTables() returns error? {
+    Client dbClient = check new (host, user, password, retryDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS RetryAccounts`);
+    _ = check dbClient->execute(`CREATE TABLE RetryAccounts(id INTEGER PRIMARY KEY, balance INTEGER)`);
+    _ = check dbClient->execute(`INSERT INTO RetryAccounts VALUES (1, 100)`);
+    _ = check dbClient->execute(`DROP SEQUENCE IF EXISTS RetryAttempts`);
+    _ = check dbClient->execute(`CREATE SEQUENCE RetryAttempts`);
+    _ = check dbClient->execute(`CREATE OR REPLACE FUNCTION FailTwice() RETURNS INTEGER AS $$
+        BEGIN
+            IF nextval('RetryAttempts') <= 2 THEN
+                RAISE EXCEPTION 'could not serialize access' USING ERRCODE = 'serialization_failure';
+            END IF;
+            RETURN 1;
+        END $$ LANGUAGE plpgsql`);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+function testStatementRetry() returns error? {
+    Client dbClient = check new (host, user, password, retryDB, port, {retry: {initialInterval: 0.01}});
+    _ = check dbClient->execute(`ALTER SEQUENCE RetryAttempts RESTART`);
+    int result = check dbClient->queryRow(`SELECT FailTwice()`);
+    test:assertEquals(result, 1);
+    test:assertEquals(dbClient.getRetryCount(), 2);
+    check dbClient.close();
+
+    Client noRetryClient = check new (host, user, password, retryDB, port);
+    _ = check noRetryClient->execute(`ALTER SEQUENCE RetryAttempts RESTART`);
+    int|sql:Error failed = noRetryClient->queryRow(`SELECT FailTwice()`);
+    if failed is sql:DatabaseError {
+        test:assertEquals(failed.detail().sqlState, "40001");
+    } else {
+        test:assertFail("Expected an sql:DatabaseError");
+    }
+    test:assertEquals(noRetryClient.getRetryCount(), 0);
+    check noRetryClient.close();
+}
+
+@test:Config {
+    groups: ["retry"]
+}
+function testTransactionRetry() returns error? {
+    Client dbClient = check new (host, user, password, retryDB, port);
+    Client otherClient = check new (host, user, password, retryDB, port);
+    int attempts = 0;
+    retry<TransactionRetryManager>({maxRetries: 2, initialInterval: 0.01}, dbClient) transaction {
+        attempts += 1;
+        _ = check dbClient->execute(`SET TRANSACTION ISOLATION LEVEL REPEATABLE READ`);
+        int balance = check dbClient->queryRow(`SELECT balance FROM RetryAccounts WHERE id = 1`);
+        if attempts == 1 {
+            // A concurrent update makes the update of the transaction fail with a serialization failure.
+            _ = check otherClient->execute(`UPDATE RetryAccounts SET balance = balance + 10 WHERE id = 1`);
+        }
+        _ = check dbClient->execute(`UPDATE RetryAccounts SET balance = ${balance + 1} WHERE id = 1`);
+        check commit;
+    }
+    test:assertEquals(attempts, 2);
+    test:assertEquals(dbClient.getRetryCount(), 1);
+    int balance = check dbClient->queryRow(`SELECT balance FROM RetryAccounts WHERE id = 1`);
+    test:assertEquals(balance, 111);
+    check otherClient.close();
+    check dbClient.close();
+}
@@ -0,0 +1,108 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerina/test;
+
+string warmUpDB = "postgres";
+
+@test:BeforeGroups {
+    value: ["warm-up"]
+}
+function initWarmUpTable() returns error? {
+    Client dbClient = check new (host, user, password, warmUpDB, port);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS WarmUpItems`);
+    _ = check dbClient->execute(`CREATE TABLE WarmUpItems(id INTEGER PRIMARY KEY, name VARCHAR(50))`);
+    _ = check dbClient->execute(`INSERT INTO WarmUpItems VALUES (1, 'first')`);
+    _ = check dbClient->execute(`DROP SEQUENCE IF EXISTS WarmUpSequence`);
+    _ = check dbClient->execute(`CREATE SEQUENCE WarmUpSequence`);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["warm-up"]
+}
+function testPoolWarmUp() returns error? {
+    Client dbClient = check new (host, user, password, warmUpDB, port, {
+        warmUp: {
+            connections: 3,
+            statements: ["SELECT name FROM WarmUpItems WHERE id = ?"]
+        }
+    });
+    int id = 1;
+    string name = check dbClient->queryRow(`SELECT name FROM WarmUpItems WHERE id = ${id}`);
+    test:assertEquals(name, "first");
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["warm-up"]
+}
+function testPoolWarmUpPreparesStatementsOnServer() returns error? {
+    Client dbClient = check new (host, user, password, warmUpDB, port, {
+        warmUp: {
+            connections: 1,
+            statements: ["SELECT name FROM WarmUpItems WHERE id = ?", "UPDATE WarmUpItems SET name = ? WHERE id = ?"]
+        }
+    }, {maxOpenConnections: 1});
+    // The pool has a single connection, hence the query runs in the session which was warmed up.
+    string[] prepared = check from record {|string statement;|} row in dbClient->query(
+            `SELECT statement FROM pg_prepared_statements WHERE statement LIKE '%WarmUpItems%' ORDER BY statement`)
+        select row.statement;
+    test:assertEquals(prepared, ["SELECT name FROM WarmUpItems WHERE id = $1",
+        "UPDATE WarmUpItems SET name = $1 WHERE id = $2"]);
+
+    // The update is prepared without being executed.
+    string name = check dbClient->queryRow(`SELECT name FROM WarmUpItems WHERE id = 1`);
+    test:assertEquals(name, "first");
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["warm-up"]
+}
+function testPoolWarmUpWithoutSideEffects() returns error? {
+    Client dbClient = check new (host, user, password, warmUpDB, port, {
+        warmUp: {
+            connections: 1,
+            statements: ["SELECT nextval('WarmUpSequence')", "INSERT INTO WarmUpItems VALUES (?, ?)"]
+        }
+    });
+    // A sequence is not rolled back, hence it would have been advanced had the statement been executed.
+    boolean isCalled = check dbClient->queryRow(`SELECT is_called FROM WarmUpSequence`);
+    test:assertFalse(isCalled, "The sequence should not be advanced by the warm-up.");
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM WarmUpItems`);
+    test:assertEquals(count, 1);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["warm-up"]
+}
+function testPoolWarmUpWithInvalidStatement() {
+    Client|sql:Error dbClient = new (host, user, password, warmUpDB, port, {
+        warmUp: {
+            connections: 1,
+            statements: ["SELECT name FROM NonExistentWarmUpTable WHERE id = ?"]
+        }
+    });
+    if dbClient is sql:Error {
+        test:assertTrue(dbClient.message().startsWith("Error while warming up the connection pool: "),
+            dbClient.message());
+    } else {
+        test:assertFail("Client initialization should fail if a warm-up statement cannot be prepared.");
+    }
+}
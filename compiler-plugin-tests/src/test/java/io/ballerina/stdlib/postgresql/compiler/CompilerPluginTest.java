@@ -18,13 +18,21 @@
 
 package io.ballerina.stdlib.postgresql.compiler;
 
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.environment.Environment;
 import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.projects.plugins.codeaction.CodeActionContextImpl;
+import io.ballerina.projects.plugins.codeaction.CodeActionExecutionContextImpl;
+import io.ballerina.projects.plugins.codeaction.CodeActionInfo;
+import io.ballerina.projects.plugins.codeaction.DocumentEdit;
+import io.ballerina.stdlib.postgresql.compiler.codeaction.SelectColumnsCodeAction;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -34,6 +42,7 @@ import org.testng.annotations.Test;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_101;
@@ -42,6 +51,10 @@ import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.
 import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_202;
 import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_203;
 import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_204;
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_301;
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_302;
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_303;
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_304;
 import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.SQL_101;
 
 /**
@@ -65,6 +78,19 @@ public class CompilerPluginTest {
         return project.currentPackage();
     }
 
+    private List<Diagnostic> getDiagnostics(String path, PostgreSQLDiagnosticsCode code) {
+        DiagnosticResult diagnosticResult = loadPackage(path).getCompilation().diagnosticResult();
+        return diagnosticResult.diagnostics().stream()
+                .filter(r -> r.diagnosticInfo().code().equals(code.getCode()))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> getLines(List<Diagnostic> diagnostics) {
+        return diagnostics.stream()
+                .map(diagnostic -> diagnostic.location().lineRange().startLine().line() + 1)
+                .collect(Collectors.toList());
+    }
+
     @Test
     public void testSQLConnectionPoolFieldsInNewExpression() {
         Package currentPackage = loadPackage("sample2");
@@ -180,4 +206,87 @@ public class CompilerPluginTest {
         Assert.assertEquals(diagnosticErrorStream.get(2).diagnosticInfo().messageFormat(),
                 "invalid value: expected value is greater than zero");
     }
+
+    @Test
+    public void testQueriesInLoops() {
+        List<Diagnostic> diagnostics = getDiagnostics("sample7", POSTGRESQL_301);
+        Assert.assertEquals(getLines(diagnostics), List.of(37, 42, 47, 53));
+        for (Diagnostic diagnostic : diagnostics) {
+            Assert.assertEquals(diagnostic.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+            Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(), POSTGRESQL_301.getMessage());
+        }
+    }
+
+    @Test
+    public void testUnclosedResults() {
+        List<Diagnostic> streamDiagnostics = getDiagnostics("sample8", POSTGRESQL_302);
+        Assert.assertEquals(getLines(streamDiagnostics), List.of(29, 39, 47, 79, 85, 90, 113));
+        for (Diagnostic diagnostic : streamDiagnostics) {
+            Assert.assertEquals(diagnostic.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+            Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(), POSTGRESQL_302.getMessage());
+        }
+        List<Diagnostic> callDiagnostics = getDiagnostics("sample8", POSTGRESQL_303);
+        Assert.assertEquals(getLines(callDiagnostics), List.of(117, 123));
+        for (Diagnostic diagnostic : callDiagnostics) {
+            Assert.assertEquals(diagnostic.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+            Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(), POSTGRESQL_303.getMessage());
+        }
+    }
+
+    @Test
+    public void testSelectAllIntoClosedRecords() {
+        List<Diagnostic> diagnostics = getDiagnostics("sample9", POSTGRESQL_304);
+        Assert.assertEquals(getLines(diagnostics), List.of(41, 42, 44, 46, 58));
+        for (Diagnostic diagnostic : diagnostics) {
+            Assert.assertEquals(diagnostic.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+            Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(), POSTGRESQL_304.getMessage());
+        }
+        for (Diagnostic diagnostic : diagnostics.subList(0, 4)) {
+            Assert.assertTrue(diagnostic.message().endsWith("`SELECT id, name`"), diagnostic.message());
+        }
+        // The reserved keywords are quoted, and the row type with a mixed-case field is not reported.
+        Assert.assertTrue(diagnostics.get(4).message().endsWith("`SELECT id, \"user\", \"order\", \"limit\"`"),
+                diagnostics.get(4).message());
+    }
+
+    @Test
+    public void testSelectColumnsCodeAction() {
+        Package currentPackage = loadPackage("sample9");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        Module module = currentPackage.getDefaultModule();
+        Document document = module.documentIds().stream()
+                .map(module::document)
+                .filter(moduleDocument -> moduleDocument.name().equals("main.bal"))
+                .findFirst().orElseThrow();
+        SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
+        Path filePath = RESOURCE_DIRECTORY.resolve("sample9").resolve("main.bal");
+        String source = document.syntaxTree().toSourceCode();
+
+        List<String> rewrittenSources = compilation.diagnosticResult().diagnostics().stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().code().equals(POSTGRESQL_304.getCode()))
+                .map(diagnostic -> {
+                    SelectColumnsCodeAction codeAction = new SelectColumnsCodeAction();
+                    String fileUri = filePath.toUri().toString();
+                    Optional<CodeActionInfo> info = codeAction.codeActionInfo(CodeActionContextImpl.from(fileUri,
+                            filePath, diagnostic.location().lineRange().startLine(), document, semanticModel,
+                            diagnostic));
+                    Assert.assertTrue(info.isPresent(), diagnostic.toString());
+                    List<DocumentEdit> edits = codeAction.execute(CodeActionExecutionContextImpl.from(fileUri,
+                            filePath, diagnostic.location().lineRange().startLine(), document, semanticModel,
+                            info.get().getArguments()));
+                    Assert.assertEquals(edits.size(), 1);
+                    Assert.assertEquals(edits.get(0).getFileUri(), fileUri);
+                    return edits.get(0).getModifiedSyntaxTree().toSourceCode();
+                })
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(rewrittenSources, List.of(
+                source.replace("`SELECT * FROM customers WHERE id = ${id}`); // warning",
+                        "`SELECT id, name FROM customers WHERE id = ${id}`); // warning"),
+                source.replace("`select * from customers`", "`select id, name from customers`"),
+                source.replace("`SELECT * FROM customers`, Customer", "`SELECT id, name FROM customers`, Customer"),
+                source.replace("        SELECT *\n", "        SELECT id, name\n"),
+                source.replace("`SELECT * FROM reservations WHERE id = ${id}`",
+                        "`SELECT id, \"user\", \"order\", \"limit\" FROM reservations WHERE id = ${id}`")));
+    }
 }
@@ -0,0 +1,69 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerinax/postgresql;
+
+type Order record {|
+    int id;
+    int customerId;
+|};
+
+type Customer record {|
+    int id;
+    string name;
+|};
+
+public function main() returns error? {
+    postgresql:Client dbClient = check new ();
+    Order[] orders = [{id: 1, customerId: 1}, {id: 2, customerId: 2}];
+    int[] ids = [1, 2, 3];
+
+    foreach Order item in orders {
+        Customer customer = check dbClient->queryRow(`SELECT * FROM customers WHERE id = ${item.customerId}`);
+    }
+
+    foreach int i in 0 ..< ids.length() {
+        int id = ids[i];
+        _ = check dbClient->execute(`DELETE FROM customers WHERE id = ${id}`);
+    }
+
+    int index = 0;
+    while index < ids.length() {
+        _ = check dbClient->execute(`UPDATE customers SET name = 'x' WHERE id = ${ids[index]}`);
+        index += 1;
+    }
+
+    check from int id in ids
+        do {
+            stream<Customer, sql:Error?> rows = dbClient->query(`SELECT * FROM customers WHERE id = ${id}`);
+            check rows.close();
+        };
+
+    foreach int i in 0 ..< 3 {
+        int count = check dbClient->queryRow(`SELECT COUNT(*) FROM customers WHERE id > ${ids[0]}`);
+    }
+
+    Customer first = check dbClient->queryRow(`SELECT * FROM customers WHERE id = ${ids[0]}`);
+
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers WHERE id = ANY(${ids})`);
+    check customers.close();
+
+    foreach Order item in orders {
+        _ = check dbClient->batchExecute([`UPDATE orders SET status = 'done' WHERE id = ${item.id}`]);
+    }
+}
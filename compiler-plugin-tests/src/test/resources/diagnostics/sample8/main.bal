@@ -0,0 +1,126 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerinax/postgresql;
+
+type Customer record {|
+    int id;
+    string name;
+|};
+
+final postgresql:Client dbClient = check new ();
+
+function notClosed() {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`); // warning
+}
+
+function closed() returns error? {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`);
+    record {|Customer value;|}? first = check customers.next();
+    check customers.close();
+}
+
+function earlyReturn(int[] ids) returns error? {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`); // warning
+    if ids.length() == 0 {
+        return;
+    }
+    check customers.close();
+}
+
+function errorPath() returns error? {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`); // warning
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM orders`);
+    check customers.close();
+}
+
+function closedBeforeReturn(int[] ids) returns error? {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`);
+    if ids.length() == 0 {
+        check customers.close();
+        return;
+    }
+    check customers.close();
+}
+
+function consumed() returns error? {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`);
+    foreach Customer customer in customers {
+        int id = customer.id;
+    }
+    stream<Customer, sql:Error?> others = dbClient->query(`SELECT * FROM customers`);
+    check from Customer customer in others
+        do {
+            int id = customer.id;
+        };
+    stream<Customer, sql:Error?> names = dbClient->query(`SELECT * FROM customers`);
+    string[] result = check from Customer customer in names select customer.name;
+    foreach Customer customer in dbClient->query(`SELECT * FROM customers`, Customer) {
+        int id = customer.id;
+    }
+}
+
+function partlyConsumed() returns error? {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`); // warning
+    foreach Customer customer in customers {
+        if customer.id == 1 {
+            break;
+        }
+    }
+    stream<Customer, sql:Error?> others = dbClient->query(`SELECT * FROM customers`); // warning
+    Customer[] result = check from Customer customer in others limit 1 select customer;
+}
+
+function closedOnOneBranch(boolean flag) returns error? {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`); // warning
+    if flag {
+        check customers.close();
+    }
+    stream<Customer, sql:Error?> others = dbClient->query(`SELECT * FROM customers`);
+    if flag {
+        check others.close();
+    } else {
+        check others.forEach(function(Customer customer) {
+        });
+    }
+}
+
+function handedOver() returns stream<Customer, sql:Error?> {
+    stream<Customer, sql:Error?> customers = dbClient->query(`SELECT * FROM customers`);
+    return customers;
+}
+
+function returned() returns stream<Customer, sql:Error?> {
+    return dbClient->query(`SELECT * FROM customers`);
+}
+
+function discarded() {
+    _ = dbClient->query(`SELECT * FROM customers`); // warning
+}
+
+function procedureCalls() returns error? {
+    sql:ProcedureCallResult result = check dbClient->call(`CALL get_customers()`); // warning
+    stream<record {}, sql:Error?>? customers = result.queryResult;
+
+    sql:ProcedureCallResult closedResult = check dbClient->call(`CALL get_customers()`);
+    check closedResult.close();
+
+    sql:ProcedureCallResult checkedResult = check dbClient->call(`CALL get_customers()`); // warning
+    _ = check dbClient->execute(`DELETE FROM orders`);
+    check checkedResult.close();
+}
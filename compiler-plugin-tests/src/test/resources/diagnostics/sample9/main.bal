@@ -0,0 +1,72 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+import ballerinax/postgresql;
+
+type Customer record {|
+    int id;
+    string name;
+|};
+
+type CustomerDetails record {
+    int id;
+    string name;
+};
+
+type Order record {|
+    int id;
+    @sql:Column {name: "customer_id"}
+    int customerId;
+|};
+
+public function main() returns error? {
+    postgresql:Client dbClient = check new ();
+    int id = 1;
+
+    Customer customer = check dbClient->queryRow(`SELECT * FROM customers WHERE id = ${id}`); // warning
+    stream<Customer, sql:Error?> customers = dbClient->query(`select * from customers`); // warning
+    check customers.close();
+    stream<Customer, sql:Error?> typed = dbClient->query(`SELECT * FROM customers`, Customer); // warning
+    check typed.close();
+    Customer multiline = check dbClient->queryRow(`
+        SELECT *
+        FROM customers
+        WHERE id = ${id}`);
+
+    CustomerDetails details = check dbClient->queryRow(`SELECT * FROM customers WHERE id = ${id}`);
+    Order 'order = check dbClient->queryRow(`SELECT * FROM orders WHERE id = ${id}`);
+    Customer joined = check dbClient->queryRow(`SELECT * FROM customers JOIN orders USING (id)`);
+    Customer nested = check dbClient->queryRow(`SELECT * FROM customers WHERE id IN (SELECT id FROM orders)`);
+    Customer commaJoined = check dbClient->queryRow(`SELECT * FROM customers, orders WHERE customers.id = orders.id`);
+    Customer projected = check dbClient->queryRow(`SELECT id, name FROM customers WHERE id = ${id}`);
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM customers`);
+    Reservation reservation = check dbClient->queryRow(`SELECT * FROM reservations WHERE id = ${id}`); // warning
+    Account account = check dbClient->queryRow(`SELECT * FROM accounts WHERE id = ${id}`);
+}
+
+type Reservation record {|
+    int id;
+    string user;
+    int 'order;
+    int 'limit;
+|};
+
+type Account record {|
+    int id;
+    string userName;
+|};
@@ -35,6 +35,11 @@ public class Constants {
      */
     public static class Client {
         public static final String NAME = "Client";
+        public static final String QUERY = "query";
+        public static final String QUERY_ROW = "queryRow";
+        public static final String EXECUTE = "execute";
+        public static final String BATCH_EXECUTE = "batchExecute";
+        public static final String CALL = "call";
 
         private Client() {
         }
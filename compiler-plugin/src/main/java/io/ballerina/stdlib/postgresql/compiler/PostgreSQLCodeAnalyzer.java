@@ -23,7 +23,10 @@ import io.ballerina.projects.plugins.CodeAnalysisContext;
 import io.ballerina.projects.plugins.CodeAnalyzer;
 import io.ballerina.stdlib.postgresql.compiler.analyzer.InitializerParamAnalyzer;
 import io.ballerina.stdlib.postgresql.compiler.analyzer.MethodAnalyzer;
+import io.ballerina.stdlib.postgresql.compiler.analyzer.QueryInLoopAnalyzer;
 import io.ballerina.stdlib.postgresql.compiler.analyzer.RecordAnalyzer;
+import io.ballerina.stdlib.postgresql.compiler.analyzer.ResultCloseAnalyzer;
+import io.ballerina.stdlib.postgresql.compiler.analyzer.SelectAllAnalyzer;
 
 import java.util.List;
 
@@ -39,5 +42,8 @@ public class PostgreSQLCodeAnalyzer extends CodeAnalyzer {
         ctx.addSyntaxNodeAnalysisTask(new RecordAnalyzer(),
                 List.of(SyntaxKind.LOCAL_VAR_DECL, SyntaxKind.MODULE_VAR_DECL));
         ctx.addSyntaxNodeAnalysisTask(new MethodAnalyzer(), SyntaxKind.METHOD_CALL);
+        ctx.addSyntaxNodeAnalysisTask(new QueryInLoopAnalyzer(), SyntaxKind.REMOTE_METHOD_CALL_ACTION);
+        ctx.addSyntaxNodeAnalysisTask(new ResultCloseAnalyzer(), SyntaxKind.REMOTE_METHOD_CALL_ACTION);
+        ctx.addSyntaxNodeAnalysisTask(new SelectAllAnalyzer(), SyntaxKind.REMOTE_METHOD_CALL_ACTION);
     }
 }
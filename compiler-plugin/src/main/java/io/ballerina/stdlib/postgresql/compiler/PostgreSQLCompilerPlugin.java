@@ -20,6 +20,7 @@ package io.ballerina.stdlib.postgresql.compiler;
 
 import io.ballerina.projects.plugins.CompilerPlugin;
 import io.ballerina.projects.plugins.CompilerPluginContext;
+import io.ballerina.stdlib.postgresql.compiler.codeaction.SelectColumnsCodeAction;
 
 /**
  * Compiler plugin for JDBC client.
@@ -28,5 +29,6 @@ public class PostgreSQLCompilerPlugin extends CompilerPlugin {
     @Override
     public void init(CompilerPluginContext compilerPluginContext) {
         compilerPluginContext.addCodeAnalyzer(new PostgreSQLCodeAnalyzer());
+        compilerPluginContext.addCodeAction(new SelectColumnsCodeAction());
     }
 }
@@ -20,6 +20,7 @@ package io.ballerina.stdlib.postgresql.compiler;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import static io.ballerina.tools.diagnostics.DiagnosticSeverity.ERROR;
+import static io.ballerina.tools.diagnostics.DiagnosticSeverity.WARNING;
 
 /**
  * Enum class to hold JDBC module diagnostic codes.
@@ -39,7 +40,21 @@ public enum PostgreSQLDiagnosticsCode {
     POSTGRESQL_201("POSTGRESQL_201", "invalid value: expected value is string", ERROR),
     POSTGRESQL_202("POSTGRESQL_202", "invalid value: expected value is either record or string", ERROR),
     POSTGRESQL_203("POSTGRESQL_203", "invalid value: expected value is either json or string", ERROR),
-    POSTGRESQL_204("POSTGRESQL_204", "invalid value: expected value is either xml or string", ERROR);
+    POSTGRESQL_204("POSTGRESQL_204", "invalid value: expected value is either xml or string", ERROR),
+
+    // Query performance diagnostics
+    POSTGRESQL_301("POSTGRESQL_301", "potential N+1 query: the query is executed for each iteration of the loop " +
+            "with a parameter from the loop. Consider fetching the rows in a single query with a join or an " +
+            "`= ANY` condition on an array parameter, or using `batchExecute` for the updates", WARNING),
+    POSTGRESQL_302("POSTGRESQL_302", "the stream returned by `query` may go out of scope without being fully " +
+            "consumed or closed, which keeps its connection until the stream is garbage collected. Close the " +
+            "stream on all the paths, including the early returns and the error paths", WARNING),
+    POSTGRESQL_303("POSTGRESQL_303", "the `sql:ProcedureCallResult` returned by `call` may go out of scope " +
+            "without being closed, which keeps its connection until the result is garbage collected. Close the " +
+            "result on all the paths, including the early returns and the error paths", WARNING),
+    POSTGRESQL_304("POSTGRESQL_304", "the query selects all the columns with `SELECT *`, but only the columns of the " +
+            "fields of the closed row type are kept. Select the columns explicitly to avoid sending and decoding the " +
+            "others: `SELECT {0}`", WARNING);
 
 
     private final String code;
@@ -17,7 +17,11 @@
  */
 package io.ballerina.stdlib.postgresql.compiler;
 
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.StreamTypeSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
@@ -27,18 +31,24 @@ import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
 import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
 import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SpreadFieldNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.UnaryExpressionNode;
@@ -48,9 +58,14 @@ import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.TextRange;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static io.ballerina.stdlib.postgresql.compiler.Constants.UNNECESSARY_CHARS_REGEX;
 import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_101;
@@ -65,6 +80,28 @@ import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.
  */
 public class Utils {
 
+    private static final Pattern SELECT_ALL = Pattern.compile("^\\s*SELECT\\s+(\\*)\\s+FROM\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern NESTED_OR_COMBINED_QUERY = Pattern.compile(
+            "\\b(SELECT|JOIN|UNION|INTERSECT|EXCEPT)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern FROM_LIST = Pattern.compile(
+            "\\bFROM\\b(.*?)(\\b(WHERE|GROUP|HAVING|WINDOW|ORDER|LIMIT|OFFSET|FETCH|FOR)\\b|;|$)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern COLUMN_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    // The keywords of PostgreSQL which are not accepted as a column name in the select list unless quoted.
+    private static final Set<String> RESERVED_KEYWORDS = Set.of("all", "analyse", "analyze", "and", "any", "array",
+            "as", "asc", "asymmetric", "authorization", "binary", "both", "case", "cast", "check", "collate",
+            "collation", "column", "concurrently", "constraint", "create", "cross", "current_catalog",
+            "current_date", "current_role", "current_schema", "current_time", "current_timestamp", "current_user",
+            "default", "deferrable", "desc", "distinct", "do", "else", "end", "except", "false", "fetch", "for",
+            "foreign", "freeze", "from", "full", "grant", "group", "having", "ilike", "in", "initially", "inner",
+            "intersect", "into", "is", "isnull", "join", "lateral", "leading", "left", "like", "limit",
+            "localtime", "localtimestamp", "natural", "not", "notnull", "null", "offset", "on", "only", "or",
+            "order", "outer", "overlaps", "placing", "primary", "references", "returning", "right", "select",
+            "session_user", "similar", "some", "symmetric", "system_user", "table", "tablesample", "then", "to",
+            "trailing", "true", "union", "unique", "user", "using", "variadic", "verbose", "when", "where",
+            "window", "with");
+
     private Utils() {
     }
 
@@ -115,6 +152,159 @@ public class Utils {
                 return false;
         }
     }
+    /**
+     * Returns the name of the remote method if the call is a remote method call of a `postgresql:Client`.
+     *
+     * @param ctx  the analysis context
+     * @param node the remote method call
+     * @return the name of the remote method, or empty if the call is not a call of a `postgresql:Client`
+     */
+    public static Optional<String> getClientRemoteMethodName(SyntaxNodeAnalysisContext ctx,
+                                                             RemoteMethodCallActionNode node) {
+        if (!isPostgreSQLObject(ctx, node.expression(), Constants.Client.NAME)) {
+            return Optional.empty();
+        }
+        return Optional.of(node.methodName().name().text());
+    }
+
+    /**
+     * Returns the raw template passed as the SQL query of a remote method call, if the query is given as a template
+     * rather than as a variable.
+     *
+     * @param node the remote method call
+     * @return the raw template of the query
+     */
+    public static Optional<TemplateExpressionNode> getQueryTemplate(RemoteMethodCallActionNode node) {
+        if (node.arguments().isEmpty()) {
+            return Optional.empty();
+        }
+        FunctionArgumentNode argument = node.arguments().get(0);
+        ExpressionNode expression;
+        if (argument instanceof PositionalArgumentNode) {
+            expression = ((PositionalArgumentNode) argument).expression();
+        } else if (argument instanceof NamedArgumentNode) {
+            expression = ((NamedArgumentNode) argument).expression();
+        } else {
+            return Optional.empty();
+        }
+        if (expression.kind() != SyntaxKind.RAW_TEMPLATE_EXPRESSION) {
+            return Optional.empty();
+        }
+        return Optional.of((TemplateExpressionNode) expression);
+    }
+
+    /**
+     * Returns the range of the `*` of a raw template which starts with `SELECT * FROM`. Only a template with a
+     * single `SELECT` from a single table, without joins or set operations, is considered, as the columns of its row
+     * type are then the columns of one table.
+     *
+     * @param template the raw template of the query
+     * @return the range of the `*` in the document
+     */
+    public static Optional<TextRange> getSelectAllRange(TemplateExpressionNode template) {
+        NodeList<Node> content = template.content();
+        if (content.isEmpty() || content.get(0).kind() != SyntaxKind.TEMPLATE_STRING) {
+            return Optional.empty();
+        }
+        // The text before the first insertion may be split into several template strings.
+        StringBuilder prefix = new StringBuilder();
+        for (Node node : content) {
+            if (node.kind() != SyntaxKind.TEMPLATE_STRING) {
+                break;
+            }
+            prefix.append(node.toSourceCode());
+        }
+        Matcher matcher = SELECT_ALL.matcher(prefix);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        StringBuilder strings = new StringBuilder();
+        for (Node node : content) {
+            if (node.kind() == SyntaxKind.TEMPLATE_STRING) {
+                strings.append(node.toSourceCode()).append(' ');
+            }
+        }
+        Matcher keywords = NESTED_OR_COMBINED_QUERY.matcher(strings);
+        int count = 0;
+        while (keywords.find()) {
+            count++;
+        }
+        if (count != 1) {
+            return Optional.empty();
+        }
+        // A comma in the `FROM` list joins several tables, as `SELECT * FROM a, b` does.
+        Matcher fromList = FROM_LIST.matcher(strings);
+        if (fromList.find() && fromList.group(1).indexOf(',') >= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(TextRange.from(content.get(0).textRangeWithMinutiae().startOffset() + matcher.start(1), 1));
+    }
+
+    /**
+     * Returns the columns of the row type of a `query` or `queryRow` call, i.e. the names of the fields of its row
+     * record. The row type should be a closed record, as an open record keeps the other columns as its rest fields,
+     * and the fields should be mapped to the columns of the same name. A field whose name is a reserved keyword is
+     * selected as a quoted column. As an unquoted column name is folded to lower case, the case of the column of a
+     * field whose name is not in lower case is not known, hence such a row type is not handled.
+     *
+     * @param semanticModel the semantic model of the document
+     * @param node          the remote method call
+     * @return the column names, or empty if the row type is not such a record
+     */
+    public static Optional<List<String>> getRowColumns(SemanticModel semanticModel, RemoteMethodCallActionNode node) {
+        Optional<TypeSymbol> returnType = semanticModel.typeOf(node);
+        if (returnType.isEmpty()) {
+            return Optional.empty();
+        }
+        TypeSymbol rowType = getReferredType(returnType.get());
+        if (rowType.typeKind() == TypeDescKind.STREAM) {
+            rowType = getReferredType(((StreamTypeSymbol) rowType).typeParameter());
+        } else if (rowType.typeKind() == TypeDescKind.UNION) {
+            TypeSymbol record = null;
+            for (TypeSymbol member : ((UnionTypeSymbol) rowType).memberTypeDescriptors()) {
+                TypeSymbol memberType = getReferredType(member);
+                if (memberType.typeKind() == TypeDescKind.ERROR || memberType.typeKind() == TypeDescKind.NIL) {
+                    continue;
+                }
+                if (record != null) {
+                    return Optional.empty();
+                }
+                record = memberType;
+            }
+            if (record == null) {
+                return Optional.empty();
+            }
+            rowType = record;
+        }
+        if (rowType.typeKind() != TypeDescKind.RECORD
+                || ((RecordTypeSymbol) rowType).restTypeDescriptor().isPresent()) {
+            return Optional.empty();
+        }
+        List<String> columns = new ArrayList<>();
+        for (RecordFieldSymbol field : ((RecordTypeSymbol) rowType).fieldDescriptors().values()) {
+            Optional<String> name = field.getName();
+            if (name.isEmpty()) {
+                return Optional.empty();
+            }
+            // The field of a quoted identifier, such as `'order`, is mapped to the column without the quote.
+            String column = name.get().startsWith("'") ? name.get().substring(1) : name.get();
+            // A field with an annotation, such as `sql:Column`, may be mapped to a column of another name.
+            if (!COLUMN_NAME.matcher(column).matches() || !field.annotations().isEmpty()
+                    || getReferredType(field.typeDescriptor()).typeKind() == TypeDescKind.RECORD) {
+                return Optional.empty();
+            }
+            columns.add(RESERVED_KEYWORDS.contains(column) ? '"' + column + '"' : column);
+        }
+        return columns.isEmpty() ? Optional.empty() : Optional.of(columns);
+    }
+
+    private static TypeSymbol getReferredType(TypeSymbol type) {
+        while (type.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+            type = ((TypeReferenceTypeSymbol) type).typeDescriptor();
+        }
+        return type;
+    }
+
     public static void  validateOptionConfig(SyntaxNodeAnalysisContext ctx, MappingConstructorExpressionNode options) {
         for (MappingFieldNode field: options.fields()) {
             if (field instanceof SpecificFieldNode) {
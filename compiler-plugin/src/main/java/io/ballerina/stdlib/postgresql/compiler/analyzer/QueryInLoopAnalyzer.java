@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.compiler.analyzer;
+
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.syntax.tree.ForEachStatementNode;
+import io.ballerina.compiler.syntax.tree.InterpolationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.QueryActionNode;
+import io.ballerina.compiler.syntax.tree.QueryExpressionNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
+import io.ballerina.compiler.syntax.tree.WhileStatementNode;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.stdlib.postgresql.compiler.Constants;
+import io.ballerina.stdlib.postgresql.compiler.Utils;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_301;
+
+/**
+ * Analyser for the `query`, `queryRow` and `execute` calls of a `postgresql:Client` which are made in each iteration
+ * of a `foreach` or `while` loop, or of a query action, with a parameter which comes from the loop (N+1 queries).
+ * A parameter comes from the loop if it refers to a variable declared in the loop, e.g. the loop variable or a
+ * variable of the loop body, or to a variable used in the condition of a `while` loop.
+ */
+public class QueryInLoopAnalyzer implements AnalysisTask<SyntaxNodeAnalysisContext> {
+
+    private static final List<String> METHOD_NAMES = List.of(Constants.Client.QUERY, Constants.Client.QUERY_ROW,
+            Constants.Client.EXECUTE);
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext ctx) {
+        if (Utils.hasCompilationErrors(ctx)) {
+            return;
+        }
+        RemoteMethodCallActionNode node = (RemoteMethodCallActionNode) ctx.node();
+        Optional<String> methodName = Utils.getClientRemoteMethodName(ctx, node);
+        if (methodName.isEmpty() || !METHOD_NAMES.contains(methodName.get())) {
+            return;
+        }
+        Optional<TemplateExpressionNode> template = Utils.getQueryTemplate(node);
+        if (template.isEmpty()) {
+            return;
+        }
+        List<SimpleNameReferenceNode> parameterReferences = new ArrayList<>();
+        for (Node content : template.get().content()) {
+            if (content instanceof InterpolationNode) {
+                collectNameReferences(((InterpolationNode) content).expression(), parameterReferences);
+            }
+        }
+        if (parameterReferences.isEmpty()) {
+            return;
+        }
+
+        Node loop = getEnclosingLoop(node);
+        while (loop != null) {
+            if (usesLoopVariable(ctx, loop, parameterReferences)) {
+                DiagnosticInfo diagnosticInfo = new DiagnosticInfo(POSTGRESQL_301.getCode(),
+                        POSTGRESQL_301.getMessage(), POSTGRESQL_301.getSeverity());
+                ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo, node.location()));
+                return;
+            }
+            loop = getEnclosingLoop(loop);
+        }
+    }
+
+    // Returns the closest loop which runs the given node in each of its iterations. The search stops at the
+    // enclosing function, as a function defined in a loop is not necessarily called in the loop.
+    private static Node getEnclosingLoop(Node node) {
+        NonTerminalNode parent = node.parent();
+        while (parent != null) {
+            switch (parent.kind()) {
+                case FUNCTION_DEFINITION:
+                case OBJECT_METHOD_DEFINITION:
+                case RESOURCE_ACCESSOR_DEFINITION:
+                case EXPLICIT_ANONYMOUS_FUNCTION_EXPRESSION:
+                case IMPLICIT_ANONYMOUS_FUNCTION_EXPRESSION:
+                    return null;
+                case FOREACH_STATEMENT:
+                    if (isWithin(node, ((ForEachStatementNode) parent).blockStatement())) {
+                        return parent;
+                    }
+                    break;
+                case WHILE_STATEMENT:
+                    if (isWithin(node, ((WhileStatementNode) parent).whileBody())) {
+                        return parent;
+                    }
+                    break;
+                case QUERY_ACTION:
+                    if (isWithin(node, ((QueryActionNode) parent).blockStatement())) {
+                        return parent;
+                    }
+                    break;
+                case QUERY_EXPRESSION:
+                    if (isWithin(node, ((QueryExpressionNode) parent).selectClause())) {
+                        return parent;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            parent = parent.parent();
+        }
+        return null;
+    }
+
+    private static boolean usesLoopVariable(SyntaxNodeAnalysisContext ctx, Node loop,
+                                            List<SimpleNameReferenceNode> references) {
+        Set<String> conditionVariables = new HashSet<>();
+        if (loop instanceof WhileStatementNode) {
+            List<SimpleNameReferenceNode> conditionReferences = new ArrayList<>();
+            collectNameReferences(((WhileStatementNode) loop).condition(), conditionReferences);
+            for (SimpleNameReferenceNode reference : conditionReferences) {
+                getVariableLocation(ctx, reference).ifPresent(location -> conditionVariables.add(key(location)));
+            }
+        }
+        for (SimpleNameReferenceNode reference : references) {
+            Optional<Location> location = getVariableLocation(ctx, reference);
+            if (location.isEmpty()) {
+                continue;
+            }
+            if (conditionVariables.contains(key(location.get())) || isDeclaredIn(location.get(), loop)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Optional<Location> getVariableLocation(SyntaxNodeAnalysisContext ctx,
+                                                          SimpleNameReferenceNode reference) {
+        Optional<Symbol> symbol = ctx.semanticModel().symbol(reference);
+        if (symbol.isEmpty() || symbol.get().kind() != SymbolKind.VARIABLE) {
+            return Optional.empty();
+        }
+        return symbol.get().getLocation();
+    }
+
+    private static boolean isDeclaredIn(Location location, Node loop) {
+        if (!location.lineRange().fileName().equals(loop.location().lineRange().fileName())) {
+            return false;
+        }
+        TextRange declaration = location.textRange();
+        TextRange range = loop.textRange();
+        return range.startOffset() <= declaration.startOffset() && declaration.endOffset() <= range.endOffset();
+    }
+
+    private static boolean isWithin(Node node, Node container) {
+        TextRange range = container.textRange();
+        return range.startOffset() <= node.textRange().startOffset()
+                && node.textRange().endOffset() <= range.endOffset();
+    }
+
+    private static String key(Location location) {
+        return location.lineRange().fileName() + ":" + location.textRange().startOffset();
+    }
+
+    private static void collectNameReferences(Node node, List<SimpleNameReferenceNode> references) {
+        if (node instanceof SimpleNameReferenceNode) {
+            references.add((SimpleNameReferenceNode) node);
+        } else if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                collectNameReferences(child, references);
+            }
+        }
+    }
+}
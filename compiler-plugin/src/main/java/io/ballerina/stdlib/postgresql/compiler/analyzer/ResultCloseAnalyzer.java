@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.compiler.analyzer;
+
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.BlockStatementNode;
+import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
+import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
+import io.ballerina.compiler.syntax.tree.ElseBlockNode;
+import io.ballerina.compiler.syntax.tree.ForEachStatementNode;
+import io.ballerina.compiler.syntax.tree.FromClauseNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.QueryPipelineNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.stdlib.postgresql.compiler.Constants;
+import io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode;
+import io.ballerina.stdlib.postgresql.compiler.Utils;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.Location;
+
+import java.util.Optional;
+
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_302;
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_303;
+
+/**
+ * Analyser for the stream returned by the `query` call and the `sql:ProcedureCallResult` returned by the `call` call
+ * of a `postgresql:Client`. Both hold a pooled connection until they are closed, or until the stream is fully
+ * consumed, so a warning is given when the result can go out of scope while it is still open.
+ *
+ * The result is followed through the statements of the block which declares its variable. It is released by a
+ * `close()` call, or for a stream by a `forEach()` call or a `foreach` loop or a query without a `limit` clause over
+ * it, as long as that statement is reached on all the paths. A `return`, `fail`, `check`, `break` or `continue`
+ * before the release leaves the block with the result open. A result that is returned, passed to a function or
+ * assigned elsewhere is handed over to the other code and is not followed further.
+ */
+public class ResultCloseAnalyzer implements AnalysisTask<SyntaxNodeAnalysisContext> {
+
+    private static final String CLOSE = "close";
+    private static final String FOR_EACH = "forEach";
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext ctx) {
+        if (Utils.hasCompilationErrors(ctx)) {
+            return;
+        }
+        RemoteMethodCallActionNode node = (RemoteMethodCallActionNode) ctx.node();
+        Optional<String> methodName = Utils.getClientRemoteMethodName(ctx, node);
+        if (methodName.isEmpty()) {
+            return;
+        }
+        PostgreSQLDiagnosticsCode code;
+        if (methodName.get().equals(Constants.Client.QUERY)) {
+            code = POSTGRESQL_302;
+        } else if (methodName.get().equals(Constants.Client.CALL)) {
+            code = POSTGRESQL_303;
+        } else {
+            return;
+        }
+        boolean isStream = code == POSTGRESQL_302;
+
+        Node result = node;
+        while (result.parent().kind() == SyntaxKind.CHECK_EXPRESSION
+                || result.parent().kind() == SyntaxKind.CHECK_ACTION
+                || result.parent().kind() == SyntaxKind.BRACED_EXPRESSION
+                || result.parent().kind() == SyntaxKind.BRACED_ACTION) {
+            result = result.parent();
+        }
+        NonTerminalNode parent = result.parent();
+        boolean open;
+        switch (parent.kind()) {
+            case ACTION_STATEMENT:
+            case CALL_STATEMENT:
+            case EXPRESSION_STATEMENT:
+                open = true;
+                break;
+            case ASSIGNMENT_STATEMENT:
+                open = parent.children().get(0).toSourceCode().trim().equals("_");
+                break;
+            case LOCAL_VAR_DECL:
+                open = isLeftOpen(ctx, (VariableDeclarationNode) parent, isStream);
+                break;
+            default:
+                // Consumed in place, e.g. by a `foreach` or a query, or handed over to other code.
+                open = false;
+                break;
+        }
+        if (open) {
+            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(code.getCode(), code.getMessage(), code.getSeverity());
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo, node.location()));
+        }
+    }
+
+    private static boolean isLeftOpen(SyntaxNodeAnalysisContext ctx, VariableDeclarationNode declaration,
+                                      boolean isStream) {
+        if (!(declaration.typedBindingPattern().bindingPattern() instanceof CaptureBindingPatternNode)) {
+            return false;
+        }
+        Optional<Symbol> symbol = ctx.semanticModel().symbol(declaration.typedBindingPattern().bindingPattern());
+        if (symbol.isEmpty() || symbol.get().getLocation().isEmpty()) {
+            return false;
+        }
+        NodeList<StatementNode> statements;
+        if (declaration.parent() instanceof BlockStatementNode) {
+            statements = ((BlockStatementNode) declaration.parent()).statements();
+        } else if (declaration.parent() instanceof FunctionBodyBlockNode) {
+            statements = ((FunctionBodyBlockNode) declaration.parent()).statements();
+        } else {
+            return false;
+        }
+        Variable variable = new Variable(ctx, symbol.get().getLocation().get(), isStream);
+
+        boolean exited = false;
+        boolean declared = false;
+        for (StatementNode statement : statements) {
+            if (!declared) {
+                declared = statement.textRange().startOffset() == declaration.textRange().startOffset();
+                continue;
+            }
+            if (isHandedOver(statement, variable)) {
+                return false;
+            }
+            if (isReleased(statement, variable)) {
+                return exited;
+            }
+            exited = exited || hasExit(statement, variable, false);
+        }
+        return true;
+    }
+
+    // Returns whether the statement closes or fully consumes the result on all of its paths.
+    private static boolean isReleased(Node statement, Variable variable) {
+        switch (statement.kind()) {
+            case IF_ELSE_STATEMENT:
+                IfElseStatementNode ifElse = (IfElseStatementNode) statement;
+                return ifElse.elseBody().isPresent() && isReleased(ifElse.ifBody(), variable)
+                        && isReleased(((ElseBlockNode) ifElse.elseBody().get()).elseBody(), variable);
+            case BLOCK_STATEMENT:
+                for (StatementNode child : ((BlockStatementNode) statement).statements()) {
+                    if (isReleased(child, variable)) {
+                        return true;
+                    }
+                    if (hasExit(child, variable, false)) {
+                        return false;
+                    }
+                }
+                return false;
+            case DO_STATEMENT:
+            case LOCK_STATEMENT:
+                return isReleased(statement.children().get(1), variable);
+            case FOREACH_STATEMENT:
+                ForEachStatementNode forEach = (ForEachStatementNode) statement;
+                if (variable.isStream && variable.refersTo(forEach.actionOrExpressionNode())) {
+                    return !hasExit(forEach.blockStatement(), variable, false);
+                }
+                return false;
+            case WHILE_STATEMENT:
+                return false;
+            default:
+                return hasRelease(statement, variable);
+        }
+    }
+
+    // Returns whether the node, which is not a compound statement, releases the result in one of its expressions.
+    private static boolean hasRelease(Node node, Variable variable) {
+        if (node.kind() == SyntaxKind.EXPLICIT_ANONYMOUS_FUNCTION_EXPRESSION
+                || node.kind() == SyntaxKind.IMPLICIT_ANONYMOUS_FUNCTION_EXPRESSION) {
+            return false;
+        }
+        if (node instanceof MethodCallExpressionNode) {
+            MethodCallExpressionNode methodCall = (MethodCallExpressionNode) node;
+            String name = methodCall.methodName().toSourceCode().trim();
+            if (variable.refersTo(methodCall.expression())
+                    && (name.equals(CLOSE) || variable.isStream && name.equals(FOR_EACH))) {
+                return true;
+            }
+        }
+        if (variable.isStream && node instanceof QueryPipelineNode) {
+            QueryPipelineNode pipeline = (QueryPipelineNode) node;
+            FromClauseNode fromClause = pipeline.fromClause();
+            if (variable.refersTo(fromClause.expression())) {
+                return pipeline.intermediateClauses().stream()
+                        .noneMatch(clause -> clause.kind() == SyntaxKind.LIMIT_CLAUSE);
+            }
+        }
+        if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                if (hasRelease(child, variable)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Returns whether the node can leave the block before its end with the result open. The exits after the result is
+    // released in a nested block are not counted. A `break` or `continue` of a loop inside the node
+    // only leaves that loop, and a `check` on a method call of the result itself does not leave the result open, as
+    // the result is closed when it returns an error.
+    private static boolean hasExit(Node node, Variable variable, boolean inLoop) {
+        switch (node.kind()) {
+            case EXPLICIT_ANONYMOUS_FUNCTION_EXPRESSION:
+            case IMPLICIT_ANONYMOUS_FUNCTION_EXPRESSION:
+                return false;
+            case RETURN_STATEMENT:
+            case FAIL_STATEMENT:
+                return true;
+            case BREAK_STATEMENT:
+            case CONTINUE_STATEMENT:
+                return !inLoop;
+            case BLOCK_STATEMENT:
+                for (StatementNode statement : ((BlockStatementNode) node).statements()) {
+                    if (isReleased(statement, variable)) {
+                        return false;
+                    }
+                    if (hasExit(statement, variable, inLoop)) {
+                        return true;
+                    }
+                }
+                return false;
+            case CHECK_EXPRESSION:
+            case CHECK_ACTION:
+                CheckExpressionNode check = (CheckExpressionNode) node;
+                if (check.checkKeyword().kind() == SyntaxKind.CHECK_KEYWORD
+                        && !(check.expression() instanceof MethodCallExpressionNode
+                        && variable.refersTo(((MethodCallExpressionNode) check.expression()).expression()))) {
+                    return true;
+                }
+                break;
+            case FOREACH_STATEMENT:
+            case WHILE_STATEMENT:
+                inLoop = true;
+                break;
+            default:
+                break;
+        }
+        if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                if (hasExit(child, variable, inLoop)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Returns whether the result is used other than as the target of a method call, a `foreach` or a query, e.g.
+    // returned, passed to a function, assigned to another variable or captured by a function.
+    private static boolean isHandedOver(Node node, Variable variable) {
+        if (node instanceof SimpleNameReferenceNode && variable.refersTo(node)) {
+            NonTerminalNode parent = node.parent();
+            switch (parent.kind()) {
+                case METHOD_CALL:
+                    return ((MethodCallExpressionNode) parent).expression() != node;
+                case FIELD_ACCESS:
+                    return false;
+                case FOREACH_STATEMENT:
+                    return ((ForEachStatementNode) parent).actionOrExpressionNode() != node;
+                case FROM_CLAUSE:
+                    return ((FromClauseNode) parent).expression() != node;
+                default:
+                    return true;
+            }
+        }
+        if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                if (isHandedOver(child, variable)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class Variable {
+
+        private final SyntaxNodeAnalysisContext ctx;
+        private final Location location;
+        private final boolean isStream;
+
+        private Variable(SyntaxNodeAnalysisContext ctx, Location location, boolean isStream) {
+            this.ctx = ctx;
+            this.location = location;
+            this.isStream = isStream;
+        }
+
+        private boolean refersTo(Node node) {
+            if (!(node instanceof SimpleNameReferenceNode)) {
+                return false;
+            }
+            Optional<Symbol> symbol = ctx.semanticModel().symbol(node);
+            if (symbol.isEmpty() || symbol.get().getLocation().isEmpty()) {
+                return false;
+            }
+            Location other = symbol.get().getLocation().get();
+            return other.lineRange().fileName().equals(location.lineRange().fileName())
+                    && other.textRange().startOffset() == location.textRange().startOffset();
+        }
+    }
+}
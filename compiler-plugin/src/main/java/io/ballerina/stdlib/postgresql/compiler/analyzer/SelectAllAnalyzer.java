@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.compiler.analyzer;
+
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.stdlib.postgresql.compiler.Constants;
+import io.ballerina.stdlib.postgresql.compiler.Utils;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_304;
+
+/**
+ * Analyser for the `query` and `queryRow` calls of a `postgresql:Client` whose query is a raw template starting with
+ * `SELECT * FROM` while the row type is a closed record. The columns which are not fields of the record are sent by
+ * the server and decoded by the driver only to be discarded, hence the explicit projection of the record fields is
+ * given with the diagnostic, and applied by the `SelectColumnsCodeAction`.
+ */
+public class SelectAllAnalyzer implements AnalysisTask<SyntaxNodeAnalysisContext> {
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext ctx) {
+        if (Utils.hasCompilationErrors(ctx)) {
+            return;
+        }
+        RemoteMethodCallActionNode node = (RemoteMethodCallActionNode) ctx.node();
+        Optional<String> methodName = Utils.getClientRemoteMethodName(ctx, node);
+        if (methodName.isEmpty() || !(methodName.get().equals(Constants.Client.QUERY)
+                || methodName.get().equals(Constants.Client.QUERY_ROW))) {
+            return;
+        }
+        Optional<TemplateExpressionNode> template = Utils.getQueryTemplate(node);
+        if (template.isEmpty() || Utils.getSelectAllRange(template.get()).isEmpty()) {
+            return;
+        }
+        Optional<List<String>> columns = Utils.getRowColumns(ctx.semanticModel(), node);
+        if (columns.isEmpty()) {
+            return;
+        }
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(POSTGRESQL_304.getCode(), POSTGRESQL_304.getMessage(),
+                POSTGRESQL_304.getSeverity());
+        ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo, node.location(),
+                String.join(", ", columns.get())));
+    }
+}
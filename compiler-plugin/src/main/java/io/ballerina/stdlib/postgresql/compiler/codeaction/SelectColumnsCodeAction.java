@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.compiler.codeaction;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
+import io.ballerina.projects.plugins.codeaction.CodeAction;
+import io.ballerina.projects.plugins.codeaction.CodeActionArgument;
+import io.ballerina.projects.plugins.codeaction.CodeActionContext;
+import io.ballerina.projects.plugins.codeaction.CodeActionExecutionContext;
+import io.ballerina.projects.plugins.codeaction.CodeActionInfo;
+import io.ballerina.projects.plugins.codeaction.DocumentEdit;
+import io.ballerina.stdlib.postgresql.compiler.Utils;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.stdlib.postgresql.compiler.PostgreSQLDiagnosticsCode.POSTGRESQL_304;
+
+/**
+ * Code action which replaces the `*` of a `SELECT * FROM` query with the columns of the closed row type, for the
+ * diagnostic given by the `SelectAllAnalyzer`.
+ */
+public class SelectColumnsCodeAction implements CodeAction {
+
+    private static final String NAME = "SELECT_ROW_TYPE_COLUMNS";
+    private static final String TITLE = "Select the columns of the row type";
+    private static final String RANGE_ARGUMENT = "select.all.range";
+    private static final String COLUMNS_ARGUMENT = "select.columns";
+
+    @Override
+    public List<String> supportedDiagnosticCodes() {
+        return List.of(POSTGRESQL_304.getCode());
+    }
+
+    @Override
+    public Optional<CodeActionInfo> codeActionInfo(CodeActionContext context) {
+        Diagnostic diagnostic = context.diagnostic();
+        if (diagnostic.location() == null) {
+            return Optional.empty();
+        }
+        SyntaxTree syntaxTree = context.currentDocument().syntaxTree();
+        TextDocument document = syntaxTree.textDocument();
+        LineRange lineRange = diagnostic.location().lineRange();
+        int start = document.textPositionFrom(lineRange.startLine());
+        int end = document.textPositionFrom(lineRange.endLine());
+        NonTerminalNode node = ((ModulePartNode) syntaxTree.rootNode())
+                .findNode(TextRange.from(start, end - start), true);
+        if (!(node instanceof RemoteMethodCallActionNode)) {
+            return Optional.empty();
+        }
+        RemoteMethodCallActionNode remoteMethodCall = (RemoteMethodCallActionNode) node;
+        Optional<TemplateExpressionNode> template = Utils.getQueryTemplate(remoteMethodCall);
+        if (template.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<TextRange> selectAllRange = Utils.getSelectAllRange(template.get());
+        Optional<List<String>> columns = Utils.getRowColumns(context.currentSemanticModel(), remoteMethodCall);
+        if (selectAllRange.isEmpty() || columns.isEmpty()) {
+            return Optional.empty();
+        }
+        LineRange range = LineRange.from(lineRange.fileName(),
+                document.linePositionFrom(selectAllRange.get().startOffset()),
+                document.linePositionFrom(selectAllRange.get().endOffset()));
+        return Optional.of(CodeActionInfo.from(TITLE, List.of(CodeActionArgument.from(RANGE_ARGUMENT, range),
+                CodeActionArgument.from(COLUMNS_ARGUMENT, String.join(", ", columns.get())))));
+    }
+
+    @Override
+    public List<DocumentEdit> execute(CodeActionExecutionContext context) {
+        LineRange range = null;
+        String columns = null;
+        for (CodeActionArgument argument : context.arguments()) {
+            if (RANGE_ARGUMENT.equals(argument.key())) {
+                range = argument.valueAs(LineRange.class);
+            } else if (COLUMNS_ARGUMENT.equals(argument.key())) {
+                columns = argument.valueAs(String.class);
+            }
+        }
+        if (range == null || columns == null) {
+            return Collections.emptyList();
+        }
+        SyntaxTree syntaxTree = context.currentDocument().syntaxTree();
+        TextDocument document = syntaxTree.textDocument();
+        int start = document.textPositionFrom(range.startLine());
+        int end = document.textPositionFrom(range.endLine());
+        TextEdit edit = TextEdit.from(TextRange.from(start, end - start), columns);
+        TextDocumentChange change = TextDocumentChange.from(new TextEdit[]{edit});
+        return List.of(new DocumentEdit(context.fileUri(), SyntaxTree.from(syntaxTree, change)));
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/io;
+import ballerina/time;
+import ballerinax/postgresql;
+import ballerinax/postgresql.driver as _;
+
+// The connection details of the local PostgreSQL server
+configurable string dbHost = "localhost";
+configurable string dbUsername = "postgres";
+configurable string dbPassword = "postgres";
+configurable string dbName = "postgres";
+configurable int dbPort = 5432;
+
+// The scenario to run, which is one of `execute_operation`, `query_operation` and `stored_procedures`
+configurable string scenario = "query_operation";
+// The number of concurrent users, each of which runs the operation of the scenario in a loop
+configurable int concurrency = 60;
+// Time (in seconds) the operations are measured, after the warmup
+configurable decimal duration = 60;
+// Time (in seconds) the operations are run before measuring
+configurable decimal warmup = 10;
+// The allowed regression (in percent) of the throughput, the latencies, and the error rate against the baseline
+configurable float threshold = 10;
+// Whether to record the results of the run as the new baseline of the scenario
+configurable boolean updateBaseline = false;
+// The directory in which a directory is created for the results of each scenario
+configurable string resultsDir = "target/results";
+// The directory which has the reference baseline of each scenario, which is used until a baseline is recorded
+configurable string baselineDir = "baselines";
+
+final postgresql:Client dbClient = check new (host = dbHost, username = dbUsername, password = dbPassword,
+    port = dbPort, database = dbName,
+    connectionPool = {maxOpenConnections: concurrency, minIdleConnections: concurrency}
+);
+
+type WorkerResult record {|
+    float[] latencies;
+    int errors;
+    int bytes;
+|};
+
+public function main() returns error? {
+    if concurrency < 1 || duration <= 0d || warmup < 0d {
+        return error("The 'concurrency' and the 'duration' should be greater than zero, and the 'warmup' should " +
+            "not be negative");
+    }
+    Scenario loadScenario = check getScenario(scenario);
+    Setup setup = loadScenario.setup;
+    check setup();
+    io:println(string `Running ${scenario} with ${concurrency} users for ${duration}s after a warmup of ${warmup}s`);
+
+    decimal measureFrom = time:monotonicNow() + warmup;
+    decimal measureUntil = measureFrom + duration;
+    future<WorkerResult>[] workers = [];
+    foreach int i in 0 ..< concurrency {
+        workers.push(start runWorker(loadScenario.operation, loadScenario.maxId, i, measureFrom, measureUntil));
+    }
+    float[] latencies = [];
+    int errors = 0;
+    int bytes = 0;
+    foreach future<WorkerResult> worker in workers {
+        WorkerResult result = wait worker;
+        latencies.push(...result.latencies);
+        errors += result.errors;
+        bytes += result.bytes;
+    }
+    check dbClient.close();
+
+    string[] summary = summarize(scenario, latencies, errors, bytes, duration, concurrency);
+    check report(resultsDir, baselineDir, scenario, summary, threshold, updateBaseline);
+}
+
+isolated function runWorker(Operation operation, int maxId, int worker, decimal measureFrom, decimal measureUntil)
+        returns WorkerResult {
+    float[] latencies = [];
+    int errors = 0;
+    int bytes = 0;
+    int iteration = worker;
+    while true {
+        decimal startedAt = time:monotonicNow();
+        if startedAt >= measureUntil {
+            break;
+        }
+        int|error size = operation(iteration % maxId + 1);
+        iteration += 1;
+        if startedAt < measureFrom {
+            continue;
+        }
+        latencies.push(<float>(time:monotonicNow() - startedAt) * 1000.0);
+        if size is int {
+            bytes += size;
+        } else {
+            errors += 1;
+        }
+    }
+    return {latencies, errors, bytes};
+}
@@ -0,0 +1,160 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/file;
+import ballerina/io;
+import ballerina/time;
+
+// The header of the `summary.csv` files written by the JMeter based load tests
+final string[] & readonly SUMMARY_HEADER = ["Label", "# Samples", "Average", "Median", "90% Line", "95% Line",
+    "99% Line", "Min", "Max", "Error %", "Throughput", "Received KB/sec", "Std. Dev.", "Date", "Payload", "Users"];
+
+const int MEDIAN = 3;
+const int LINE_90 = 4;
+const int LINE_99 = 6;
+const int ERROR_PERCENTAGE = 9;
+const int THROUGHPUT = 10;
+
+# Creates a row of the summary of a run, in the format of the `summary.csv` files. The latencies are in
+# milliseconds and the throughput is in operations per second.
+#
+# + label - The label of the row, which is the name of the scenario
+# + latencies - The latency of each operation in milliseconds
+# + errors - The number of the operations which failed
+# + bytes - The total size of the responses in bytes
+# + duration - Time (in seconds) the operations are measured
+# + users - The number of concurrent users
+# + return - The row of the summary
+isolated function summarize(string label, float[] latencies, int errors, int bytes, decimal duration, int users)
+        returns string[] {
+    int samples = latencies.length();
+    float[] sorted = latencies.sort();
+    float seconds = <float>duration;
+    float average = samples == 0 ? 0.0 : float:sum(...sorted) / <float>samples;
+    float variance = 0.0;
+    foreach float latency in sorted {
+        variance += (latency - average) * (latency - average);
+    }
+    float standardDeviation = samples == 0 ? 0.0 : float:sqrt(variance / <float>samples);
+    float errorPercentage = samples == 0 ? 0.0 : <float>errors * 100.0 / <float>samples;
+    return [
+        label,
+        samples.toString(),
+        average.toFixedString(2),
+        percentile(sorted, 50).toFixedString(2),
+        percentile(sorted, 90).toFixedString(2),
+        percentile(sorted, 95).toFixedString(2),
+        percentile(sorted, 99).toFixedString(2),
+        (samples == 0 ? 0.0 : sorted[0]).toFixedString(2),
+        (samples == 0 ? 0.0 : sorted[samples - 1]).toFixedString(2),
+        errorPercentage.toFixedString(2) + "%",
+        (<float>samples / seconds).toFixedString(1),
+        (<float>bytes / 1024.0 / seconds).toFixedString(1),
+        standardDeviation.toFixedString(2),
+        time:utcNow()[0].toString(),
+        "0",
+        users.toString()
+    ];
+}
+
+# Returns the nearest-rank percentile of the sorted latencies.
+#
+# + sorted - The latencies sorted in the ascending order
+# + percentage - The percentage of the latencies which are less than or equal to the percentile
+# + return - The percentile
+isolated function percentile(float[] sorted, int percentage) returns float {
+    if sorted.length() == 0 {
+        return 0.0;
+    }
+    int rank = <int>float:ceiling(<float>(percentage * sorted.length()) / 100.0);
+    return sorted[rank < 1 ? 0 : rank - 1];
+}
+
+# Appends the summary to the `local_summary.csv` of the scenario and compares it with the baseline of the scenario,
+# which is the `local_baseline.csv` recorded on the machine, or the reference baseline committed in the baseline
+# directory if no baseline is recorded. The summary is recorded as the baseline if there is no baseline or if
+# `updateBaseline` is set.
+#
+# + resultsDir - The directory in which a directory is created for the results of each scenario
+# + baselineDir - The directory which has the reference baseline of each scenario
+# + scenario - The name of the scenario
+# + summary - The row of the summary
+# + threshold - The allowed regression (in percent) of the throughput, the latencies, and the error rate
+# + updateBaseline - Whether to record the summary as the new baseline
+# + return - An error if the run regressed past the threshold, or if the results cannot be written
+isolated function report(string resultsDir, string baselineDir, string scenario, string[] summary, float threshold,
+        boolean updateBaseline) returns error? {
+    string results = check file:joinPath(resultsDir, scenario);
+    if !check file:test(results, file:EXISTS) {
+        check file:createDir(results, file:RECURSIVE);
+    }
+    string summaryFile = check file:joinPath(results, "local_summary.csv");
+    string localBaselineFile = check file:joinPath(results, "local_baseline.csv");
+    string referenceBaselineFile = check file:joinPath(baselineDir, scenario + ".csv");
+    io:println(string:'join(",", ...SUMMARY_HEADER));
+    io:println(string:'join(",", ...summary));
+
+    if check file:test(summaryFile, file:EXISTS) {
+        check io:fileWriteCsv(summaryFile, [summary], io:APPEND);
+    } else {
+        check io:fileWriteCsv(summaryFile, [SUMMARY_HEADER, summary]);
+    }
+    string baselineFile = localBaselineFile;
+    if !updateBaseline && !check file:test(localBaselineFile, file:EXISTS) {
+        baselineFile = referenceBaselineFile;
+    }
+    if updateBaseline || !check file:test(baselineFile, file:EXISTS) {
+        check io:fileWriteCsv(localBaselineFile, [SUMMARY_HEADER, summary]);
+        io:println(string `Stored the results as the baseline in ${localBaselineFile}`);
+        return;
+    }
+    string[][] baselineRows = check io:fileReadCsv(baselineFile, 1);
+    if baselineRows.length() == 0 {
+        return error(string `The baseline ${baselineFile} does not have a summary row`);
+    }
+    string[] regressions = check compare(baselineRows[baselineRows.length() - 1], summary, threshold);
+    if regressions.length() > 0 {
+        return error(string `${scenario} regressed past the threshold of ${threshold}% against ${baselineFile}: ` +
+            string:'join("; ", ...regressions));
+    }
+    io:println(string `${scenario} is within the threshold of ${threshold}% of the baseline`);
+}
+
+isolated function compare(string[] baseline, string[] current, float threshold) returns string[]|error {
+    string[] regressions = [];
+    float baselineThroughput = check float:fromString(baseline[THROUGHPUT]);
+    float currentThroughput = check float:fromString(current[THROUGHPUT]);
+    if currentThroughput < baselineThroughput * (100.0 - threshold) / 100.0 {
+        regressions.push(string `throughput ${current[THROUGHPUT]}/s is lower than ${baseline[THROUGHPUT]}/s`);
+    }
+    foreach int column in [MEDIAN, LINE_90, LINE_99] {
+        float baselineLatency = check float:fromString(baseline[column]);
+        float currentLatency = check float:fromString(current[column]);
+        if currentLatency > baselineLatency * (100.0 + threshold) / 100.0 {
+            regressions.push(string `${SUMMARY_HEADER[column]} ${current[column]}ms is higher than ` +
+                string `${baseline[column]}ms`);
+        }
+    }
+    float baselineErrors = check float:fromString(baseline[ERROR_PERCENTAGE].substring(0,
+            baseline[ERROR_PERCENTAGE].length() - 1));
+    float currentErrors = check float:fromString(current[ERROR_PERCENTAGE].substring(0,
+            current[ERROR_PERCENTAGE].length() - 1));
+    if currentErrors > baselineErrors * (100.0 + threshold) / 100.0 {
+        regressions.push(string `error rate ${current[ERROR_PERCENTAGE]} is higher than ${baseline[ERROR_PERCENTAGE]}`);
+    }
+    return regressions;
+}
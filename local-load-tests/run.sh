@@ -0,0 +1,39 @@
+#!/bin/bash -e
+# Copyright 2024 WSO2 LLC. (http://wso2.org)
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+# ----------------------------------------------------------------------------
+# Runs the load test scenarios against a local PostgreSQL server
+# ----------------------------------------------------------------------------
+# Usage: ./run.sh [scenario...] [-- -C<configurable>=<value>...]
+# e.g. ./run.sh query_operation -- -Cconcurrency=20 -Cduration=30.0
+set -e
+cd "$(dirname "$0")"
+
+scenarios=()
+while [ $# -gt 0 ] && [ "$1" != "--" ]; do
+    scenarios+=("$1")
+    shift
+done
+[ "$1" == "--" ] && shift
+if [ ${#scenarios[@]} -eq 0 ]; then
+    scenarios=(execute_operation query_operation stored_procedures)
+fi
+
+bal build
+failed=0
+for scenario in "${scenarios[@]}"; do
+    java -jar target/bin/local_load_tests.jar -Cscenario="$scenario" "$@" || failed=1
+done
+exit $failed
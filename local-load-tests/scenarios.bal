@@ -0,0 +1,137 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/sql;
+
+# Runs an operation of a scenario with the given ID, and returns the size of the response in bytes.
+type Operation isolated function (int id) returns int|error;
+
+# Creates the tables and the procedures used by the operation of a scenario, and inserts the rows.
+type Setup isolated function () returns error?;
+
+# Represents a load test scenario, which is the database work done by a request of the service of the scenario in
+# the `load-tests` directory.
+#
+# + setup - The setup of the database for the scenario
+# + operation - The operation run by each user in a loop
+# + maxId - The maximum ID passed to the operation, which is the maximum of the random ID of the JMeter script
+type Scenario record {|
+    Setup setup;
+    Operation operation;
+    int maxId;
+|};
+
+type Customer record {
+    int customerId;
+    string lastName;
+    string firstName;
+    int registrationId;
+    float creditLimit;
+    string country;
+};
+
+isolated function getScenario(string name) returns Scenario|error {
+    match name {
+        "execute_operation" => {
+            return {setup: setupExecuteOperation, operation: updateCreditLimit, maxId: 15};
+        }
+        "query_operation" => {
+            return {setup: setupQueryOperation, operation: queryCustomer, maxId: 8};
+        }
+        "stored_procedures" => {
+            return {setup: setupStudents, operation: callGetCount, maxId: 9};
+        }
+    }
+    return error(string `Unknown scenario '${name}'. The scenario should be one of execute_operation, ` +
+        "query_operation and stored_procedures");
+}
+
+isolated function setupExecuteOperation() returns error? {
+    return setupCustomers(14);
+}
+
+isolated function setupQueryOperation() returns error? {
+    return setupCustomers(8);
+}
+
+isolated function setupCustomers(int count) returns error? {
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS Customers`);
+    _ = check dbClient->execute(`
+        CREATE TABLE Customers (
+            customerId SERIAL,
+            firstName VARCHAR(300),
+            lastName  VARCHAR(300),
+            registrationID INT,
+            creditLimit FLOAT,
+            country  VARCHAR(300)
+        );
+    `);
+    foreach int i in 1 ... count {
+        if i % 2 == 1 {
+            _ = check dbClient->execute(`
+                INSERT INTO Customers (firstName, lastName, registrationID, creditLimit, country)
+                VALUES ('Peter', 'Stuart', ${i}, 5000.75, 'USA')`);
+        } else {
+            _ = check dbClient->execute(`
+                INSERT INTO Customers (firstName, lastName, registrationID, creditLimit, country)
+                VALUES ('Dan', 'Brown', ${i}, 10000, 'UK')`);
+        }
+    }
+}
+
+isolated function setupStudents() returns error? {
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS Student`);
+    _ = check dbClient->execute(`CREATE TABLE Student
+            (id bigint, age bigint, name text,
+            PRIMARY KEY (id))`);
+    string[] names = ["George", "Tom", "Michael"];
+    int[] ages = [24, 25, 35];
+    foreach int i in 1 ... 9 {
+        _ = check dbClient->execute(`INSERT INTO Student(id, age, name)
+            VALUES (${i}, ${ages[(i - 1) % 3]}, ${names[(i - 1) % 3]})`);
+    }
+    _ = check dbClient->execute(`CREATE OR REPLACE PROCEDURE GetCount
+        (INOUT pID bigint, INOUT totalCount bigint) language plpgsql as $$
+        BEGIN
+        SELECT age INTO pID FROM Student WHERE id = pID;
+        SELECT COUNT(*) INTO totalCount FROM Student;
+        END; $$ `);
+}
+
+isolated function updateCreditLimit(int id) returns int|error {
+    float newCreditLimit = <float>(id * 1000) + 0.25;
+    sql:ExecutionResult result = check dbClient->execute(
+        `UPDATE Customers SET creditLimit = ${newCreditLimit} WHERE customerId = ${id}`);
+    return (result.affectedRowCount ?: 0).toString().length();
+}
+
+isolated function queryCustomer(int id) returns int|error {
+    Customer customer = check dbClient->queryRow(`SELECT * FROM Customers WHERE customerId = ${id}`);
+    return customer.toString().length();
+}
+
+isolated function callGetCount(int id) returns int|error {
+    sql:InOutParameter personId = new (id);
+    sql:InOutParameter totalCount = new (0);
+    sql:ProcedureCallResult result = check dbClient->call(`CALL GetCount(${personId}, ${totalCount})`);
+    record {} response = {
+        "age": check personId.get(int),
+        "totalCount": check totalCount.get(int)
+    };
+    check result.close();
+    return response.toString().length();
+}
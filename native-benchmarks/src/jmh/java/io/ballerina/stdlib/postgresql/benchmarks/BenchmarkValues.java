@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD_UTC_OFFSET;
+import static io.ballerina.stdlib.time.util.Constants.DATE_RECORD_DAY;
+import static io.ballerina.stdlib.time.util.Constants.DATE_RECORD_MONTH;
+import static io.ballerina.stdlib.time.util.Constants.DATE_RECORD_YEAR;
+import static io.ballerina.stdlib.time.util.Constants.TIME_OF_DAY_RECORD_HOUR;
+import static io.ballerina.stdlib.time.util.Constants.TIME_OF_DAY_RECORD_MINUTE;
+import static io.ballerina.stdlib.time.util.Constants.TIME_OF_DAY_RECORD_SECOND;
+import static io.ballerina.stdlib.time.util.Constants.ZONE_OFFSET_RECORD_HOUR;
+import static io.ballerina.stdlib.time.util.Constants.ZONE_OFFSET_RECORD_MINUTE;
+
+/**
+ * This class creates the Ballerina values used as the inputs of the benchmarks. The records are created with
+ * synthetic record types, which have the fields of the `postgresql` record types, so that the values can be created
+ * without loading the compiled Ballerina module.
+ *
+ * @since 1.13.2
+ */
+public final class BenchmarkValues {
+
+    private static final Module MODULE = new Module("ballerinax", "postgresql", "1");
+    private static final Map<String, RecordType> RECORD_TYPES = new LinkedHashMap<>();
+
+    private BenchmarkValues() {
+    }
+
+    /**
+     * Creates a record of a synthetic record type with the given fields.
+     *
+     * @param typeName       the name of the record type
+     * @param namesAndValues the field names, each followed by the value of the field
+     * @return the record
+     */
+    public static BMap<BString, Object> record(String typeName, Object... namesAndValues) {
+        RecordType type;
+        synchronized (RECORD_TYPES) {
+            type = RECORD_TYPES.computeIfAbsent(typeName, k -> createRecordType(k, namesAndValues));
+        }
+        BMap<BString, Object> record = ValueCreator.createMapValue(type);
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            record.put(StringUtils.fromString((String) namesAndValues[i]), namesAndValues[i + 1]);
+        }
+        return record;
+    }
+
+    /**
+     * Creates an array of the given values.
+     *
+     * @param values the values
+     * @return the array
+     */
+    public static BArray array(Object... values) {
+        BArray array = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        for (int i = 0; i < values.length; i++) {
+            array.add(i, values[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Creates an array which repeats the given value.
+     *
+     * @param value the value
+     * @param size  the number of elements
+     * @return the array
+     */
+    public static BArray repeat(Object value, int size) {
+        Object[] values = new Object[size];
+        Arrays.fill(values, value);
+        return array(values);
+    }
+
+    public static BString string(String value) {
+        return StringUtils.fromString(value);
+    }
+
+    public static BDecimal decimal(String value) {
+        return ValueCreator.createDecimalValue(value);
+    }
+
+    public static BMap<BString, Object> point(String x, String y) {
+        return record("Point", Constants.Geometric.X, decimal(x), Constants.Geometric.Y, decimal(y));
+    }
+
+    public static BMap<BString, Object> range(Object lower, Object upper) {
+        return record("Range", Constants.Range.UPPER, upper, Constants.Range.LOWER, lower,
+                Constants.Range.UPPERINCLUSIVE, Boolean.FALSE, Constants.Range.LOWERINCLUSIVE, Boolean.TRUE);
+    }
+
+    /**
+     * Creates a `time:Civil` record, with a UTC offset if the offset hours are given.
+     *
+     * @param day         the day of the month
+     * @param hour        the hour
+     * @param offsetHours the hours of the UTC offset, or `null` if the value has no offset
+     * @return the record
+     */
+    public static BMap<BString, Object> civil(long day, long hour, Long offsetHours) {
+        if (offsetHours == null) {
+            return record("Civil", DATE_RECORD_YEAR, 2024L, DATE_RECORD_MONTH, 5L, DATE_RECORD_DAY, day,
+                    TIME_OF_DAY_RECORD_HOUR, hour, TIME_OF_DAY_RECORD_MINUTE, 30L, TIME_OF_DAY_RECORD_SECOND,
+                    decimal("15.25"));
+        }
+        BMap<BString, Object> offset = record("ZoneOffset", ZONE_OFFSET_RECORD_HOUR, offsetHours,
+                ZONE_OFFSET_RECORD_MINUTE, 30L);
+        return record("CivilWithOffset", DATE_RECORD_YEAR, 2024L, DATE_RECORD_MONTH, 5L, DATE_RECORD_DAY, day,
+                TIME_OF_DAY_RECORD_HOUR, hour, TIME_OF_DAY_RECORD_MINUTE, 30L, TIME_OF_DAY_RECORD_SECOND,
+                decimal("15.25"), CIVIL_RECORD_UTC_OFFSET, offset);
+    }
+
+    public static BMap<BString, Object> date(long day) {
+        return record("Date", DATE_RECORD_YEAR, 2024L, DATE_RECORD_MONTH, 5L, DATE_RECORD_DAY, day);
+    }
+
+    private static RecordType createRecordType(String typeName, Object[] namesAndValues) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            String fieldName = (String) namesAndValues[i];
+            fields.put(fieldName, TypeCreator.createField(PredefinedTypes.TYPE_ANYDATA, fieldName,
+                    SymbolFlags.REQUIRED));
+        }
+        return TypeCreator.createRecordType(typeName, MODULE, 0, fields, null, true, 0);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import io.ballerina.stdlib.postgresql.utils.ConversionHelperUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark measures the throughput and the allocation of the helpers of
+ * {@link ConversionHelperUtils} which are called for each range and record value.
+ *
+ * @since 1.13.2
+ */
+public class ConversionHelperUtilsBenchmark {
+
+    /**
+     * The text of a range returned by the server.
+     */
+    @State(Scope.Benchmark)
+    public static class RangeState {
+
+        @Param({"[1,100)", "[\"2024-05-01 08:30:15.25\",\"2024-05-02 18:30:15.25\")", "(,100]"})
+        public String range;
+    }
+
+    /**
+     * A record parameter of a PostgreSQL specific type.
+     */
+    @State(Scope.Benchmark)
+    public static class RecordState {
+
+        @Param({"point", "interval", "tstzrange"})
+        public String type;
+
+        private Object record;
+
+        @Setup
+        public void setup() {
+            record = ParameterConverters.get(type).createValue();
+        }
+    }
+
+    @Benchmark
+    public Object convertRangeToMap(RangeState state) {
+        return ConversionHelperUtils.convertRangeToMap(state.range);
+    }
+
+    @Benchmark
+    public Object getRecordType(RecordState state) {
+        return ConversionHelperUtils.getRecordType(state.record);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark measures the throughput and the allocation of converting a single parameter value of each
+ * PostgreSQL specific type with {@link io.ballerina.stdlib.postgresql.utils.ConverterUtils}.
+ *
+ * @since 1.13.2
+ */
+@State(Scope.Benchmark)
+public class ConverterUtilsBenchmark {
+
+    @Param({"inet", "cidr", "macaddr", "macaddr8", "point", "line", "lseg", "box", "path", "polygon", "circle", "uuid",
+            "tsvector", "tsquery", "json", "jsonb", "jsonpath", "interval", "int4range", "int8range", "numrange",
+            "tsrange", "tstzrange", "daterange", "pg_lsn", "bit", "bitstring", "varbit", "money", "regclass",
+            "regconfig", "regdictionary", "regnamespace", "regoper", "regoperator", "regproc", "regprocedure",
+            "regrole", "regtype", "xml", "timetz", "enum", "custom"})
+    public String type;
+
+    private ParameterConverters.Conversion conversion;
+    private Object value;
+
+    @Setup
+    public void setup() {
+        ParameterConverters.Converter converter = ParameterConverters.get(type);
+        conversion = converter.getScalar();
+        value = converter.createValue();
+    }
+
+    @Benchmark
+    public Object convert() throws Exception {
+        return conversion.convert(value);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.utils.ConverterUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues.array;
+import static io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues.civil;
+import static io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues.date;
+import static io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues.decimal;
+import static io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues.point;
+import static io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues.range;
+import static io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues.record;
+import static io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues.string;
+
+/**
+ * This class lists the parameter converters of {@link ConverterUtils} with a representative value of each, keyed by
+ * the PostgreSQL type name. The names are the values of the `type` parameter of the converter benchmarks.
+ *
+ * @since 1.13.2
+ */
+public final class ParameterConverters {
+
+    /**
+     * Converts a Ballerina value to the value sent to the driver.
+     */
+    @FunctionalInterface
+    public interface Conversion {
+        Object convert(Object value) throws Exception;
+    }
+
+    /**
+     * Represents the scalar and the array converters of a type.
+     */
+    public static final class Converter {
+
+        private final Supplier<Object> value;
+        private final Conversion scalar;
+        private final Conversion array;
+
+        Converter(Supplier<Object> value, Conversion scalar, Conversion array) {
+            this.value = value;
+            this.scalar = scalar;
+            this.array = array;
+        }
+
+        public Object createValue() {
+            return value.get();
+        }
+
+        public Conversion getScalar() {
+            return scalar;
+        }
+
+        public Conversion getArray() {
+            return array;
+        }
+    }
+
+    private static final Map<String, Converter> CONVERTERS = new LinkedHashMap<>();
+
+    static {
+        add("inet", () -> string("192.168.0.1/24"), ConverterUtils::convertInet, ConverterUtils::convertInetArray);
+        add("cidr", () -> string("::ffff:1.2.3.0/120"), ConverterUtils::convertCidr,
+                ConverterUtils::convertCidrArray);
+        add("macaddr", () -> string("08:00:2b:01:02:03"), ConverterUtils::convertMac,
+                ConverterUtils::convertMacAddrArray);
+        add("macaddr8", () -> string("08:00:2b:01:02:03:04:05"), ConverterUtils::convertMac8,
+                ConverterUtils::convertMacAddr8Array);
+        add("point", () -> point("1.5", "2.5"), ConverterUtils::convertPoint, ConverterUtils::convertPointArray);
+        add("line", () -> record("Line", Constants.Geometric.A, decimal("1"), Constants.Geometric.B, decimal("2"),
+                Constants.Geometric.C, decimal("3")), ConverterUtils::convertLine, ConverterUtils::convertLineArray);
+        add("lseg", () -> record("LineSegment", Constants.Geometric.X1, decimal("1"), Constants.Geometric.Y1,
+                decimal("1"), Constants.Geometric.X2, decimal("2"), Constants.Geometric.Y2, decimal("2")),
+                ConverterUtils::convertLseg, ConverterUtils::convertLineSegArray);
+        add("box", () -> record("Box", Constants.Geometric.X1, decimal("1"), Constants.Geometric.Y1, decimal("1"),
+                Constants.Geometric.X2, decimal("2"), Constants.Geometric.Y2, decimal("2")),
+                ConverterUtils::convertBox, ConverterUtils::convertBoxArray);
+        add("path", () -> record("Path", Constants.Geometric.POINTS, array(point("1", "1"), point("2", "2"),
+                point("3", "1")), Constants.Geometric.OPEN, Boolean.TRUE), ConverterUtils::convertPath,
+                ConverterUtils::convertPathArray);
+        add("polygon", () -> array(point("1", "1"), point("2", "2"), point("3", "1")),
+                ConverterUtils::convertPolygon, ConverterUtils::convertPolygonArray);
+        add("circle", () -> record("Circle", Constants.Geometric.X, decimal("1"), Constants.Geometric.Y,
+                decimal("1"), Constants.Geometric.R, decimal("5")), ConverterUtils::convertCircle,
+                ConverterUtils::convertCircleArray);
+        add("uuid", () -> string("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11"), ConverterUtils::convertUuid,
+                ConverterUtils::convertUuidArray);
+        add("tsvector", () -> string("a fat cat sat on a mat and ate a fat rat"), ConverterUtils::convertTsVector,
+                ConverterUtils::convertTsVectotArray);
+        add("tsquery", () -> string("fat & rat"), ConverterUtils::convertTsQuery,
+                ConverterUtils::convertTsQueryArray);
+        add("json", () -> string("{\"id\": 1, \"name\": \"ballerina\", \"tags\": [\"a\", \"b\"]}"),
+                ConverterUtils::convertJson, ConverterUtils::convertJsonArray);
+        add("jsonb", () -> string("{\"id\": 1, \"name\": \"ballerina\", \"tags\": [\"a\", \"b\"]}"),
+                ConverterUtils::convertJsonb, ConverterUtils::convertJsonbArray);
+        add("jsonpath", () -> string("$.\"id\""), ConverterUtils::convertJsonPath,
+                ConverterUtils::convertJsonPathArray);
+        add("interval", () -> record("Interval", Constants.Interval.YEARS, 1L, Constants.Interval.MONTHS, 2L,
+                Constants.Interval.DAYS, 3L, Constants.Interval.HOURS, 4L, Constants.Interval.MINUTES, 5L,
+                Constants.Interval.SECONDS, decimal("6.5")), ConverterUtils::convertInterval,
+                ConverterUtils::convertIntervalArray);
+        add("int4range", () -> range(1L, 100L), ConverterUtils::convertInt4Range,
+                ConverterUtils::convertInt4RangeArray);
+        add("int8range", () -> range(1L, 10000000000L), ConverterUtils::convertInt8Range,
+                ConverterUtils::convertInt8RangeArray);
+        add("numrange", () -> range(decimal("0.5"), decimal("99.5")), ConverterUtils::convertNumRange,
+                ConverterUtils::convertNumRangeArray);
+        add("tsrange", () -> range(civil(1, 8, null), civil(2, 18, null)), ConverterUtils::convertTsRange,
+                ConverterUtils::convertTsRangeArray);
+        add("tstzrange", () -> range(civil(1, 8, 5L), civil(2, 18, 5L)), ConverterUtils::convertTsTzRange,
+                ConverterUtils::convertTsTzRangeArray);
+        add("daterange", () -> range(date(1), date(20)), ConverterUtils::convertDateRange,
+                ConverterUtils::convertDateRangeArray);
+        add("pg_lsn", () -> string("16/B374D848"), ConverterUtils::convertPglsn, ConverterUtils::convertPglsnArray);
+        add("bit", () -> Boolean.TRUE, ConverterUtils::convertBit, ConverterUtils::convertBitArray);
+        add("bitstring", () -> string("10110"), ConverterUtils::convertBitn, ConverterUtils::convertBitStringArray);
+        add("varbit", () -> string("1011001"), ConverterUtils::convertVarBit,
+                ConverterUtils::convertVarBitStringArray);
+        add("money", () -> decimal("1234.56"), ConverterUtils::convertMoney, ConverterUtils::convertMoneyArray);
+        add("regclass", () -> string("pg_type"), ConverterUtils::convertRegClass,
+                ConverterUtils::convertRegClassArray);
+        add("regconfig", () -> string("english"), ConverterUtils::convertRegConfig,
+                ConverterUtils::convertRegConfigArray);
+        add("regdictionary", () -> string("simple"), ConverterUtils::convertRegDictionary,
+                ConverterUtils::convertRegDictionaryArray);
+        add("regnamespace", () -> string("pg_catalog"), ConverterUtils::convertRegNamespace,
+                ConverterUtils::convertRegNamespaceArray);
+        add("regoper", () -> string("!"), ConverterUtils::convertRegOper, ConverterUtils::convertRegOperArray);
+        add("regoperator", () -> string("*(integer,integer)"), ConverterUtils::convertRegOperator,
+                ConverterUtils::convertRegOperatorArray);
+        add("regproc", () -> string("now"), ConverterUtils::convertRegProc, ConverterUtils::convertRegProcArray);
+        add("regprocedure", () -> string("sum(integer)"), ConverterUtils::convertRegProcedure,
+                ConverterUtils::convertRegProcedureArray);
+        add("regrole", () -> string("postgres"), ConverterUtils::convertRegRole,
+                ConverterUtils::convertRegRoleArray);
+        add("regtype", () -> string("integer"), ConverterUtils::convertRegType,
+                ConverterUtils::convertRegTypeArray);
+        add("xml", () -> string("<book><title>Ballerina</title></book>"), ConverterUtils::convertXml,
+                ConverterUtils::convertXmlArray);
+        add("timetz", () -> string("04:05:06.789-08"), ConverterUtils::convertTimetz, null);
+        add("enum", () -> record("Enum", Constants.Custom.TYPE, string("value"), Constants.Custom.VALUE,
+                record("EnumRecord", Constants.Custom.VALUE, string("value1"))), ConverterUtils::convertEnum, null);
+        add("custom", () -> record("Custom", Constants.Custom.TYPE, string("complex"), Constants.Custom.VALUES,
+                record("CustomRecord", Constants.Custom.VALUES, array(decimal("1.5"), decimal("2.5")))),
+                ConverterUtils::convertCustomType, null);
+    }
+
+    private ParameterConverters() {
+    }
+
+    private static void add(String typeName, Supplier<Object> value, Conversion scalar, Conversion array) {
+        CONVERTERS.put(typeName, new Converter(value, scalar, array));
+    }
+
+    /**
+     * Returns the converters of a type.
+     *
+     * @param typeName the PostgreSQL type name
+     * @return the converters
+     */
+    public static Converter get(String typeName) {
+        Converter converter = CONVERTERS.get(typeName);
+        if (converter == null) {
+            throw new IllegalArgumentException("No converter for type: " + typeName);
+        }
+        return converter;
+    }
+}
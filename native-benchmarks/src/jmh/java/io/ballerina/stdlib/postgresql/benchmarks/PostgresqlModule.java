@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.stdlib.postgresql.utils.ModuleUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * This class makes the compiled `postgresql` Ballerina module available to the benchmarks which decode rows, as the
+ * result processor and the `postgresql` records (e.g. `postgresql:Point`) are created by the value creators of the
+ * module. The module jar is put on the benchmark classpath from the `ballerina` build. The `sql` module is set as the
+ * module of the `sql` native code as well, as the errors of the native code are created in it.
+ *
+ * @since 1.13.2
+ */
+public final class PostgresqlModule {
+
+    public static final Module MODULE = new Module("ballerinax", "postgresql", "1");
+    public static final Module SQL_MODULE = new Module("ballerina", "sql", "1");
+    private static final String INIT_CLASS = "ballerinax.postgresql.1.$_init";
+    private static final String SQL_INIT_CLASS = "ballerina.sql.1.$_init";
+
+    private static boolean loaded;
+
+    private PostgresqlModule() {
+    }
+
+    /**
+     * Loads the module, which registers the value creators of the module, and sets it as the module of the native
+     * code as done when the module is initialized.
+     *
+     * @throws IllegalStateException if the compiled module is not on the classpath
+     */
+    public static synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        try {
+            Class.forName(SQL_INIT_CLASS, true, PostgresqlModule.class.getClassLoader());
+            Class.forName(INIT_CLASS, true, PostgresqlModule.class.getClassLoader());
+            Field module = ModuleUtils.class.getDeclaredField("postgresqlModule");
+            module.setAccessible(true);
+            module.set(null, MODULE);
+            setSqlModule();
+            ValueCreator.createRecordValue(MODULE, "Point");
+        } catch (ClassNotFoundException | RuntimeException e) {
+            throw new IllegalStateException("The compiled postgresql module is not available. Build the module with " +
+                    "`./gradlew :postgresql-ballerina:build` before running the benchmark", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to set the module of the native code", e);
+        }
+        loaded = true;
+    }
+
+    private static void setSqlModule() throws ReflectiveOperationException {
+        // The field of the `sql` native code is private, hence it is looked up by its type.
+        for (Field field : io.ballerina.stdlib.sql.utils.ModuleUtils.class.getDeclaredFields()) {
+            if (field.getType() == Module.class && Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                field.set(null, SQL_MODULE);
+                return;
+            }
+        }
+        throw new NoSuchFieldException("The module field of the sql native code is not found");
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.stdlib.postgresql.Constants;
+import org.postgresql.geometric.PGbox;
+import org.postgresql.geometric.PGcircle;
+import org.postgresql.geometric.PGlseg;
+import org.postgresql.geometric.PGpath;
+import org.postgresql.geometric.PGpoint;
+import org.postgresql.util.PGobject;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class creates the columns and the row types of the result sets decoded by the row decoding benchmarks. A row
+ * is made of the columns of a mix, e.g. the geometric columns, repeated up to the width of the row. The mix names are
+ * the values of the `mix` parameter of the benchmarks.
+ *
+ * @since 1.13.2
+ */
+public final class ResultRows {
+
+    public static final String PRIMITIVE = "primitive";
+    public static final String GEOMETRIC = "geometric";
+    public static final String RANGE = "range";
+    public static final String JSON = "json";
+    public static final String ARRAY = "array";
+    public static final String MIXED = "mixed";
+
+    private static final int ARRAY_SIZE = 10;
+
+    private static final RecordType POINT = recordType(Constants.TypeRecordNames.POINT_RECORD,
+            Constants.Geometric.X, Constants.Geometric.Y);
+    private static final Type TYPE_INT_ARRAY = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+    private static final Type TYPE_STRING_ARRAY = TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+    private static final Type TYPE_POINT_ARRAY = TypeCreator.createArrayType(POINT);
+
+    private ResultRows() {
+    }
+
+    /**
+     * Creates the columns of a row of the given mix and width.
+     *
+     * @param mix   the name of the mix of the column types
+     * @param width the number of columns
+     * @return the columns
+     * @throws SQLException if a driver value cannot be created
+     */
+    public static SyntheticColumn[] columns(String mix, int width) throws SQLException {
+        List<String> types = types(mix);
+        SyntheticColumn[] columns = new SyntheticColumn[width];
+        for (int i = 0; i < width; i++) {
+            columns[i] = column("col_" + i, types.get(i % types.size()));
+        }
+        return columns;
+    }
+
+    /**
+     * Creates the closed record type which has a field of the type of each column.
+     *
+     * @param columns the columns
+     * @return the record type of the rows
+     */
+    public static RecordType rowType(SyntheticColumn[] columns) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (SyntheticColumn column : columns) {
+            fields.put(column.getLabel(), TypeCreator.createField(column.getFieldType(), column.getLabel(),
+                    SymbolFlags.REQUIRED));
+        }
+        return TypeCreator.createRecordType("Row", PostgresqlModule.MODULE, 0, fields, null, true, 0);
+    }
+
+    private static List<String> types(String mix) {
+        switch (mix) {
+            case PRIMITIVE:
+                return Arrays.asList("int4", "int8", "varchar", "numeric", "bool", "float8");
+            case GEOMETRIC:
+                return Arrays.asList("point", "lseg", "box", "circle", "path");
+            case RANGE:
+                return Arrays.asList("int4range", "int8range", "numrange", "tstzrange", "daterange");
+            case JSON:
+                return Arrays.asList("json", "jsonb");
+            case ARRAY:
+                return Arrays.asList("_int4", "_varchar", "_point");
+            case MIXED:
+                return Arrays.asList("int4", "varchar", "numeric", "point", "int4range", "jsonb", "_int4");
+            default:
+                throw new IllegalArgumentException("Unknown column mix: " + mix);
+        }
+    }
+
+    private static SyntheticColumn column(String label, String typeName) throws SQLException {
+        switch (typeName) {
+            case "int4":
+                return new SyntheticColumn(label, Types.INTEGER, typeName, 42, PredefinedTypes.TYPE_INT);
+            case "int8":
+                return new SyntheticColumn(label, Types.BIGINT, typeName, 9_000_000_000L, PredefinedTypes.TYPE_INT);
+            case "varchar":
+                return new SyntheticColumn(label, Types.VARCHAR, typeName, "The quick brown fox jumps over the dog",
+                        PredefinedTypes.TYPE_STRING);
+            case "numeric":
+                return new SyntheticColumn(label, Types.NUMERIC, typeName, new BigDecimal("12345.6789"),
+                        PredefinedTypes.TYPE_DECIMAL);
+            case "bool":
+                return new SyntheticColumn(label, Types.BIT, typeName, Boolean.TRUE, PredefinedTypes.TYPE_BOOLEAN);
+            case "float8":
+                return new SyntheticColumn(label, Types.DOUBLE, typeName, 3.14159, PredefinedTypes.TYPE_FLOAT);
+            case "point":
+                return new SyntheticColumn(label, Types.OTHER, typeName, new PGpoint(1.5, 2.5), POINT);
+            case "lseg":
+                return new SyntheticColumn(label, Types.OTHER, typeName, new PGlseg(1, 2, 3, 4),
+                        recordType(Constants.TypeRecordNames.LINE_SEG_RECORD, Constants.Geometric.X1,
+                                Constants.Geometric.Y1, Constants.Geometric.X2, Constants.Geometric.Y2));
+            case "box":
+                return new SyntheticColumn(label, Types.OTHER, typeName, new PGbox(1, 2, 3, 4),
+                        recordType(Constants.TypeRecordNames.BOX_RECORD, Constants.Geometric.X1,
+                                Constants.Geometric.Y1, Constants.Geometric.X2, Constants.Geometric.Y2));
+            case "circle":
+                return new SyntheticColumn(label, Types.OTHER, typeName, new PGcircle(1, 2, 3),
+                        recordType(Constants.TypeRecordNames.CIRCLE_RECORD, Constants.Geometric.X,
+                                Constants.Geometric.Y, Constants.Geometric.R));
+            case "path":
+                return new SyntheticColumn(label, Types.OTHER, typeName, new PGpath(points(4), true),
+                        recordType(Constants.TypeRecordNames.PATH_RECORD, Constants.Geometric.OPEN,
+                                Constants.Geometric.POINTS));
+            case "int4range":
+                return rangeColumn(label, typeName, "[1,100)", Constants.TypeRecordNames.INTEGER_RANGE_RECORD);
+            case "int8range":
+                return rangeColumn(label, typeName, "[1,9000000000)", Constants.TypeRecordNames.LONG_RANGE_RECORD);
+            case "numrange":
+                return rangeColumn(label, typeName, "[1.5,100.25)", Constants.TypeRecordNames.NUMERICAL_RANGE_RECORD);
+            case "tstzrange":
+                return rangeColumn(label, typeName, "[\"2024-05-01 10:00:00+00\",\"2024-05-02 10:00:00+00\")",
+                        Constants.TypeRecordNames.TIMESTAMP_TZ_RANGE_RECORD);
+            case "daterange":
+                return rangeColumn(label, typeName, "[2024-05-01,2024-05-31)",
+                        Constants.TypeRecordNames.DATE_RANGE_RECORD);
+            case "json":
+            case "jsonb":
+                return new SyntheticColumn(label, Types.OTHER, typeName, pgObject(typeName,
+                        "{\"id\": 1, \"name\": \"item\", \"tags\": [\"a\", \"b\"], \"price\": 12.5}"),
+                        PredefinedTypes.TYPE_JSON);
+            case "_int4":
+                Integer[] integers = new Integer[ARRAY_SIZE];
+                Arrays.fill(integers, 42);
+                return new SyntheticColumn(label, Types.ARRAY, typeName,
+                        new SyntheticPgArray("int4", Types.INTEGER, integers), TYPE_INT_ARRAY);
+            case "_varchar":
+                String[] strings = new String[ARRAY_SIZE];
+                Arrays.fill(strings, "element");
+                return new SyntheticColumn(label, Types.ARRAY, typeName,
+                        new SyntheticPgArray("varchar", Types.VARCHAR, strings), TYPE_STRING_ARRAY);
+            case "_point":
+                return new SyntheticColumn(label, Types.ARRAY, typeName,
+                        new SyntheticPgArray("point", Types.OTHER, points(ARRAY_SIZE)), TYPE_POINT_ARRAY);
+            default:
+                throw new IllegalArgumentException("Unknown column type: " + typeName);
+        }
+    }
+
+    private static SyntheticColumn rangeColumn(String label, String typeName, String value, String recordName)
+            throws SQLException {
+        return new SyntheticColumn(label, Types.OTHER, typeName, pgObject(typeName, value),
+                recordType(recordName, Constants.Range.UPPER, Constants.Range.LOWER, Constants.Range.UPPERINCLUSIVE,
+                        Constants.Range.LOWERINCLUSIVE));
+    }
+
+    private static PGobject pgObject(String type, String value) throws SQLException {
+        PGobject object = new PGobject();
+        object.setType(type);
+        object.setValue(value);
+        return object;
+    }
+
+    private static PGpoint[] points(int count) {
+        List<PGpoint> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new PGpoint(i, i + 0.5));
+        }
+        return points.toArray(new PGpoint[0]);
+    }
+
+    private static RecordType recordType(String name, String... fieldNames) {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            fields.put(fieldName, TypeCreator.createField(PredefinedTypes.TYPE_ANYDATA, fieldName,
+                    SymbolFlags.REQUIRED));
+        }
+        return TypeCreator.createRecordType(name, PostgresqlModule.MODULE, 0, fields, null, true, 0);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import io.ballerina.runtime.api.types.Type;
+
+/**
+ * Represents a column of a {@link SyntheticResultSet}, with the JDBC type and the value the driver returns for the
+ * column, and the type of the field the column is read into.
+ *
+ * @since 1.13.2
+ */
+public final class SyntheticColumn {
+
+    private final String label;
+    private final int sqlType;
+    private final String typeName;
+    private final Object value;
+    private final Type fieldType;
+
+    SyntheticColumn(String label, int sqlType, String typeName, Object value, Type fieldType) {
+        this.label = label;
+        this.sqlType = sqlType;
+        this.typeName = typeName;
+        this.value = value;
+        this.fieldType = fieldType;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getSqlType() {
+        return sqlType;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public Type getFieldType() {
+        return fieldType;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import org.postgresql.jdbc.PgArray;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * A {@link PgArray} which holds the elements in memory instead of parsing them from the text sent by the server, so
+ * that an array column of a {@link SyntheticResultSet} is decoded without a connection. The module reads the base
+ * type name of the array from the {@code PgArray}, so the stand-in extends it rather than implementing
+ * {@link java.sql.Array}. As the driver does, a new copy of the elements is returned by each call.
+ *
+ * @since 1.13.2
+ */
+public final class SyntheticPgArray extends PgArray {
+
+    private final String baseTypeName;
+    private final int baseType;
+    private final Object[] elements;
+
+    public SyntheticPgArray(String baseTypeName, int baseType, Object[] elements) throws SQLException {
+        super(null, 0, (String) null);
+        this.baseTypeName = baseTypeName;
+        this.baseType = baseType;
+        this.elements = elements;
+    }
+
+    @Override
+    public String getBaseTypeName() {
+        return baseTypeName;
+    }
+
+    @Override
+    public int getBaseType() {
+        return baseType;
+    }
+
+    @Override
+    public Object getArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public Object getArray(Map<String, Class<?>> map) {
+        return getArray();
+    }
+
+    @Override
+    public void free() {
+    }
+
+    @Override
+    public String toString() {
+        return baseTypeName + "[" + elements.length + "]";
+    }
+}
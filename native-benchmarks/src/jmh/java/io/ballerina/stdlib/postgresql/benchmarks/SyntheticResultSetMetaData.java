@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.benchmarks;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * The {@link ResultSetMetaData} of a {@link SyntheticResultSet}, which describes the columns the way the PostgreSQL
+ * driver does, e.g. `json` and `point` columns as {@link Types#OTHER} with the PostgreSQL type name.
+ *
+ * @since 1.13.2
+ */
+final class SyntheticResultSetMetaData implements ResultSetMetaData {
+
+    private final SyntheticColumn[] columns;
+
+    SyntheticResultSetMetaData(SyntheticColumn[] columns) {
+        this.columns = columns;
+    }
+
+    private SyntheticColumn column(int column) throws SQLException {
+        if (column < 1 || column > columns.length) {
+            throw new SQLException("The column index is out of range: " + column);
+        }
+        return columns[column - 1];
+    }
+
+    @Override
+    public int getColumnCount() throws SQLException {
+        return columns.length;
+    }
+
+    @Override
+    public boolean isAutoIncrement(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean isCaseSensitive(int column) throws SQLException {
+        return column(column).getSqlType() == Types.VARCHAR;
+    }
+
+    @Override
+    public boolean isSearchable(int column) throws SQLException {
+        return true;
+    }
+
+    @Override
+    public boolean isCurrency(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public int isNullable(int column) throws SQLException {
+        return columnNullableUnknown;
+    }
+
+    @Override
+    public boolean isSigned(int column) throws SQLException {
+        int sqlType = column(column).getSqlType();
+        return sqlType == Types.INTEGER || sqlType == Types.BIGINT || sqlType == Types.SMALLINT
+                || sqlType == Types.NUMERIC || sqlType == Types.DOUBLE || sqlType == Types.REAL;
+    }
+
+    @Override
+    public int getColumnDisplaySize(int column) throws SQLException {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String getColumnLabel(int column) throws SQLException {
+        return column(column).getLabel();
+    }
+
+    @Override
+    public String getColumnName(int column) throws SQLException {
+        return column(column).getLabel();
+    }
+
+    @Override
+    public String getSchemaName(int column) throws SQLException {
+        return "";
+    }
+
+    @Override
+    public int getPrecision(int column) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getScale(int column) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public String getTableName(int column) throws SQLException {
+        return "";
+    }
+
+    @Override
+    public String getCatalogName(int column) throws SQLException {
+        return "";
+    }
+
+    @Override
+    public int getColumnType(int column) throws SQLException {
+        return column(column).getSqlType();
+    }
+
+    @Override
+    public String getColumnTypeName(int column) throws SQLException {
+        return column(column).getTypeName();
+    }
+
+    @Override
+    public boolean isReadOnly(int column) throws SQLException {
+        return true;
+    }
+
+    @Override
+    public boolean isWritable(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public String getColumnClassName(int column) throws SQLException {
+        Object value = column(column).getValue();
+        return value == null ? Object.class.getName() : value.getClass().getName();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Cannot unwrap to " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }
+}
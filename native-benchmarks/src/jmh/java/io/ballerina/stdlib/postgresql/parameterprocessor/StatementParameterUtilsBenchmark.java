@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.parameterprocessor;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.stdlib.postgresql.benchmarks.BenchmarkValues;
+import io.ballerina.stdlib.sql.exception.DataError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark measures the throughput and the allocation of the temporal helpers of
+ * {@link StatementParameterUtils}, which convert each element of the time and timestamp array parameters. It is in
+ * the package of the helpers as most of them are not public.
+ *
+ * @since 1.13.2
+ */
+@State(Scope.Benchmark)
+public class StatementParameterUtilsBenchmark {
+
+    private static final int SIZE = 100;
+
+    @Param({"string", "civil", "civilWithOffset"})
+    public String format;
+
+    private Object[] times;
+    private BArray timestampArray;
+    private Object[] arrayData;
+
+    @Setup
+    public void setup() {
+        times = new Object[SIZE];
+        Object[] timestamps = new Object[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long hour = i % 24;
+            switch (format) {
+                case "string":
+                    times[i] = BenchmarkValues.string(String.format("%02d:30:15", hour));
+                    timestamps[i] = BenchmarkValues.string(String.format("2024-05-%02d %02d:30:15", i % 28 + 1,
+                            hour));
+                    break;
+                case "civil":
+                    times[i] = BenchmarkValues.civil(i % 28 + 1, hour, null);
+                    timestamps[i] = times[i];
+                    break;
+                default:
+                    times[i] = BenchmarkValues.civil(i % 28 + 1, hour, 5L);
+                    timestamps[i] = times[i];
+                    break;
+            }
+        }
+        timestampArray = BenchmarkValues.array(timestamps);
+        arrayData = new Object[SIZE];
+    }
+
+    @Benchmark
+    public Object[] convertTimes() throws DataError {
+        for (int i = 0; i < SIZE; i++) {
+            if (format.equals("string")) {
+                StatementParameterUtils.getTimeFromString(arrayData, times[i], i);
+            } else {
+                StatementParameterUtils.getTimeFromMap(arrayData, times[i], i);
+            }
+        }
+        return arrayData;
+    }
+
+    @Benchmark
+    public Object[] convertTimestampArray() throws DataError {
+        return StatementParameterUtils.getDateTimeAndTimestampValueArrayData(timestampArray);
+    }
+}
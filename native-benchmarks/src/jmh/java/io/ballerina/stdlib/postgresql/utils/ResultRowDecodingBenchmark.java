@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.stdlib.postgresql.benchmarks.PostgresqlModule;
+import io.ballerina.stdlib.postgresql.benchmarks.ResultRows;
+import io.ballerina.stdlib.postgresql.benchmarks.SyntheticColumn;
+import io.ballerina.stdlib.postgresql.benchmarks.SyntheticResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * This benchmark measures the decoding of the rows of a result set into Ballerina records, through the
+ * {@link io.ballerina.stdlib.postgresql.parameterprocessor.PostgresResultParameterProcessor} as done by the
+ * `query` of the client. The rows are read from a {@link SyntheticResultSet}, so that the cost of the driver and the
+ * network is not measured. An operation is a row, so the throughput is in rows per second and the normalized
+ * allocation rate of the gc profiler ({@code gc.alloc.rate.norm}) is in bytes per row.
+ *
+ * @since 1.13.2
+ */
+@State(Scope.Benchmark)
+public class ResultRowDecodingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({ResultRows.PRIMITIVE, ResultRows.GEOMETRIC, ResultRows.RANGE, ResultRows.JSON, ResultRows.ARRAY,
+            ResultRows.MIXED})
+    public String mix;
+
+    @Param({"4", "16", "64"})
+    public int width;
+
+    private SyntheticResultSet resultSet;
+    private RecordType rowType;
+
+    @Setup
+    public void setup() throws Exception {
+        PostgresqlModule.load();
+        SyntheticColumn[] columns = ResultRows.columns(mix, width);
+        resultSet = new SyntheticResultSet(columns, ROWS);
+        rowType = ResultRows.rowType(columns);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public BArray decode() throws Exception {
+        resultSet.beforeFirst();
+        return QueryExecutionUtils.readRows(resultSet, rowType);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.stdlib.postgresql.benchmarks.PostgresqlModule;
+import io.ballerina.stdlib.postgresql.benchmarks.ResultRows;
+import io.ballerina.stdlib.postgresql.benchmarks.SyntheticColumn;
+import io.ballerina.stdlib.postgresql.benchmarks.SyntheticResultSet;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+/**
+ * Tests the bytes allocated per row when the rows of a result set are decoded through the
+ * {@link io.ballerina.stdlib.postgresql.parameterprocessor.PostgresResultParameterProcessor}, against a budget per
+ * column mix and row width. The allocation is the difference of the allocated bytes of the current thread, taken as
+ * the minimum of a few runs after a warmup so that class loading and the caches of the first runs are not counted.
+ * <p>
+ * The budget of a column mix and row width is the allocation per row recorded in `allocation-baseline.properties`,
+ * plus a margin of {@value #MARGIN_PERCENT}% for the variation between JVMs and runs. The file holds conservative fixed
+ * budgets until the measurements of the `ResultRowDecodingBenchmark` ({@code gc.alloc.rate.norm}) are recorded in it
+ * by the `recordAllocationBaseline` task, and the measurements are recorded again when an optimization reduces the
+ * allocation. A mix without a recorded allocation fails, so that the mixes added to the tests are given a budget.
+ */
+public class ResultRowAllocationTest {
+
+    // The rows of a run, which are the rows of an operation of the benchmark as well.
+    private static final int ROWS = 1000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 5;
+    private static final int MARGIN_PERCENT = 25;
+    private static final String BASELINE = "/allocation-baseline.properties";
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+    private final Properties baseline = new Properties();
+
+    @BeforeClass
+    public void setup() throws IOException {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            throw new SkipException("The allocated bytes of a thread cannot be measured in this JVM");
+        }
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            throw new SkipException("The allocated bytes of a thread cannot be measured in this JVM");
+        }
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        try (InputStream stream = ResultRowAllocationTest.class.getResourceAsStream(BASELINE)) {
+            if (stream != null) {
+                baseline.load(stream);
+            }
+        }
+        PostgresqlModule.load();
+    }
+
+    @DataProvider
+    public Object[][] rowTypes() {
+        return new Object[][]{
+                {ResultRows.PRIMITIVE, 4},
+                {ResultRows.PRIMITIVE, 16},
+                {ResultRows.GEOMETRIC, 4},
+                {ResultRows.GEOMETRIC, 16},
+                {ResultRows.RANGE, 4},
+                {ResultRows.RANGE, 16},
+                {ResultRows.JSON, 4},
+                {ResultRows.JSON, 16},
+                {ResultRows.ARRAY, 4},
+                {ResultRows.ARRAY, 16},
+                {ResultRows.MIXED, 16}
+        };
+    }
+
+    @Test(dataProvider = "rowTypes")
+    public void testAllocationPerRow(String mix, int width) throws Exception {
+        String measured = baseline.getProperty(mix + "." + width);
+        Assert.assertNotNull(measured, String.format("No allocation is recorded for %d %s columns. Record the " +
+                "baseline with the `recordAllocationBaseline` task", width, mix));
+        long budget = Long.parseLong(measured) * (100 + MARGIN_PERCENT) / 100;
+        SyntheticColumn[] columns = ResultRows.columns(mix, width);
+        SyntheticResultSet resultSet = new SyntheticResultSet(columns, ROWS);
+        RecordType rowType = ResultRows.rowType(columns);
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            decode(resultSet, rowType);
+        }
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+            decode(resultSet, rowType);
+            allocated = Math.min(allocated, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore);
+        }
+        long allocatedPerRow = allocated / ROWS;
+        Assert.assertTrue(allocatedPerRow <= budget, String.format("Decoding a row of %d %s columns allocated %d " +
+                "bytes, which is more than the budget of %d bytes (%s bytes recorded)", width, mix, allocatedPerRow,
+                budget, measured));
+    }
+
+    private static void decode(SyntheticResultSet resultSet, RecordType rowType) throws Exception {
+        resultSet.beforeFirst();
+        BArray rows = QueryExecutionUtils.readRows(resultSet, rowType);
+        Assert.assertEquals(rows.size(), ROWS);
+    }
+}
@@ -43,6 +43,62 @@ public final class Constants {
         public static final BString OPTIONS = StringUtils.fromString("options");
         public static final BString CONNECTION_POOL_OPTIONS = StringUtils.fromString("connectionPool");
     }
+    /**
+     * Constants for Listener Configs.
+     */
+    public static final class ListenerConfiguration {
+        public static final BString HOST = StringUtils.fromString("host");
+        public static final BString PORT = StringUtils.fromString("port");
+        public static final BString USERNAME = StringUtils.fromString("username");
+        public static final BString PASSWORD = StringUtils.fromString("password");
+        public static final BString DATABASE = StringUtils.fromString("database");
+        public static final BString OPTIONS = StringUtils.fromString("options");
+        public static final BString POLL_TIMEOUT = StringUtils.fromString("pollTimeout");
+        public static final BString BATCH_SIZE = StringUtils.fromString("batchSize");
+        public static final BString BATCH_WINDOW = StringUtils.fromString("batchWindow");
+        public static final BString RECONNECT_INTERVAL = StringUtils.fromString("reconnectInterval");
+        public static final BString MAX_RECONNECT_INTERVAL = StringUtils.fromString("maxReconnectInterval");
+    }
+    /**
+     * Constants for the notifications dispatched by the listener.
+     */
+    public static final class Notification {
+        public static final String RECORD_NAME = "Notification";
+        public static final BString CHANNEL = StringUtils.fromString("channel");
+        public static final BString PAYLOAD = StringUtils.fromString("payload");
+        public static final BString PROCESS_ID = StringUtils.fromString("processId");
+        public static final String ON_NOTIFICATION = "onNotification";
+        public static final String ON_ERROR = "onError";
+        public static final String NOTIFICATION_LISTENER = "NotificationListener";
+        public static final String SERVICE_DISPATCHER = "ServiceDispatcher";
+    }
+    /**
+     * Constants for the logical replication client.
+     */
+    public static final class Replication {
+        public static final BString HOST = StringUtils.fromString("host");
+        public static final BString PORT = StringUtils.fromString("port");
+        public static final BString USERNAME = StringUtils.fromString("username");
+        public static final BString PASSWORD = StringUtils.fromString("password");
+        public static final BString DATABASE = StringUtils.fromString("database");
+        public static final BString OPTIONS = StringUtils.fromString("options");
+        public static final BString SLOT_NAME = StringUtils.fromString("slotName");
+        public static final BString PUBLICATIONS = StringUtils.fromString("publications");
+        public static final BString CREATE_SLOT = StringUtils.fromString("createSlot");
+        public static final BString TEMPORARY_SLOT = StringUtils.fromString("temporarySlot");
+        public static final BString START_LSN = StringUtils.fromString("startLsn");
+        public static final BString STATUS_INTERVAL = StringUtils.fromString("statusInterval");
+        public static final String CHANGE_EVENT_RECORD = "ChangeEvent";
+        public static final BString OPERATION = StringUtils.fromString("operation");
+        public static final BString LSN = StringUtils.fromString("lsn");
+        public static final BString TRANSACTION_ID = StringUtils.fromString("transactionId");
+        public static final BString SCHEMA = StringUtils.fromString("schema");
+        public static final BString TABLE = StringUtils.fromString("table");
+        public static final BString BEFORE = StringUtils.fromString("before");
+        public static final BString AFTER = StringUtils.fromString("after");
+        public static final String REPLICATION_STREAM = "ReplicationStream";
+        public static final String OUTPUT_PLUGIN = "pgoutput";
+    }
     /**
      * Constants for database options.
      */
@@ -62,7 +118,85 @@ public final class Constants {
         public static final BString CANCEL_SIGNAL_TIMEOUT = StringUtils.fromString("cancelSignalTimeout");
         public static final BString TCP_KEEP_ALIVE = StringUtils.fromString("keepAliveTcpProbe");
         public static final BString BINARY_TRANSFER = StringUtils.fromString("binaryTransfer");
+        public static final BString QUERY_CACHE = StringUtils.fromString("queryCache");
+        public static final BString READ_REPLICAS = StringUtils.fromString("readReplicas");
+        public static final BString WARM_UP = StringUtils.fromString("warmUp");
+        public static final BString OFFLOAD_BLOCKING_CALLS = StringUtils.fromString("offloadBlockingCalls");
+        public static final BString RETRY = StringUtils.fromString("retry");
+        public static final BString CLIENT_NAME = StringUtils.fromString("clientName");
+        public static final BString QUERY_METRICS = StringUtils.fromString("queryMetrics");
+    }
+    /**
+     * Constants for the query result cache configuration.
+     */
+    public static final class QueryCache {
+        public static final BString MAX_ENTRIES = StringUtils.fromString("maxEntries");
+        public static final BString MAX_SIZE = StringUtils.fromString("maxSize");
+        public static final BString TTL = StringUtils.fromString("ttl");
+        public static final BString QUERY_TTLS = StringUtils.fromString("queryTtls");
+        public static final BString INVALIDATION_CHANNEL = StringUtils.fromString("invalidationChannel");
+        public static final String QUERY_RESULT_CACHE = "QueryResultCache";
+        public static final String INVALIDATION_LISTENER = "CacheInvalidationListener";
     }
+
+    /**
+     * Constants for the read replica configuration.
+     */
+    public static final class ReadReplicas {
+        public static final BString REPLICAS = StringUtils.fromString("replicas");
+        public static final BString LOAD_BALANCING = StringUtils.fromString("loadBalancing");
+        public static final BString HOST = StringUtils.fromString("host");
+        public static final BString PORT = StringUtils.fromString("port");
+        public static final BString CONNECTION_POOL = StringUtils.fromString("connectionPool");
+        public static final String LEAST_OUTSTANDING = "LEAST_OUTSTANDING";
+        public static final String REPLICA_POOL_OBJECT = "ReplicaPool";
+        public static final String REPLICA_ROUTER = "ReplicaRouter";
+    }
+
+    /**
+     * Constants for the connection pool warm-up configuration.
+     */
+    public static final class WarmUp {
+        public static final BString CONNECTIONS = StringUtils.fromString("connections");
+        public static final BString STATEMENTS = StringUtils.fromString("statements");
+        public static final BString TIMEOUT = StringUtils.fromString("timeout");
+        public static final BString MIN_IDLE_CONNECTIONS = StringUtils.fromString("minIdleConnections");
+        public static final BString MAX_OPEN_CONNECTIONS = StringUtils.fromString("maxOpenConnections");
+    }
+    /**
+     * Constants for the retries of serialization failures and deadlocks.
+     */
+    public static final class Retry {
+        public static final BString MAX_RETRIES = StringUtils.fromString("maxRetries");
+        public static final BString INITIAL_INTERVAL = StringUtils.fromString("initialInterval");
+        public static final BString BACK_OFF_FACTOR = StringUtils.fromString("backOffFactor");
+        public static final BString MAX_INTERVAL = StringUtils.fromString("maxInterval");
+        public static final BString SQL_STATE = StringUtils.fromString("sqlState");
+        public static final String RETRY_POLICY = "RetryPolicy";
+        public static final String RETRY_COUNT = "RetryCount";
+    }
+    /**
+     * Constants for the query metrics configuration.
+     */
+    public static final class QueryMetrics {
+        public static final BString SLOW_QUERY_THRESHOLD = StringUtils.fromString("slowQueryThreshold");
+        public static final BString PUBLISH_METRICS = StringUtils.fromString("publishMetrics");
+    }
+    /**
+     * Constants for the statistics of the conversions of PostgreSQL types.
+     */
+    public static final class ConversionStatistics {
+        public static final String RECORD_NAME = "ConversionStatistics";
+        public static final BString TYPE_NAME = StringUtils.fromString("typeName");
+        public static final BString DIRECTION = StringUtils.fromString("direction");
+        public static final BString COUNT = StringUtils.fromString("count");
+        public static final BString ELEMENTS = StringUtils.fromString("elements");
+        public static final BString TOTAL_TIME = StringUtils.fromString("totalTime");
+        public static final BString MAX_TIME = StringUtils.fromString("maxTime");
+        public static final String ENCODE = "ENCODE";
+        public static final String DECODE = "DECODE";
+    }
+
     /**
      * Constants for ssl configuration.
      */
@@ -113,6 +247,55 @@ public final class Constants {
         public static final BString ROW_FETCH_SIZE = StringUtils.fromString("defaultRowFetchSize");
         public static final BString BINARY_TRANSFER = StringUtils.fromString("binaryTransfer");
     }
+    /**
+     * Constants for the fields of `sql:ParameterizedQuery`.
+     */
+    public static final class ParameterizedQueryFields {
+        public static final BString STRINGS = StringUtils.fromString("strings");
+        public static final BString INSERTIONS = StringUtils.fromString("insertions");
+    }
+
+    /**
+     * Constants for the prepared statement handles.
+     */
+    public static final class PreparedStatement {
+        public static final String PREPARED_TEMPLATE = "PreparedTemplate";
+        public static final String CLIENT = "Client";
+        public static final String BOUND_QUERY_OBJECT = "BoundQuery";
+    }
+
+    /**
+     * Constants for the queries executed with a timeout.
+     */
+    public static final class TimedQuery {
+        public static final String OBJECT_NAME = "TimedQuery";
+        public static final BString TIMEOUT = StringUtils.fromString("timeout");
+        public static final String QUERY_CANCELED_STATE = "57014";
+        public static final String ERROR_NAME = "QueryTimeoutError";
+        public static final String ERROR_DETAIL_RECORD = "DatabaseErrorDetail";
+        public static final String ERROR_CODE = "errorCode";
+        public static final String SQL_STATE = "sqlState";
+    }
+
+    /**
+     * Constants for the `sql:BatchExecuteError`.
+     */
+    public static final class BatchExecuteError {
+        public static final String ERROR_NAME = "BatchExecuteError";
+        public static final String ERROR_DETAIL_RECORD = "BatchExecuteErrorDetail";
+        public static final String ERROR_CODE = "errorCode";
+        public static final String SQL_STATE = "sqlState";
+        public static final String EXECUTION_RESULTS = "executionResults";
+    }
+
+    /**
+     * Constants for the `sql:ExecutionResult` record.
+     */
+    public static final class ExecutionResult {
+        public static final String RECORD_NAME = "ExecutionResult";
+        public static final String AFFECTED_ROW_COUNT = "affectedRowCount";
+        public static final String LAST_INSERT_ID = "lastInsertId";
+    }
     /**
      * Constants for Out Parameter Type Names. 
      */
@@ -445,6 +628,16 @@ public final class Constants {
     public static final String POSTGRESQL_DATASOURCE_NAME = "org.postgresql.ds.PGSimpleDataSource";
     public static final String POOL_CONNECT_TIMEOUT = "ConnectionTimeout";
     public static final String CUSTOM_RESULT_ITERATOR_OBJECT = "CustomResultIterator";
+    public static final String MATERIALIZED_RESULT_ITERATOR_OBJECT = "MaterializedResultIterator";
+    public static final String CURSOR_RESULT_ITERATOR_OBJECT = "CursorResultIterator";
+    public static final String CURSOR_RESULT = "CursorResult";
+    public static final String INSTRUMENTED_RESULT_ITERATOR_OBJECT = "InstrumentedResultIterator";
+    public static final String QUERY_TIMER = "QueryTimer";
+    public static final String QUERY_METRICS = "QueryMetrics";
+    public static final String ROW_FETCH_SIZE = "RowFetchSize";
+    public static final String SQL_TEMPLATE_CACHE = "SqlTemplateCache";
+    public static final String OFFLOAD_BLOCKING_CALLS = "OffloadBlockingCalls";
+    public static final String CLIENT_NAME = "ClientName";
     public static final String JDBC_URL = "jdbc:postgresql://";
 
     public static final RecordType POINT_RECORD_TYPE = TypeCreator.createRecordType(
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.cache;
+
+import io.ballerina.stdlib.postgresql.listener.NotificationHandler;
+import org.postgresql.PGNotification;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Invalidates the entries of a {@link QueryResultCache} on the notifications of a channel. The payload of a
+ * notification is the name of the changed table, and an empty payload drops all the entries.
+ *
+ * @since 1.13.2
+ */
+public class CacheInvalidationHandler implements NotificationHandler {
+
+    private final QueryResultCache cache;
+    private final Set<String> channels;
+
+    public CacheInvalidationHandler(QueryResultCache cache, String channel) {
+        this.cache = cache;
+        this.channels = Collections.singleton(channel);
+    }
+
+    @Override
+    public Set<String> getChannels() {
+        return channels;
+    }
+
+    @Override
+    public void onNotifications(List<PGNotification> notifications) {
+        for (PGNotification notification : notifications) {
+            cache.invalidate(notification.getParameter());
+        }
+    }
+
+    @Override
+    public void onError(SQLException exception) {
+        // Notifications may be missed until the connection is re-established, hence no entry can be trusted.
+        cache.clear();
+    }
+}
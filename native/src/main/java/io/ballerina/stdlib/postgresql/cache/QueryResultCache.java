@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.cache;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A client-side cache of query results bounded by the number of entries and their estimated size, in which the
+ * least recently used entries are evicted first. Each entry expires after the TTL of its query and is tagged with
+ * the tables referred to by the query, so that a change notification of a table drops the entries which depend on it.
+ * The cached values are frozen, so the same value can be returned to any number of callers.
+ * <p>
+ * The entries of a table are dropped once a statement modifying it is executed, or when the transaction of the
+ * statement is committed, rather than before it, so that a result read before the change becomes visible is not
+ * cached again afterwards. A result read while entries are dropped is not cached either, as it may have been read
+ * before the change.
+ *
+ * @since 1.13.2
+ */
+public class QueryResultCache {
+
+    /**
+     * The value returned by {@link #get} when no result is cached for a key, as a cached result can be `()`.
+     */
+    public static final Object MISS = new Object();
+
+    private static final Pattern TABLE_PATTERN = Pattern.compile(
+            "\\b(?:FROM|JOIN|UPDATE|INTO)\\s+((?:\"[^\"]+\"|[\\w$]+)(?:\\.(?:\"[^\"]+\"|[\\w$]+))?)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final int maxEntries;
+    private final long maxSizeInBytes;
+    private final long defaultTtlNanos;
+    private final Map<String, Long> queryTtlNanos;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeInBytes = 0;
+    private long generation = 0;
+
+    public QueryResultCache(int maxEntries, long maxSizeInBytes, long defaultTtlMillis,
+                            Map<String, Long> queryTtlMillis) {
+        this.maxEntries = maxEntries;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.defaultTtlNanos = defaultTtlMillis * 1_000_000L;
+        this.queryTtlNanos = new LinkedHashMap<>();
+        queryTtlMillis.forEach((query, ttl) -> this.queryTtlNanos.put(query, ttl * 1_000_000L));
+    }
+
+    /**
+     * Creates the cache key of a query execution, which identifies the SQL text, the values bound to it and the
+     * type the result is converted to.
+     *
+     * @param sqlQuery   the SQL text with placeholders
+     * @param insertions the values of the `sql:ParameterizedQuery`
+     * @param resultType the type of the result
+     * @return the cache key
+     */
+    public static String createKey(String sqlQuery, BArray insertions, Type resultType) {
+        StringBuilder key = new StringBuilder(sqlQuery).append('\u0000').append(resultType.toString());
+        for (int i = 0; i < insertions.size(); i++) {
+            key.append('\u0000');
+            Object value = insertions.get(i);
+            if (value instanceof BObject) {
+                // Typed values are keyed by their type and value rather than by the identity of the object.
+                BObject typedValue = (BObject) value;
+                key.append(TypeUtils.getType(typedValue).getName()).append(':');
+                value = typedValue.get(Constants.TypedValueFields.VALUE);
+            }
+            key.append(StringUtils.getExpressionStringValue(value));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the cached result of a query execution.
+     *
+     * @param key the cache key
+     * @return the cached result, or {@link #MISS} if no unexpired result is cached
+     */
+    public synchronized Object get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return MISS;
+        }
+        if (entry.expiresAt - System.nanoTime() <= 0) {
+            remove(key);
+            return MISS;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns the generation of the cache, which changes whenever entries are dropped. It is taken before a query is
+     * executed, and given to {@link #put} with the result.
+     *
+     * @return the generation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Freezes and caches a query result. Results which alone exceed the size limit of the cache or have a TTL of
+     * zero are not cached, nor are the results read while entries were dropped.
+     *
+     * @param key        the cache key
+     * @param sqlQuery   the SQL text with placeholders
+     * @param value      the result
+     * @param generation the generation of the cache when the query was executed
+     * @return the frozen result
+     */
+    public Object put(String key, String sqlQuery, Object value, long generation) {
+        if (value instanceof BRefValue) {
+            ((BRefValue) value).freezeDirect();
+        }
+        long ttlNanos = queryTtlNanos.getOrDefault(sqlQuery, defaultTtlNanos);
+        long size = estimateSize(value);
+        if (ttlNanos <= 0 || size > maxSizeInBytes) {
+            return value;
+        }
+        Entry entry = new Entry(value, size, System.nanoTime() + ttlNanos, getTables(sqlQuery));
+        synchronized (this) {
+            if (generation != this.generation) {
+                return value;
+            }
+            remove(key);
+            entries.put(key, entry);
+            sizeInBytes += size;
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || sizeInBytes > maxSizeInBytes) && iterator.hasNext()) {
+                sizeInBytes -= iterator.next().getValue().size;
+                iterator.remove();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Drops the entries whose queries refer to the given table. The table can be given with or without the schema.
+     *
+     * @param table the name of the table, or an empty string to drop all the entries
+     */
+    public synchronized void invalidate(String table) {
+        if (table == null || table.isBlank()) {
+            clear();
+            return;
+        }
+        String name = normalize(table.trim());
+        generation++;
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (entry.tables.contains(name)) {
+                sizeInBytes -= entry.size;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops the entries whose queries refer to any of the tables modified by the given statement.
+     *
+     * @param sqlQuery the SQL text of the statement
+     */
+    public synchronized void invalidateTablesOf(String sqlQuery) {
+        Set<String> tables = getTables(sqlQuery);
+        generation++;
+        entries.values().removeIf(entry -> {
+            if (Collections.disjoint(entry.tables, tables)) {
+                return false;
+            }
+            sizeInBytes -= entry.size;
+            return true;
+        });
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        sizeInBytes = 0;
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            sizeInBytes -= removed.size;
+        }
+    }
+
+    private static Set<String> getTables(String sqlQuery) {
+        Set<String> tables = new HashSet<>();
+        Matcher matcher = TABLE_PATTERN.matcher(sqlQuery);
+        while (matcher.find()) {
+            String qualifiedName = normalize(matcher.group(1));
+            tables.add(qualifiedName);
+            int separator = qualifiedName.lastIndexOf('.');
+            if (separator >= 0) {
+                tables.add(qualifiedName.substring(separator + 1));
+            }
+        }
+        return tables;
+    }
+
+    private static String normalize(String identifier) {
+        // Unquoted identifiers are folded to lower case by PostgreSQL, while quoted ones are kept as they are.
+        StringBuilder normalized = new StringBuilder();
+        for (String part : identifier.split("\\.")) {
+            if (normalized.length() > 0) {
+                normalized.append('.');
+            }
+            if (part.startsWith("\"") && part.endsWith("\"") && part.length() > 1) {
+                normalized.append(part, 1, part.length() - 1);
+            } else {
+                normalized.append(part.toLowerCase(Locale.ENGLISH));
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static long estimateSize(Object value) {
+        if (value == null) {
+            return 8;
+        }
+        if (value instanceof BString) {
+            return 40 + 2L * ((BString) value).length();
+        }
+        if (value instanceof BDecimal) {
+            return 64;
+        }
+        if (value instanceof BMap) {
+            long size = 64;
+            for (Object field : ((BMap<?, ?>) value).values()) {
+                size += 32 + estimateSize(field);
+            }
+            return size;
+        }
+        if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            long size = 32;
+            for (int i = 0; i < array.size(); i++) {
+                size += 8 + estimateSize(array.get(i));
+            }
+            return size;
+        }
+        if (value instanceof BRefValue) {
+            return 128;
+        }
+        return 16;
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long size;
+        private final long expiresAt;
+        private final Set<String> tables;
+
+        private Entry(Object value, long size, long expiresAt, Set<String> tables) {
+            this.value = value;
+            this.size = size;
+            this.expiresAt = expiresAt;
+            this.tables = tables;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.listener;
+
+import org.postgresql.PGNotification;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Receives the notifications read by a {@link NotificationListener}.
+ *
+ * @since 1.13.2
+ */
+public interface NotificationHandler {
+
+    /**
+     * Returns the channels the dedicated connection should currently be listening on. This is consulted after each
+     * poll, so channels can be added or removed while the listener is running.
+     *
+     * @return the set of channel names
+     */
+    Set<String> getChannels();
+
+    /**
+     * Handles a batch of notifications. The next batch is not read until this method returns.
+     *
+     * @param notifications the notifications in the order they were received
+     */
+    void onNotifications(List<PGNotification> notifications);
+
+    /**
+     * Handles a failure of the dedicated connection. The listener reconnects after this method returns.
+     *
+     * @param exception the cause of the failure
+     */
+    void onError(SQLException exception);
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.listener;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds a dedicated connection which `LISTEN`s on a set of channels and hands the received notifications over to a
+ * {@link NotificationHandler} in batches. The connection blocks on {@link PGConnection#getNotifications(int)}, so
+ * notifications are delivered as soon as they arrive without polling the database. A lost connection is
+ * re-established with an exponential backoff and the channels are listened on again.
+ *
+ * @since 1.13.2
+ */
+public class NotificationListener {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final String url;
+    private final Properties properties;
+    private final int pollTimeoutMillis;
+    private final int batchSize;
+    private final long batchWindowMillis;
+    private final long reconnectIntervalMillis;
+    private final long maxReconnectIntervalMillis;
+    private final NotificationHandler handler;
+    private final Set<String> listeningChannels = new HashSet<>();
+
+    private volatile boolean running = false;
+    private volatile Connection connection;
+    private Thread worker;
+
+    public NotificationListener(String url, Properties properties, long pollTimeoutMillis, int batchSize,
+                                long batchWindowMillis, long reconnectIntervalMillis, long maxReconnectIntervalMillis,
+                                NotificationHandler handler) {
+        this.url = url;
+        this.properties = properties;
+        // A timeout of 0 blocks forever in pgjdbc, which would never let the worker observe a stop request.
+        this.pollTimeoutMillis = (int) Math.max(1, Math.min(pollTimeoutMillis, Integer.MAX_VALUE));
+        this.batchSize = batchSize;
+        this.batchWindowMillis = Math.max(0, batchWindowMillis);
+        this.reconnectIntervalMillis = Math.max(1, reconnectIntervalMillis);
+        this.maxReconnectIntervalMillis = Math.max(this.reconnectIntervalMillis, maxReconnectIntervalMillis);
+        this.handler = handler;
+    }
+
+    /**
+     * Opens the dedicated connection and starts the worker thread. The connection is opened on the calling thread
+     * so that configuration errors are reported to the caller.
+     *
+     * @throws SQLException if the connection cannot be opened
+     */
+    public synchronized void start() throws SQLException {
+        if (running) {
+            return;
+        }
+        connection = connect();
+        running = true;
+        worker = new Thread(this::run, "postgresql-listener-" + THREAD_COUNT.incrementAndGet());
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the worker. A graceful stop lets the batch being handled complete, while an immediate stop interrupts
+     * the worker and closes the connection under it.
+     *
+     * @param graceful whether to wait for the batch being handled
+     */
+    public void stop(boolean graceful) {
+        Thread currentWorker;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            currentWorker = worker;
+            worker = null;
+        }
+        if (graceful) {
+            try {
+                currentWorker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            currentWorker.interrupt();
+        }
+        closeConnection();
+    }
+
+    private void run() {
+        long backoffMillis = reconnectIntervalMillis;
+        while (running) {
+            try {
+                if (connection == null) {
+                    connection = connect();
+                    backoffMillis = reconnectIntervalMillis;
+                }
+                syncChannels();
+                List<PGNotification> notifications = receive();
+                for (int i = 0; i < notifications.size() && running; i += batchSize) {
+                    handler.onNotifications(notifications.subList(i, Math.min(i + batchSize,
+                            notifications.size())));
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                closeConnection();
+                handler.onError(e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, maxReconnectIntervalMillis);
+            }
+        }
+    }
+
+    private List<PGNotification> receive() throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        PGNotification[] received = pgConnection.getNotifications(pollTimeoutMillis);
+        if (received == null || received.length == 0) {
+            return Collections.emptyList();
+        }
+        List<PGNotification> notifications = new ArrayList<>(received.length);
+        Collections.addAll(notifications, received);
+        // Drain the rest of a burst which has already arrived, then wait for the remainder of the batch window.
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+        while (notifications.size() < batchSize) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            PGNotification[] more = remainingMillis > 0 ? pgConnection.getNotifications((int) remainingMillis) :
+                    pgConnection.getNotifications();
+            if (more == null || more.length == 0) {
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                continue;
+            }
+            Collections.addAll(notifications, more);
+        }
+        return notifications;
+    }
+
+    private void syncChannels() throws SQLException {
+        Set<String> channels = handler.getChannels();
+        if (listeningChannels.equals(channels)) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String channel : channels) {
+                if (!listeningChannels.contains(channel)) {
+                    statement.execute("LISTEN " + quoteIdentifier(channel));
+                }
+            }
+            for (String channel : listeningChannels) {
+                if (!channels.contains(channel)) {
+                    statement.execute("UNLISTEN " + quoteIdentifier(channel));
+                }
+            }
+        }
+        listeningChannels.clear();
+        listeningChannels.addAll(channels);
+    }
+
+    private Connection connect() throws SQLException {
+        Connection newConnection = DriverManager.getConnection(url, properties);
+        newConnection.setAutoCommit(true);
+        listeningChannels.clear();
+        return newConnection;
+    }
+
+    private void closeConnection() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException ignored) {
+                // The connection is discarded regardless of the outcome.
+            }
+        }
+    }
+
+    private static String quoteIdentifier(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.listener;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import org.postgresql.PGNotification;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Dispatches the notifications received by a {@link NotificationListener} to the `onNotification` remote method of
+ * the Ballerina services attached to the `postgresql:Listener`. Each service receives the notifications of its own
+ * channels in order, and a batch is handed over only after the previous one is processed. A connection failure is
+ * handed over to the `onError` remote method of the services. The errors which cannot be handed over to a service,
+ * i.e. the errors returned by the remote methods and the connection failures when no service has an `onError`
+ * method, are logged.
+ *
+ * @since 1.13.2
+ */
+public class ServiceDispatcher implements NotificationHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(ServiceDispatcher.class.getName());
+
+    private final Map<BObject, Set<String>> services = new ConcurrentHashMap<>();
+    private volatile Runtime runtime;
+    private volatile ArrayType notificationArrayType;
+
+    public void setRuntime(Runtime runtime) {
+        this.runtime = runtime;
+    }
+
+    public void addService(BObject service, Set<String> channels) {
+        services.merge(service, new HashSet<>(channels), (existing, added) -> {
+            Set<String> merged = new HashSet<>(existing);
+            merged.addAll(added);
+            return merged;
+        });
+    }
+
+    public void removeService(BObject service) {
+        services.remove(service);
+    }
+
+    @Override
+    public Set<String> getChannels() {
+        Set<String> channels = new HashSet<>();
+        services.values().forEach(channels::addAll);
+        return channels;
+    }
+
+    @Override
+    public void onNotifications(List<PGNotification> notifications) {
+        Map<BObject, List<PGNotification>> batches = new LinkedHashMap<>();
+        for (PGNotification notification : notifications) {
+            services.forEach((service, channels) -> {
+                if (channels.contains(notification.getName())) {
+                    batches.computeIfAbsent(service, s -> new ArrayList<>()).add(notification);
+                }
+            });
+        }
+        for (Map.Entry<BObject, List<PGNotification>> batch : batches.entrySet()) {
+            invoke(batch.getKey(), Constants.Notification.ON_NOTIFICATION, toBallerinaNotifications(batch.getValue()));
+        }
+    }
+
+    @Override
+    public void onError(SQLException exception) {
+        BError error = ErrorGenerator.getSQLDatabaseError(exception,
+                "Error while listening for PostgreSQL notifications: ");
+        boolean handled = false;
+        for (BObject service : services.keySet()) {
+            if (hasMethod(service, Constants.Notification.ON_ERROR)) {
+                invoke(service, Constants.Notification.ON_ERROR, error);
+                handled = true;
+            }
+        }
+        if (!handled) {
+            logError("No service of the listener handles the error", error);
+        }
+    }
+
+    private void invoke(BObject service, String methodName, Object argument) {
+        if (runtime == null || !hasMethod(service, methodName)) {
+            return;
+        }
+        Module module = ModuleUtils.getModule();
+        StrandMetadata metadata = new StrandMetadata(module.getOrg(), module.getName(), module.getMajorVersion(),
+                methodName);
+        CountDownLatch completion = new CountDownLatch(1);
+        runtime.invokeMethodAsyncSequentially(service, methodName, null, metadata, new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                if (result instanceof BError) {
+                    logError(String.format("The '%s' method of the service returned an error", methodName),
+                            (BError) result);
+                }
+                completion.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                logError(String.format("The '%s' method of the service failed", methodName), error);
+                completion.countDown();
+            }
+        }, null, PredefinedTypes.TYPE_NULL, argument, true);
+        try {
+            completion.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BArray toBallerinaNotifications(List<PGNotification> notifications) {
+        List<BMap<BString, Object>> records = new ArrayList<>(notifications.size());
+        for (PGNotification notification : notifications) {
+            BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.Notification.RECORD_NAME);
+            record.put(Constants.Notification.CHANNEL, StringUtils.fromString(notification.getName()));
+            record.put(Constants.Notification.PAYLOAD, StringUtils.fromString(notification.getParameter()));
+            record.put(Constants.Notification.PROCESS_ID, (long) notification.getPID());
+            records.add(record);
+        }
+        if (notificationArrayType == null) {
+            notificationArrayType = TypeCreator.createArrayType(records.get(0).getType());
+        }
+        BArray array = ValueCreator.createArrayValue(notificationArrayType);
+        for (int i = 0; i < records.size(); i++) {
+            array.add(i, records.get(i));
+        }
+        return array;
+    }
+
+    private static void logError(String message, BError error) {
+        if (LOGGER.isLoggable(Level.SEVERE)) {
+            LOGGER.severe(String.format("%s: %s", message, error.getPrintableStackTrace()));
+        }
+    }
+
+    private static boolean hasMethod(BObject service, String methodName) {
+        ObjectType type = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        for (MethodType method : type.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -21,8 +21,14 @@ package io.ballerina.stdlib.postgresql.nativeimpl;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.postgresql.cache.QueryResultCache;
+import io.ballerina.stdlib.postgresql.observability.QueryMetrics;
+import io.ballerina.stdlib.postgresql.observability.QueryTimer;
 import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresResultParameterProcessor;
 import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresStatementParameterProcessor;
+import io.ballerina.stdlib.postgresql.utils.BlockingCallExecutor;
+import io.ballerina.stdlib.postgresql.utils.QueryExecutionUtils;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 
 /**
  * This class holds the utility methods involved with executing the call statements.
@@ -33,8 +39,28 @@ public class CallProcessorUtils {
     }
     
     public static Object nativeCall(Environment env, BObject client, BObject paramSQLString, BArray recordTypes) {
-
-        return io.ballerina.stdlib.sql.nativeimpl.CallProcessor.nativeCall(env, client, paramSQLString, recordTypes,
-            PostgresStatementParameterProcessor.getInstance(), PostgresResultParameterProcessor.getInstance());
+        if (BlockingCallExecutor.isOffloaded(client)) {
+            // The `sql` module executes the call and reads its results on the strand, hence it cannot be offloaded.
+            return ErrorGenerator.getSQLApplicationError("Procedure calls are not supported by a client with " +
+                    "`offloadBlockingCalls` enabled outside a transaction. Call the procedure within a transaction " +
+                    "or with a client which does not offload its calls.");
+        }
+        if (QueryExecutionUtils.getTimeoutMillis(paramSQLString) > 0) {
+            // The `sql` module prepares the call statement itself, hence the timeout cannot be set on it.
+            return ErrorGenerator.getSQLApplicationError("A `postgresql:TimedQuery` is not supported by `call`. Set " +
+                    "the `statement_timeout` of the session to limit the time of the procedure call.");
+        }
+        QueryTimer timer = QueryMetrics.start(client, paramSQLString, QueryMetrics.CALL);
+        Object result = io.ballerina.stdlib.sql.nativeimpl.CallProcessor.nativeCall(env, client, paramSQLString,
+            recordTypes, PostgresStatementParameterProcessor.getInstance(),
+            PostgresResultParameterProcessor.getInstance());
+        timer.finish();
+        // A procedure may modify any table, and may commit its changes even if the call fails, hence all the cached
+        // results are dropped once the call returns.
+        QueryResultCache cache = ExecuteProcessorUtils.getQueryResultCache(client);
+        if (cache != null) {
+            cache.clear();
+        }
+        return result;
     }
 }
@@ -18,39 +18,58 @@
 
 package io.ballerina.stdlib.postgresql.nativeimpl;
 
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.cache.CacheInvalidationHandler;
+import io.ballerina.stdlib.postgresql.cache.QueryResultCache;
+import io.ballerina.stdlib.postgresql.listener.NotificationListener;
+import io.ballerina.stdlib.postgresql.observability.PoolMetrics;
+import io.ballerina.stdlib.postgresql.observability.QueryMetrics;
+import io.ballerina.stdlib.postgresql.replica.ReplicaRouter;
+import io.ballerina.stdlib.postgresql.retry.RetryPolicy;
+import io.ballerina.stdlib.postgresql.utils.ModuleUtils;
+import io.ballerina.stdlib.postgresql.utils.PoolWarmUp;
+import io.ballerina.stdlib.postgresql.utils.SqlTemplateCache;
 import io.ballerina.stdlib.postgresql.utils.Utils;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class implements the utility methods for the clients to be used.
  */
 public class ClientProcessorUtils {
 
+    private static final long INVALIDATION_POLL_TIMEOUT_MILLIS = 1000;
+    private static final int INVALIDATION_BATCH_SIZE = 100;
+    private static final long INVALIDATION_RECONNECT_MILLIS = 1000;
+    private static final long INVALIDATION_MAX_RECONNECT_MILLIS = 30000;
+    private static final Map<String, AtomicInteger> DEFAULT_CLIENT_NAME_COUNTS = new ConcurrentHashMap<>();
+
     private ClientProcessorUtils() {}
     
     public static Object createClient(BObject client, BMap<BString, Object> clientConfig,
                                       BMap<BString, Object> globalPool) {
-        String url = Constants.JDBC_URL + clientConfig.getStringValue(Constants.ClientConfiguration.HOST);
-        Long portValue = clientConfig.getIntValue(Constants.ClientConfiguration.PORT);
-        if (portValue > 0) {
-            url += ":" + portValue.intValue();
-        }
         BString userVal = clientConfig.getStringValue(Constants.ClientConfiguration.USER);
         String user = userVal == null ? null : userVal.getValue();
         BString passwordVal = clientConfig.getStringValue(Constants.ClientConfiguration.PASSWORD);
         String password = passwordVal == null ? null : passwordVal.getValue();
-        url += "/";
-        BString databaseVal = clientConfig.getStringValue(Constants.ClientConfiguration.DATABASE);
-        String database = databaseVal == null ? null : databaseVal.getValue();
-        if (database != null && !database.isEmpty()) {
-            url += database;
-        }
+        String url = Utils.getJdbcUrl(clientConfig.getStringValue(Constants.ClientConfiguration.HOST),
+                clientConfig.getIntValue(Constants.ClientConfiguration.PORT),
+                clientConfig.getStringValue(Constants.ClientConfiguration.DATABASE));
         BMap options = clientConfig.getMapValue(Constants.ClientConfiguration.OPTIONS);
         BMap properties = null;
         Properties poolProperties = null;
@@ -63,18 +82,218 @@ public class ClientProcessorUtils {
             }
         }
         BMap connectionPool = clientConfig.getMapValue(Constants.ClientConfiguration.CONNECTION_POOL_OPTIONS);
-        String datasourceName = Constants.POSTGRESQL_DATASOURCE_NAME;
-        SQLDatasource.SQLDatasourceParams sqlDatasourceParams = new SQLDatasource.SQLDatasourceParams()
+        SQLDatasource.SQLDatasourceParams sqlDatasourceParams = createDatasourceParams(url, user, password,
+                properties, poolProperties, connectionPool, globalPool);
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams,
+                true, true);
+        if (result == null) {
+            client.addNativeData(Constants.SQL_TEMPLATE_CACHE, new SqlTemplateCache());
+            BString clientName = options == null ? null : options.getStringValue(Constants.Options.CLIENT_NAME);
+            client.addNativeData(Constants.CLIENT_NAME, clientName != null ? clientName.getValue()
+                    : getDefaultClientName(url.substring(Constants.JDBC_URL.length())));
+            PoolMetrics.register(client, (String) client.getNativeData(Constants.CLIENT_NAME));
+            BMap queryMetricsConfig = options == null ? null : options.getMapValue(Constants.Options.QUERY_METRICS);
+            if (queryMetricsConfig != null) {
+                client.addNativeData(Constants.QUERY_METRICS, new QueryMetrics(
+                        (String) client.getNativeData(Constants.CLIENT_NAME),
+                        Utils.getTimeout(queryMetricsConfig.get(Constants.QueryMetrics.SLOW_QUERY_THRESHOLD)),
+                        queryMetricsConfig.getBooleanValue(Constants.QueryMetrics.PUBLISH_METRICS)));
+            }
+            AtomicLong retryCount = new AtomicLong();
+            client.addNativeData(Constants.Retry.RETRY_COUNT, retryCount);
+            BMap retryConfig = options == null ? null : options.getMapValue(Constants.Options.RETRY);
+            if (retryConfig != null) {
+                client.addNativeData(Constants.Retry.RETRY_POLICY, new RetryPolicy(retryConfig, retryCount));
+            }
+            if (options != null && Boolean.TRUE.equals(options.get(Constants.Options.OFFLOAD_BLOCKING_CALLS))) {
+                client.addNativeData(Constants.OFFLOAD_BLOCKING_CALLS, true);
+            }
+            Object rowFetchSize = options == null ? null : options.get(Constants.Options.ROW_FETCH_SIZE);
+            if (rowFetchSize instanceof Long && (Long) rowFetchSize > 0) {
+                client.addNativeData(Constants.ROW_FETCH_SIZE, ((Long) rowFetchSize).intValue());
+            }
+        }
+        if (result == null && options != null) {
+            BMap readReplicaConfig = options.getMapValue(Constants.Options.READ_REPLICAS);
+            if (readReplicaConfig != null) {
+                result = initReadReplicas(client, readReplicaConfig,
+                        clientConfig.getStringValue(Constants.ClientConfiguration.DATABASE), user, password,
+                        properties, poolProperties, connectionPool, globalPool);
+            }
+        }
+        if (result == null && options != null) {
+            BMap warmUpConfig = options.getMapValue(Constants.Options.WARM_UP);
+            if (warmUpConfig != null) {
+                result = warmUp(client, warmUpConfig, connectionPool == null ? globalPool : connectionPool);
+            }
+        }
+        if (result == null && options != null) {
+            BMap queryCacheConfig = options.getMapValue(Constants.Options.QUERY_CACHE);
+            if (queryCacheConfig != null) {
+                result = initQueryCache(client, queryCacheConfig, url, user, password, properties);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the default name of a client, which is `<host>:<port>/<database>`, followed by `#<n>` for the n-th
+     * client created for the same database. The names of the clients are kept unique, as they are the tags of the
+     * metrics of their connection pools.
+     *
+     * @param database the `<host>:<port>/<database>` of the client
+     * @return the name of the client
+     */
+    static String getDefaultClientName(String database) {
+        int count = DEFAULT_CLIENT_NAME_COUNTS.computeIfAbsent(database, key -> new AtomicInteger()).incrementAndGet();
+        return count == 1 ? database : database + "#" + count;
+    }
+
+    public static Object close(BObject client) {
+        NotificationListener invalidationListener = (NotificationListener) client.getNativeData(
+                Constants.QueryCache.INVALIDATION_LISTENER);
+        if (invalidationListener != null) {
+            invalidationListener.stop(false);
+        }
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.QueryCache.QUERY_RESULT_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+        SqlTemplateCache templateCache = (SqlTemplateCache) client.getNativeData(Constants.SQL_TEMPLATE_CACHE);
+        if (templateCache != null) {
+            templateCache.clear();
+        }
+        ReplicaRouter router = (ReplicaRouter) client.getNativeData(Constants.ReadReplicas.REPLICA_ROUTER);
+        if (router != null) {
+            for (BObject replicaPool : router.getReplicaPools()) {
+                io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(replicaPool);
+            }
+        }
+        // The read replicas share the query metrics of the client.
+        QueryMetrics queryMetrics = (QueryMetrics) client.getNativeData(Constants.QUERY_METRICS);
+        if (queryMetrics != null) {
+            queryMetrics.close();
+        }
+        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+    }
+
+    private static Object warmUp(BObject client, BMap<BString, Object> config, BMap<BString, Object> poolConfig) {
+        Object connectionsValue = config.get(Constants.WarmUp.CONNECTIONS);
+        if (connectionsValue == null && poolConfig != null) {
+            connectionsValue = poolConfig.get(Constants.WarmUp.MIN_IDLE_CONNECTIONS);
+        }
+        long connections = connectionsValue == null ? 0 : (Long) connectionsValue;
+        Object maxConnections = poolConfig == null ? null : poolConfig.get(Constants.WarmUp.MAX_OPEN_CONNECTIONS);
+        if (maxConnections != null) {
+            // Holding more connections than the pool can open would block the warm-up until it times out.
+            connections = Math.min(connections, (Long) maxConnections);
+        }
+        List<String> statements = List.of(config.getArrayValue(Constants.WarmUp.STATEMENTS).getStringArray());
+        long timeout = Utils.getTimeout(config.get(Constants.WarmUp.TIMEOUT));
+        List<BObject> pools = new ArrayList<>();
+        pools.add(client);
+        ReplicaRouter router = (ReplicaRouter) client.getNativeData(Constants.ReadReplicas.REPLICA_ROUTER);
+        if (router != null) {
+            pools.addAll(List.of(router.getReplicaPools()));
+        }
+        try {
+            for (BObject pool : pools) {
+                PoolWarmUp.warmUp(pool, (int) connections, statements, timeout);
+            }
+        } catch (SQLException e) {
+            close(client);
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while warming up the connection pool: ");
+        }
+        return null;
+    }
+
+    private static SQLDatasource.SQLDatasourceParams createDatasourceParams(String url, String user, String password,
+                                                                            BMap properties,
+                                                                            Properties poolProperties,
+                                                                            BMap connectionPool,
+                                                                            BMap<BString, Object> globalPool) {
+        return new SQLDatasource.SQLDatasourceParams()
                 .setUrl(url).setUser(user)
                 .setPassword(password)
-                .setDatasourceName(datasourceName)
+                .setDatasourceName(Constants.POSTGRESQL_DATASOURCE_NAME)
                 .setOptions(properties)
                 .setConnectionPool(connectionPool, globalPool)
                 .setPoolProperties(poolProperties);
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams, true, true);
     }
 
-    public static Object close(BObject client) {
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+    private static Object initReadReplicas(BObject client, BMap<BString, Object> config, BString database,
+                                           String user, String password, BMap properties, Properties poolProperties,
+                                           BMap connectionPool, BMap<BString, Object> globalPool) {
+        BArray replicas = config.getArrayValue(Constants.ReadReplicas.REPLICAS);
+        if (replicas.size() == 0) {
+            return null;
+        }
+        List<BObject> replicaPools = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            BMap<BString, Object> replica = (BMap<BString, Object>) replicas.get(i);
+            String url = Utils.getJdbcUrl(replica.getStringValue(Constants.ReadReplicas.HOST),
+                    replica.getIntValue(Constants.ReadReplicas.PORT), database);
+            BMap replicaConnectionPool = replica.getMapValue(Constants.ReadReplicas.CONNECTION_POOL);
+            BObject replicaPool = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                    Constants.ReadReplicas.REPLICA_POOL_OBJECT);
+            Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(replicaPool,
+                    createDatasourceParams(url, user, password, properties, poolProperties,
+                            replicaConnectionPool == null ? connectionPool : replicaConnectionPool, globalPool),
+                    true, true);
+            if (result != null) {
+                for (BObject createdPool : replicaPools) {
+                    io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(createdPool);
+                }
+                io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+                return result;
+            }
+            replicaPool.addNativeData(Constants.CLIENT_NAME,
+                    client.getNativeData(Constants.CLIENT_NAME) + "/replica-" + i);
+            PoolMetrics.register(replicaPool, (String) replicaPool.getNativeData(Constants.CLIENT_NAME));
+            // The queries routed to a replica are recorded with the metrics of the client.
+            replicaPool.addNativeData(Constants.QUERY_METRICS, client.getNativeData(Constants.QUERY_METRICS));
+            replicaPools.add(replicaPool);
+        }
+        boolean leastOutstanding = Constants.ReadReplicas.LEAST_OUTSTANDING.equals(
+                config.getStringValue(Constants.ReadReplicas.LOAD_BALANCING).getValue());
+        client.addNativeData(Constants.ReadReplicas.REPLICA_ROUTER, new ReplicaRouter(replicaPools, leastOutstanding));
+        return null;
+    }
+
+    private static Object initQueryCache(BObject client, BMap<BString, Object> config, String url, String user,
+                                         String password, BMap<BString, Object> properties) {
+        Map<String, Long> queryTtls = new HashMap<>();
+        BMap<BString, Object> queryTtlConfig = (BMap<BString, Object>) config.getMapValue(
+                Constants.QueryCache.QUERY_TTLS);
+        for (Map.Entry<BString, Object> queryTtl : queryTtlConfig.entrySet()) {
+            queryTtls.put(queryTtl.getKey().getValue(), Utils.getTimeout(queryTtl.getValue()));
+        }
+        QueryResultCache cache = new QueryResultCache(
+                config.getIntValue(Constants.QueryCache.MAX_ENTRIES).intValue(),
+                config.getIntValue(Constants.QueryCache.MAX_SIZE),
+                Utils.getTimeout(config.get(Constants.QueryCache.TTL)), queryTtls);
+        BString channel = config.getStringValue(Constants.QueryCache.INVALIDATION_CHANNEL);
+        if (channel != null) {
+            Properties driverProperties = Utils.getDriverProperties(properties);
+            if (user != null) {
+                driverProperties.setProperty("user", user);
+            }
+            if (password != null) {
+                driverProperties.setProperty("password", password);
+            }
+            NotificationListener invalidationListener = new NotificationListener(url, driverProperties,
+                    INVALIDATION_POLL_TIMEOUT_MILLIS, INVALIDATION_BATCH_SIZE, 0, INVALIDATION_RECONNECT_MILLIS,
+                    INVALIDATION_MAX_RECONNECT_MILLIS, new CacheInvalidationHandler(cache, channel.getValue()));
+            try {
+                invalidationListener.start();
+            } catch (SQLException e) {
+                close(client);
+                return ErrorGenerator.getSQLDatabaseError(e,
+                        "Error while listening on the query cache invalidation channel: ");
+            }
+            client.addNativeData(Constants.QueryCache.INVALIDATION_LISTENER, invalidationListener);
+        }
+        client.addNativeData(Constants.QueryCache.QUERY_RESULT_CACHE, cache);
+        return null;
     }
 }
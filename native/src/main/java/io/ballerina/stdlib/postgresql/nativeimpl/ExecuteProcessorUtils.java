@@ -19,9 +19,27 @@
 package io.ballerina.stdlib.postgresql.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.cache.QueryResultCache;
+import io.ballerina.stdlib.postgresql.observability.BatchFlushEvent;
+import io.ballerina.stdlib.postgresql.observability.QueryMetrics;
+import io.ballerina.stdlib.postgresql.observability.QueryTimer;
 import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresStatementParameterProcessor;
+import io.ballerina.stdlib.postgresql.retry.RetryPolicy;
+import io.ballerina.stdlib.postgresql.utils.BlockingCallExecutor;
+import io.ballerina.stdlib.postgresql.utils.QueryExecutionUtils;
+import io.ballerina.stdlib.postgresql.utils.SqlTemplateCache;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * This class contains methods for executing SQL queries.
@@ -32,12 +50,153 @@ public class ExecuteProcessorUtils {
     }
 
     public static Object nativeExecute(Environment env, BObject client, BObject paramSQLString) {
-        return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeExecute(env, client, paramSQLString,
+        RetryPolicy retryPolicy = RetryPolicy.get(client);
+        boolean isOffloaded = BlockingCallExecutor.isOffloaded(client);
+        // Outside a transaction, the statement is executed by this module, using the SQL query and the binding plan
+        // cached for the template. Within a transaction, it is executed on the connection of the transaction by the
+        // `sql` module.
+        if (retryPolicy != null || isOffloaded || !QueryExecutionUtils.isWithinTransaction()) {
+            SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+            QueryResultCache cache = getQueryResultCache(client);
+            Supplier<Object> execute = () -> invalidateCachedResults(cache, template.getSqlQuery(),
+                    QueryExecutionUtils.execute(client, template.getSqlQuery(),
+                            QueryExecutionUtils.getParameterBinder(template, paramSQLString)));
+            if (retryPolicy != null) {
+                return retryPolicy.execute(env, client, execute);
+            }
+            return isOffloaded ? BlockingCallExecutor.offload(env, execute) : execute.get();
+        }
+        QueryTimer timer = QueryMetrics.start(client, paramSQLString, QueryMetrics.EXECUTE);
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeExecute(env, client, paramSQLString,
                 PostgresStatementParameterProcessor.getInstance());
+        timer.finish();
+        return result;
     }
     
     public static Object nativeBatchExecute(Environment env, BObject client, BArray paramSQLStrings) {
-        return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeBatchExecute(env, client, paramSQLStrings,
-                PostgresStatementParameterProcessor.getInstance());
+        boolean isOffloaded = BlockingCallExecutor.isOffloaded(client);
+        // The `sql` module executes the batch on the strand and ignores the timeout of a `postgresql:TimedQuery`,
+        // hence an offloaded or a timed batch is executed by this module.
+        if (isOffloaded || (isTimed(paramSQLStrings) && !QueryExecutionUtils.isWithinTransaction())) {
+            return batchExecute(env, client, paramSQLStrings, isOffloaded);
+        }
+        QueryTimer timer = paramSQLStrings.size() > 0
+                ? QueryMetrics.start(client, (BObject) paramSQLStrings.get(0), QueryMetrics.BATCH_EXECUTE)
+                : QueryTimer.NONE;
+        BatchFlushEvent flush = BatchFlushEvent.start();
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeBatchExecute(env, client,
+                paramSQLStrings, PostgresStatementParameterProcessor.getInstance());
+        if (flush.isEnabled() && paramSQLStrings.size() > 0) {
+            String sqlQuery = SqlTemplateCache.getSqlQuery(client, (BObject) paramSQLStrings.get(0));
+            flush.finish(client.getNativeData(Constants.CLIENT_NAME), sqlQuery, paramSQLStrings.size(),
+                    (long) sqlQuery.getBytes(StandardCharsets.UTF_8).length * paramSQLStrings.size());
+        }
+        timer.finish();
+        // A failed batch may have executed some of its statements, hence the results are dropped in any case.
+        QueryResultCache cache = getQueryResultCache(client);
+        if (cache != null && paramSQLStrings.size() > 0) {
+            cache.invalidateTablesOf(SqlTemplateCache.getSqlQuery(client, (BObject) paramSQLStrings.get(0)));
+        }
+        return result;
+    }
+
+    private static boolean isTimed(BArray paramSQLStrings) {
+        for (int i = 0; i < paramSQLStrings.size(); i++) {
+            if (QueryExecutionUtils.getTimeoutMillis((BObject) paramSQLStrings.get(i)) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object batchExecute(Environment env, BObject client, BArray paramSQLStrings, boolean offload) {
+        String sqlQuery = null;
+        List<QueryExecutionUtils.ParameterBinder> binders = new ArrayList<>();
+        for (int i = 0; i < paramSQLStrings.size(); i++) {
+            BObject paramSQLString = (BObject) paramSQLStrings.get(i);
+            SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+            if (sqlQuery == null) {
+                sqlQuery = template.getSqlQuery();
+            } else if (!sqlQuery.equals(template.getSqlQuery())) {
+                return ErrorGenerator.getSQLApplicationError("Batch Execute cannot contain different SQL commands. " +
+                        "These has to be executed in different function calls");
+            }
+            binders.add(QueryExecutionUtils.getParameterBinder(template, paramSQLString));
+        }
+        String batchQuery = sqlQuery;
+        QueryResultCache cache = getQueryResultCache(client);
+        Supplier<Object> execute = () -> {
+            BatchFlushEvent flush = BatchFlushEvent.start();
+            Object result = QueryExecutionUtils.executeBatch(client, batchQuery, binders);
+            if (flush.isEnabled()) {
+                flush.finish(client.getNativeData(Constants.CLIENT_NAME), batchQuery, binders.size(),
+                        (long) batchQuery.getBytes(StandardCharsets.UTF_8).length * binders.size());
+            }
+            // A failed batch may have executed some of its statements, hence the results are dropped in any case.
+            if (cache != null) {
+                cache.invalidateTablesOf(batchQuery);
+            }
+            return result;
+        };
+        return offload ? BlockingCallExecutor.offload(env, execute) : execute.get();
+    }
+
+    /**
+     * Returns the action which drops the cached results of the tables modified by a statement, to be run when the
+     * current transaction is committed. Until then, the change is not visible to the other strands, which may cache
+     * the results of the tables again.
+     *
+     * @param client         the `postgresql:Client`
+     * @param paramSQLString the `sql:ParameterizedQuery` of the statement, or `()` if it may modify any table, as a
+     *                       procedure call does
+     * @return the action as a handle, or `()` if the client has no query result cache
+     */
+    public static Object getCacheInvalidation(BObject client, Object paramSQLString) {
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.QueryCache.QUERY_RESULT_CACHE);
+        if (cache == null) {
+            return null;
+        }
+        if (paramSQLString == null) {
+            return ValueCreator.createHandleValue((Runnable) cache::clear);
+        }
+        return getCacheInvalidation(cache, SqlTemplateCache.getSqlQuery(client, (BObject) paramSQLString));
+    }
+
+    static Object getCacheInvalidation(QueryResultCache cache, String sqlQuery) {
+        return ValueCreator.createHandleValue((Runnable) () -> cache.invalidateTablesOf(sqlQuery));
+    }
+
+    public static void invalidateCachedResults(Object invalidation) {
+        Object action = invalidation instanceof BHandle ? ((BHandle) invalidation).getValue() : invalidation;
+        ((Runnable) action).run();
+    }
+
+    /**
+     * Drops the cached results of the tables modified by a statement executed outside a transaction, once it
+     * succeeds.
+     *
+     * @param cache    the query result cache of the client, or `null` if it has none or the statement is executed
+     *                 within a transaction
+     * @param sqlQuery the SQL query of the statement
+     * @param result   the result of the statement
+     * @return the result
+     */
+    static Object invalidateCachedResults(QueryResultCache cache, String sqlQuery, Object result) {
+        if (cache != null && !(result instanceof BError)) {
+            cache.invalidateTablesOf(sqlQuery);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the query result cache of the client outside a transaction. Within a transaction, the cached results
+     * are dropped when the transaction is committed. It is called on the strand of the call, before the call is
+     * offloaded or retried.
+     */
+    static QueryResultCache getQueryResultCache(BObject client) {
+        if (QueryExecutionUtils.isWithinTransaction()) {
+            return null;
+        }
+        return (QueryResultCache) client.getNativeData(Constants.QueryCache.QUERY_RESULT_CACHE);
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.listener.NotificationListener;
+import io.ballerina.stdlib.postgresql.listener.ServiceDispatcher;
+import io.ballerina.stdlib.postgresql.utils.Utils;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Properties;
+
+/**
+ * This class implements the utility methods for the `postgresql:Listener`.
+ *
+ * @since 1.13.2
+ */
+public class ListenerProcessorUtils {
+
+    private ListenerProcessorUtils() {}
+
+    public static Object init(BObject listener, BMap<BString, Object> config) {
+        String url = Utils.getJdbcUrl(config.getStringValue(Constants.ListenerConfiguration.HOST),
+                config.getIntValue(Constants.ListenerConfiguration.PORT),
+                config.getStringValue(Constants.ListenerConfiguration.DATABASE));
+        Properties properties = Utils.getDriverProperties(Utils.generateOptionsMap(
+                config.getMapValue(Constants.ListenerConfiguration.OPTIONS)));
+        BString user = config.getStringValue(Constants.ListenerConfiguration.USERNAME);
+        if (user != null) {
+            properties.setProperty("user", user.getValue());
+        }
+        BString password = config.getStringValue(Constants.ListenerConfiguration.PASSWORD);
+        if (password != null) {
+            properties.setProperty("password", password.getValue());
+        }
+        ServiceDispatcher dispatcher = new ServiceDispatcher();
+        NotificationListener notificationListener = new NotificationListener(url, properties,
+                Utils.getTimeout(config.get(Constants.ListenerConfiguration.POLL_TIMEOUT)),
+                config.getIntValue(Constants.ListenerConfiguration.BATCH_SIZE).intValue(),
+                Utils.getTimeout(config.get(Constants.ListenerConfiguration.BATCH_WINDOW)),
+                Utils.getTimeout(config.get(Constants.ListenerConfiguration.RECONNECT_INTERVAL)),
+                Utils.getTimeout(config.get(Constants.ListenerConfiguration.MAX_RECONNECT_INTERVAL)),
+                dispatcher);
+        listener.addNativeData(Constants.Notification.SERVICE_DISPATCHER, dispatcher);
+        listener.addNativeData(Constants.Notification.NOTIFICATION_LISTENER, notificationListener);
+        return null;
+    }
+
+    public static Object attach(Environment env, BObject listener, BObject service, BArray channels) {
+        ServiceDispatcher dispatcher = (ServiceDispatcher) listener.getNativeData(
+                Constants.Notification.SERVICE_DISPATCHER);
+        dispatcher.setRuntime(env.getRuntime());
+        dispatcher.addService(service, new HashSet<>(Arrays.asList(channels.getStringArray())));
+        return null;
+    }
+
+    public static Object detach(BObject listener, BObject service) {
+        ServiceDispatcher dispatcher = (ServiceDispatcher) listener.getNativeData(
+                Constants.Notification.SERVICE_DISPATCHER);
+        dispatcher.removeService(service);
+        return null;
+    }
+
+    public static Object start(Environment env, BObject listener) {
+        ServiceDispatcher dispatcher = (ServiceDispatcher) listener.getNativeData(
+                Constants.Notification.SERVICE_DISPATCHER);
+        dispatcher.setRuntime(env.getRuntime());
+        NotificationListener notificationListener = (NotificationListener) listener.getNativeData(
+                Constants.Notification.NOTIFICATION_LISTENER);
+        try {
+            notificationListener.start();
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while starting the PostgreSQL listener: ");
+        }
+        return null;
+    }
+
+    public static Object gracefulStop(BObject listener) {
+        return stop(listener, true);
+    }
+
+    public static Object immediateStop(BObject listener) {
+        return stop(listener, false);
+    }
+
+    private static Object stop(BObject listener, boolean graceful) {
+        NotificationListener notificationListener = (NotificationListener) listener.getNativeData(
+                Constants.Notification.NOTIFICATION_LISTENER);
+        notificationListener.stop(graceful);
+        return null;
+    }
+}
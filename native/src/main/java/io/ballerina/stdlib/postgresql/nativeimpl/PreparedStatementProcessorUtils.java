@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.cache.QueryResultCache;
+import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresResultParameterProcessor;
+import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresStatementParameterProcessor;
+import io.ballerina.stdlib.postgresql.retry.RetryPolicy;
+import io.ballerina.stdlib.postgresql.statement.PreparedTemplate;
+import io.ballerina.stdlib.postgresql.utils.BlockingCallExecutor;
+import io.ballerina.stdlib.postgresql.utils.QueryExecutionUtils;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.function.Supplier;
+
+/**
+ * This class provides the implementation of the `postgresql:PreparedStatement` handles. The statements are executed
+ * on any pooled connection, on which the driver prepares them again if they are not in the statement cache of the
+ * connection. Within a transaction, the `sql` module implementation is used with the template bound to the values.
+ *
+ * @since 1.13.2
+ */
+public class PreparedStatementProcessorUtils {
+
+    private PreparedStatementProcessorUtils() {}
+
+    public static Object prepare(BObject statement, BObject client, BObject paramSQLString) {
+        try {
+            statement.addNativeData(Constants.PreparedStatement.PREPARED_TEMPLATE,
+                    PreparedTemplate.prepare(paramSQLString));
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        statement.addNativeData(Constants.PreparedStatement.CLIENT, client);
+        return null;
+    }
+
+    public static Object nativeQuery(Environment env, BObject statement, BArray values, BTypedesc rowType) {
+        PreparedTemplate template = getTemplate(statement);
+        BObject client = getClient(statement);
+        if (QueryExecutionUtils.isWithinTransaction()) {
+            return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, client,
+                    template.createBoundQuery(values), rowType, PostgresStatementParameterProcessor.getInstance(),
+                    PostgresResultParameterProcessor.getInstance());
+        }
+        QueryExecutionUtils.ParameterBinder binder;
+        try {
+            binder = template.getBinder(values);
+        } catch (ApplicationError e) {
+            return QueryExecutionUtils.createErrorStream(ErrorGenerator.getSQLApplicationError(e.getMessage()),
+                    rowType);
+        }
+        Supplier<Object> query = () -> {
+            Object rows = QueryProcessorUtils.routeRead(client,
+                    target -> QueryExecutionUtils.queryRows(target, template.getSqlQuery(), binder, rowType));
+            if (rows instanceof BError) {
+                return QueryExecutionUtils.createErrorStream((BError) rows, rowType);
+            }
+            ((BArray) rows).freezeDirect();
+            return QueryExecutionUtils.createStream((BArray) rows, rowType);
+        };
+        return BlockingCallExecutor.isOffloaded(client) ? BlockingCallExecutor.offload(env, query) : query.get();
+    }
+
+    public static Object nativeQueryRow(Environment env, BObject statement, BArray values, BTypedesc returnType) {
+        PreparedTemplate template = getTemplate(statement);
+        BObject client = getClient(statement);
+        if (QueryExecutionUtils.isWithinTransaction()) {
+            return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, client,
+                    template.createBoundQuery(values), returnType, PostgresStatementParameterProcessor.getInstance(),
+                    PostgresResultParameterProcessor.getInstance());
+        }
+        QueryExecutionUtils.ParameterBinder binder;
+        try {
+            binder = template.getBinder(values);
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        Supplier<Object> queryRow = () -> QueryProcessorUtils.routeRead(client,
+                target -> QueryExecutionUtils.queryRow(target, template.getSqlQuery(), binder, returnType));
+        RetryPolicy retryPolicy = RetryPolicy.get(client);
+        if (retryPolicy != null) {
+            return retryPolicy.execute(env, client, queryRow);
+        }
+        if (BlockingCallExecutor.isOffloaded(client)) {
+            return BlockingCallExecutor.offload(env, queryRow);
+        }
+        return queryRow.get();
+    }
+
+    public static Object nativeExecute(Environment env, BObject statement, BArray values) {
+        PreparedTemplate template = getTemplate(statement);
+        BObject client = getClient(statement);
+        if (QueryExecutionUtils.isWithinTransaction()) {
+            return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeExecute(env, client,
+                    template.createBoundQuery(values), PostgresStatementParameterProcessor.getInstance());
+        }
+        QueryExecutionUtils.ParameterBinder binder;
+        try {
+            binder = template.getBinder(values);
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+        QueryResultCache cache = ExecuteProcessorUtils.getQueryResultCache(client);
+        Supplier<Object> execute = () -> ExecuteProcessorUtils.invalidateCachedResults(cache, template.getSqlQuery(),
+                QueryExecutionUtils.execute(client, template.getSqlQuery(), binder));
+        RetryPolicy retryPolicy = RetryPolicy.get(client);
+        if (retryPolicy != null) {
+            return retryPolicy.execute(env, client, execute);
+        }
+        if (BlockingCallExecutor.isOffloaded(client)) {
+            return BlockingCallExecutor.offload(env, execute);
+        }
+        return execute.get();
+    }
+
+    /**
+     * Returns the action which drops the cached results of the tables modified by the statement, to be run when the
+     * current transaction is committed.
+     *
+     * @param statement the `postgresql:PreparedStatement`
+     * @return the action as a handle, or `()` if the client has no query result cache
+     */
+    public static Object getCacheInvalidation(BObject statement) {
+        QueryResultCache cache = (QueryResultCache) getClient(statement)
+                .getNativeData(Constants.QueryCache.QUERY_RESULT_CACHE);
+        if (cache == null) {
+            return null;
+        }
+        return ExecuteProcessorUtils.getCacheInvalidation(cache, getTemplate(statement).getSqlQuery());
+    }
+
+    private static PreparedTemplate getTemplate(BObject statement) {
+        return (PreparedTemplate) statement.getNativeData(Constants.PreparedStatement.PREPARED_TEMPLATE);
+    }
+
+    private static BObject getClient(BObject statement) {
+        return (BObject) statement.getNativeData(Constants.PreparedStatement.CLIENT);
+    }
+}
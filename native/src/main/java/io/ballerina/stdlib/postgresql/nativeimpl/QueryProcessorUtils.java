@@ -19,11 +19,30 @@
 package io.ballerina.stdlib.postgresql.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.cache.QueryResultCache;
+import io.ballerina.stdlib.postgresql.observability.QueryMetrics;
+import io.ballerina.stdlib.postgresql.observability.QueryTimer;
 import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresResultParameterProcessor;
 import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresStatementParameterProcessor;
+import io.ballerina.stdlib.postgresql.replica.ReplicaRouter;
+import io.ballerina.stdlib.postgresql.retry.RetryPolicy;
+import io.ballerina.stdlib.postgresql.utils.BlockingCallExecutor;
+import io.ballerina.stdlib.postgresql.utils.CursorResult;
+import io.ballerina.stdlib.postgresql.utils.PipelineExecutor;
+import io.ballerina.stdlib.postgresql.utils.QueryExecutionUtils;
+import io.ballerina.stdlib.postgresql.utils.SqlTemplateCache;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * This class provides the query processing implementation which executes sql queries.
@@ -32,16 +51,229 @@ public class QueryProcessorUtils {
 
     private QueryProcessorUtils() {}
     
-    public static BStream nativeQuery(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, client, paramSQLString, recordType,
-                    PostgresStatementParameterProcessor.getInstance(), PostgresResultParameterProcessor.getInstance());
+    public static Object nativeQuery(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
+        boolean isOffloaded = BlockingCallExecutor.isOffloaded(client);
+        if (getQueryResultCache(env, client) == null && !isTimed(paramSQLString)
+                && !QueryExecutionUtils.isWithinTransaction()) {
+            Object rowFetchSize = client.getNativeData(Constants.ROW_FETCH_SIZE);
+            SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+            Supplier<Object> read = () -> routeStreamingRead(client, (target, release) -> CursorResult.query(target,
+                    template.getSqlQuery(), QueryExecutionUtils.getParameterBinder(template, paramSQLString),
+                    recordType, rowFetchSize == null ? 0 : (Integer) rowFetchSize, release, isOffloaded));
+            return isOffloaded ? BlockingCallExecutor.offload(env, read) : read.get();
+        }
+        if (isOffloaded) {
+            // The cached and the timed queries read their rows before the stream is returned.
+            return BlockingCallExecutor.offload(env,
+                    () -> routeRead(client, target -> query(null, client, target, paramSQLString, recordType)));
+        }
+        return routeRead(client, target -> query(env, client, target, paramSQLString, recordType));
     }
 
     public static Object nativeQueryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
+        RetryPolicy retryPolicy = RetryPolicy.get(client);
+        if (retryPolicy != null) {
+            return retryPolicy.execute(env, client, () -> routeRead(client,
+                    target -> queryRow(null, client, target, paramSQLString, recordType)));
+        }
+        if (BlockingCallExecutor.isOffloaded(client)) {
+            return BlockingCallExecutor.offload(env, () -> routeRead(client,
+                    target -> queryRow(null, client, target, paramSQLString, recordType)));
+        }
+        return routeRead(client, target -> queryRow(env, client, target, paramSQLString, recordType));
+    }
+
+    public static Object nativePipeline(Environment env, BObject client, BObject pipelineQuery,
+                                        BArray paramSQLStrings, BArray results, BTypedesc rowType) {
+        if (QueryExecutionUtils.isWithinTransaction()) {
+            return ErrorGenerator.getSQLApplicationError("Pipeline is not supported within a transaction.");
+        }
+        if (BlockingCallExecutor.isOffloaded(client)) {
+            return BlockingCallExecutor.offload(env,
+                    () -> pipeline(client, pipelineQuery, paramSQLStrings, results, rowType));
+        }
+        return pipeline(client, pipelineQuery, paramSQLStrings, results, rowType);
+    }
+
+    private static Object pipeline(BObject client, BObject pipelineQuery, BArray paramSQLStrings, BArray results,
+                                   BTypedesc rowType) {
+        Object error = PipelineExecutor.execute(client, pipelineQuery, paramSQLStrings, results, rowType);
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.QueryCache.QUERY_RESULT_CACHE);
+        if (cache != null) {
+            // Only the queries which returned an execution result may have modified a table.
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i) instanceof BMap) {
+                    cache.invalidateTablesOf(SqlTemplateCache.getSqlQuery(client, (BObject) paramSQLStrings.get(i)));
+                }
+            }
+        }
+        return error;
+    }
+
+    private static BStream query(Environment env, BObject client, BObject target, BObject paramSQLString,
+                                 BTypedesc recordType) {
+        QueryResultCache cache = getQueryResultCache(env, client);
+        if (cache != null) {
+            SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+            String sqlQuery = template.getSqlQuery();
+            String key = QueryResultCache.createKey(sqlQuery, getInsertions(paramSQLString),
+                    recordType.getDescribingType());
+            Object rows = cache.get(key);
+            if (rows == QueryResultCache.MISS) {
+                long generation = cache.getGeneration();
+                rows = QueryExecutionUtils.queryRows(target, sqlQuery,
+                        QueryExecutionUtils.getParameterBinder(template, paramSQLString), recordType);
+                if (rows instanceof BError) {
+                    return QueryExecutionUtils.createErrorStream((BError) rows, recordType);
+                }
+                rows = cache.put(key, sqlQuery, rows, generation);
+            }
+            return QueryExecutionUtils.createStream((BArray) rows, recordType);
+        }
+        if (isTimed(paramSQLString)) {
+            // The statement has to be cancelled on the deadline, hence the rows are read before the stream is
+            // returned rather than while it is consumed.
+            SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+            Object rows = QueryExecutionUtils.queryRows(target, template.getSqlQuery(),
+                    QueryExecutionUtils.getParameterBinder(template, paramSQLString), recordType);
+            if (rows instanceof BError) {
+                return QueryExecutionUtils.createErrorStream((BError) rows, recordType);
+            }
+            ((BArray) rows).freezeDirect();
+            return QueryExecutionUtils.createStream((BArray) rows, recordType);
+        }
+        // Within a transaction, the query is executed on the connection of the transaction by the `sql` module.
+        QueryTimer timer = QueryMetrics.start(client, paramSQLString, QueryMetrics.QUERY);
+        BStream stream = io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, target, paramSQLString,
+                recordType, PostgresStatementParameterProcessor.getInstance(),
+                PostgresResultParameterProcessor.getInstance());
+        if (timer == QueryTimer.NONE) {
+            return stream;
+        }
+        // The `sql` module executes the query before the stream is returned.
+        timer.executed();
+        return QueryExecutionUtils.createInstrumentedStream(stream, timer, recordType);
+    }
+
+    /**
+     * Executes the query row call. Outside a transaction, the query is executed by this module, using the SQL query
+     * and the binding plan cached for the template. If the environment is not given, the call is being offloaded or
+     * retried, hence it is never within a transaction. Within a transaction, the query is executed on the connection
+     * of the transaction by the `sql` module.
+     */
+    private static Object queryRow(Environment env, BObject client, BObject target, BObject paramSQLString,
+                                   BTypedesc recordType) {
+        QueryResultCache cache = getQueryResultCache(env, client);
+        if (cache != null) {
+            SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+            String sqlQuery = template.getSqlQuery();
+            String key = QueryResultCache.createKey(sqlQuery, getInsertions(paramSQLString),
+                    recordType.getDescribingType());
+            Object row = cache.get(key);
+            if (row == QueryResultCache.MISS) {
+                long generation = cache.getGeneration();
+                row = QueryExecutionUtils.queryRow(target, sqlQuery,
+                        QueryExecutionUtils.getParameterBinder(template, paramSQLString), recordType);
+                if (row instanceof BError) {
+                    return row;
+                }
+                row = cache.put(key, sqlQuery, row, generation);
+            }
+            return row;
+        }
+        if (env == null || !QueryExecutionUtils.isWithinTransaction()) {
+            SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+            return QueryExecutionUtils.queryRow(target, template.getSqlQuery(),
+                    QueryExecutionUtils.getParameterBinder(template, paramSQLString), recordType);
+        }
+        QueryTimer timer = QueryMetrics.start(client, paramSQLString, QueryMetrics.QUERY_ROW);
         PostgresStatementParameterProcessor statementParametersProcessor = PostgresStatementParameterProcessor
                 .getInstance();
         PostgresResultParameterProcessor resultParametersProcessor = PostgresResultParameterProcessor.getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, client, paramSQLString, recordType,
-                statementParametersProcessor, resultParametersProcessor);
+        Object row = io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, target, paramSQLString,
+                recordType, statementParametersProcessor, resultParametersProcessor);
+        if (!(row instanceof BError)) {
+            timer.row();
+        }
+        timer.finish();
+        return row;
+    }
+
+    /**
+     * Executes a read on a replica of the client, or on the client itself if it has no replicas.
+     *
+     * @param client    the `postgresql:Client`
+     * @param execution the read, which is given the object holding the pool to execute on
+     * @return the result of the read
+     */
+    static <T> T routeRead(BObject client, Function<BObject, T> execution) {
+        ReplicaRouter router = getReplicaRouter(client);
+        if (router == null) {
+            return execution.apply(client);
+        }
+        int replica = router.acquire();
+        try {
+            return execution.apply(router.getReplicaPool(replica));
+        } finally {
+            router.release(replica);
+        }
+    }
+
+    /**
+     * Executes a read whose rows are read while its stream is consumed, on a replica of the client, or on the client
+     * itself if it has no replicas. The replica is counted as outstanding until the stream releases it, once it is
+     * exhausted, fails or is closed, rather than until the stream is returned.
+     *
+     * @param client    the `postgresql:Client`
+     * @param execution the read, which is given the object holding the pool to execute on and the action which
+     *                  releases it
+     * @return the stream of the read
+     */
+    private static BStream routeStreamingRead(BObject client, BiFunction<BObject, Runnable, BStream> execution) {
+        ReplicaRouter router = getReplicaRouter(client);
+        if (router == null) {
+            return execution.apply(client, () -> { });
+        }
+        int replica = router.acquire();
+        try {
+            return execution.apply(router.getReplicaPool(replica), () -> router.release(replica));
+        } catch (RuntimeException e) {
+            router.release(replica);
+            throw e;
+        }
+    }
+
+    private static ReplicaRouter getReplicaRouter(BObject client) {
+        ReplicaRouter router = (ReplicaRouter) client.getNativeData(Constants.ReadReplicas.REPLICA_ROUTER);
+        // A transaction is bound to a connection of the primary, hence all the queries within it are sent there.
+        if (router == null || QueryExecutionUtils.isWithinTransaction()) {
+            return null;
+        }
+        return router;
+    }
+
+    /**
+     * Returns whether the query is a `postgresql:TimedQuery` which is executed by this module. Within a transaction,
+     * the query is executed on the connection of the transaction by the `sql` module, hence the timeout is not set.
+     *
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @return true if the query has a timeout
+     */
+    static boolean isTimed(BObject paramSQLString) {
+        return QueryExecutionUtils.getTimeoutMillis(paramSQLString) > 0 && !QueryExecutionUtils.isWithinTransaction();
+    }
+
+    private static QueryResultCache getQueryResultCache(Environment env, BObject client) {
+        QueryResultCache cache = (QueryResultCache) client.getNativeData(Constants.QueryCache.QUERY_RESULT_CACHE);
+        // Results read within a transaction may not be committed, hence the cache is bypassed. If the environment is
+        // not given, the call is being offloaded or retried, hence it is never within a transaction.
+        if (cache == null || (env != null && QueryExecutionUtils.isWithinTransaction())) {
+            return null;
+        }
+        return cache;
+    }
+
+    private static BArray getInsertions(BObject paramSQLString) {
+        return paramSQLString.getArrayValue(Constants.ParameterizedQueryFields.INSERTIONS);
     }
 }
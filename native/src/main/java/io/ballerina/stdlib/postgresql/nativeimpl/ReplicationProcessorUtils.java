@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.nativeimpl;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.replication.LogicalReplicationStream;
+import io.ballerina.stdlib.postgresql.utils.Utils;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * This class implements the utility methods for the `postgresql:ReplicationClient`.
+ *
+ * @since 1.13.2
+ */
+public class ReplicationProcessorUtils {
+
+    private ReplicationProcessorUtils() {}
+
+    public static Object init(BObject client, BMap<BString, Object> config) {
+        String url = Utils.getJdbcUrl(config.getStringValue(Constants.Replication.HOST),
+                config.getIntValue(Constants.Replication.PORT),
+                config.getStringValue(Constants.Replication.DATABASE));
+        Properties properties = Utils.getDriverProperties(Utils.generateOptionsMap(
+                config.getMapValue(Constants.Replication.OPTIONS)));
+        BString user = config.getStringValue(Constants.Replication.USERNAME);
+        if (user != null) {
+            properties.setProperty("user", user.getValue());
+        }
+        BString password = config.getStringValue(Constants.Replication.PASSWORD);
+        if (password != null) {
+            properties.setProperty("password", password.getValue());
+        }
+        BString startLsn = config.getStringValue(Constants.Replication.START_LSN);
+        LogicalReplicationStream stream = new LogicalReplicationStream(url, properties,
+                config.getStringValue(Constants.Replication.SLOT_NAME).getValue(),
+                Arrays.asList(config.getArrayValue(Constants.Replication.PUBLICATIONS).getStringArray()),
+                config.getBooleanValue(Constants.Replication.CREATE_SLOT),
+                config.getBooleanValue(Constants.Replication.TEMPORARY_SLOT),
+                startLsn == null ? null : startLsn.getValue(),
+                Utils.getTimeout(config.get(Constants.Replication.STATUS_INTERVAL)));
+        client.addNativeData(Constants.Replication.REPLICATION_STREAM, stream);
+        return null;
+    }
+
+    public static Object startReplication(BObject client) {
+        try {
+            getStream(client).start();
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while starting the logical replication: ");
+        }
+        return null;
+    }
+
+    public static Object nextChangeEvent(BObject client) {
+        try {
+            return getStream(client).next();
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while reading the logical replication stream: ");
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+    }
+
+    public static Object acknowledge(BObject client, BString lsn) {
+        LogSequenceNumber logSequenceNumber = LogSequenceNumber.valueOf(lsn.getValue());
+        if (LogSequenceNumber.INVALID_LSN.equals(logSequenceNumber)) {
+            return ErrorGenerator.getSQLApplicationError("Invalid LSN: " + lsn.getValue());
+        }
+        try {
+            getStream(client).acknowledge(logSequenceNumber);
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while acknowledging the LSN " + lsn + ": ");
+        }
+        return null;
+    }
+
+    public static Object close(BObject client) {
+        try {
+            getStream(client).close();
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while closing the logical replication stream: ");
+        }
+        return null;
+    }
+
+    private static LogicalReplicationStream getStream(BObject client) {
+        return (LogicalReplicationStream) client.getNativeData(Constants.Replication.REPLICATION_STREAM);
+    }
+}
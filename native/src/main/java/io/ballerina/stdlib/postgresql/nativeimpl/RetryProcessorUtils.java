@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.retry.RetryPolicy;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class provides the native implementation of retrying the transactions which fail due to a serialization
+ * failure or a deadlock.
+ *
+ * @since 1.13.2
+ */
+public class RetryProcessorUtils {
+
+    private RetryProcessorUtils() {
+    }
+
+    public static boolean isRetryableError(BError error) {
+        return RetryPolicy.isRetryable(error);
+    }
+
+    public static BDecimal getRetryInterval(BMap<BString, Object> config, long retry) {
+        long backOffMillis = new RetryPolicy(config, new AtomicLong()).getBackOffMillis(retry);
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(backOffMillis, 3));
+    }
+
+    public static long getRetryCount(BObject client) {
+        AtomicLong retryCount = (AtomicLong) client.getNativeData(Constants.Retry.RETRY_COUNT);
+        return retryCount == null ? 0 : retryCount.get();
+    }
+
+    public static void recordRetry(BObject client) {
+        AtomicLong retryCount = (AtomicLong) client.getNativeData(Constants.Retry.RETRY_COUNT);
+        if (retryCount != null) {
+            retryCount.incrementAndGet();
+        }
+    }
+}
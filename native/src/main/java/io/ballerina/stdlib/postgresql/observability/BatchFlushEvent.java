@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This event records sending several statements to the server at once, e.g. a batch or a pipeline, until the server
+ * replies to all of them.
+ *
+ * @since 1.13.2
+ */
+@Name("ballerinax.postgresql.BatchFlush")
+@Label("Batch Flush")
+@Category({"Ballerina", "PostgreSQL"})
+@Description("Sending several statements to the server at once until it replies to all of them")
+@StackTrace(false)
+public final class BatchFlushEvent extends Event {
+
+    @Label("Client Name")
+    String clientName;
+
+    @Label("SQL Template")
+    String sqlTemplate;
+
+    @Label("Statements")
+    long statements;
+
+    @Label("SQL Size")
+    @DataAmount
+    long sqlBytes;
+
+    /**
+     * Starts recording a batch flush. The event is discarded if it is not enabled.
+     *
+     * @return the event
+     */
+    public static BatchFlushEvent start() {
+        BatchFlushEvent event = new BatchFlushEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends recording the batch flush and commits the event.
+     *
+     * @param clientName  the name of the client
+     * @param sqlTemplate the SQL template of the first statement
+     * @param statements  the number of statements
+     * @param sqlBytes    the size of the SQL text of the statements
+     */
+    public void finish(Object clientName, String sqlTemplate, long statements, long sqlBytes) {
+        end();
+        if (shouldCommit()) {
+            this.clientName = clientName == null ? null : clientName.toString();
+            this.sqlTemplate = sqlTemplate;
+            this.statements = statements;
+            this.sqlBytes = sqlBytes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This event records acquiring a connection from the pool of a client for a query.
+ *
+ * @since 1.13.2
+ */
+@Name("ballerinax.postgresql.ConnectionAcquire")
+@Label("Connection Acquire")
+@Category({"Ballerina", "PostgreSQL"})
+@Description("Acquiring a connection from the pool for a query")
+@StackTrace(false)
+final class ConnectionAcquireEvent extends Event {
+
+    @Label("Client Name")
+    String clientName;
+
+    @Label("SQL Template")
+    String sqlTemplate;
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.utils.ModuleUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class counts and times the conversions of the PostgreSQL specific types, per type and direction. Both the
+ * parameters and the results are counted per PostgreSQL type name (e.g., `tstzrange`), with `[]` appended for arrays,
+ * so that the encoding and the decoding of a type are reported under the same name. The element counts of the arrays
+ * are recorded as well. The counters are opt-in, as timing each value is not free, and are published as metrics if
+ * metrics are enabled.
+ *
+ * @since 1.13.2
+ */
+public final class ConversionMetrics {
+
+    private static final String ARRAY_SUFFIX = "[]";
+    private static final StatisticConfig[] STATISTIC_CONFIGS = {StatisticConfig.builder()
+            .expiry(Duration.ofMinutes(1)).buckets(5).percentiles(0.5, 0.75, 0.95, 0.99).build()};
+    private static final Map<String, TypeStatistics> STATISTICS = new ConcurrentHashMap<>();
+    // The PostgreSQL type names of the typed values and of the typed array values, which name their elements.
+    private static final Map<String, String> TYPE_NAMES = new HashMap<>();
+
+    static {
+        addTypeName(Constants.PGTypeNames.INET, Constants.PGTypeNames.INET_ARRAY, Constants.ArrayTypes.INET);
+        addTypeName(Constants.PGTypeNames.CIDR, Constants.PGTypeNames.CIDR_ARRAY, Constants.ArrayTypes.CIDR);
+        addTypeName(Constants.PGTypeNames.MACADDR, Constants.PGTypeNames.MACADDR_ARRAY,
+                Constants.ArrayTypes.MACADDR);
+        addTypeName(Constants.PGTypeNames.MACADDR8, Constants.PGTypeNames.MACADDR8_ARRAY,
+                Constants.ArrayTypes.MACADDR8);
+        addTypeName(Constants.PGTypeNames.POINT, Constants.PGTypeNames.POINT_ARRAY, Constants.ArrayTypes.POINT);
+        addTypeName(Constants.PGTypeNames.LINE, Constants.PGTypeNames.LINE_ARRAY, Constants.ArrayTypes.LINE);
+        addTypeName(Constants.PGTypeNames.LSEG, Constants.PGTypeNames.LSEG_ARRAY, Constants.ArrayTypes.LSEG);
+        addTypeName(Constants.PGTypeNames.PATH, Constants.PGTypeNames.PATH_ARRAY, Constants.ArrayTypes.PATH);
+        addTypeName(Constants.PGTypeNames.BOX, Constants.PGTypeNames.BOX_ARRAY, Constants.ArrayTypes.BOX);
+        addTypeName(Constants.PGTypeNames.POLYGON, Constants.PGTypeNames.POLYGON_ARRAY,
+                Constants.ArrayTypes.POLYGON);
+        addTypeName(Constants.PGTypeNames.CIRCLE, Constants.PGTypeNames.CIRCLE_ARRAY, Constants.ArrayTypes.CIRCLE);
+        addTypeName(Constants.PGTypeNames.UUID, Constants.PGTypeNames.UUID_ARRAY, Constants.ArrayTypes.UUID);
+        addTypeName(Constants.PGTypeNames.TSVECTOR, Constants.PGTypeNames.TSVECTOR_ARRAY,
+                Constants.ArrayTypes.TSVECTOR);
+        addTypeName(Constants.PGTypeNames.TSQUERY, Constants.PGTypeNames.TSQUERY_ARRAY,
+                Constants.ArrayTypes.TSQUERY);
+        addTypeName(Constants.PGTypeNames.JSON, Constants.PGTypeNames.JSON_ARRAY, Constants.ArrayTypes.JSON);
+        addTypeName(Constants.PGTypeNames.JSONB, Constants.PGTypeNames.JSON_BINARY_ARRAY,
+                Constants.ArrayTypes.JSONB);
+        addTypeName(Constants.PGTypeNames.JSON_PATH, Constants.PGTypeNames.JSON_PATH_ARRAY,
+                Constants.ArrayTypes.JSONPATH);
+        addTypeName(Constants.PGTypeNames.INTERVAL, Constants.PGTypeNames.INTERVAL_ARRAY,
+                Constants.ArrayTypes.INTERVAL);
+        addTypeName(Constants.PGTypeNames.INT4RANGE, Constants.PGTypeNames.INTEGER_RANGE_ARRAY,
+                Constants.ArrayTypes.INT4RANGE);
+        addTypeName(Constants.PGTypeNames.INT8RANGE, Constants.PGTypeNames.LONG_RANGE_ARRAY,
+                Constants.ArrayTypes.INT8RANGE);
+        addTypeName(Constants.PGTypeNames.NUMRANGE, Constants.PGTypeNames.NUM_RANGE_ARRAY,
+                Constants.ArrayTypes.NUMRANGE);
+        addTypeName(Constants.PGTypeNames.TSRANGE, Constants.PGTypeNames.TIME_STAMP_RANGE_ARRAY,
+                Constants.ArrayTypes.TSRANGE);
+        addTypeName(Constants.PGTypeNames.TSTZRANGE, Constants.PGTypeNames.TIME_STAMP_Z_RANGE_ARRAY,
+                Constants.ArrayTypes.TSTZRANGE);
+        addTypeName(Constants.PGTypeNames.DATERANGE, Constants.PGTypeNames.DATE_RANGE_ARRAY,
+                Constants.ArrayTypes.DATERANGE);
+        addTypeName(Constants.PGTypeNames.PGBIT, Constants.PGTypeNames.PG_BIT_ARRAY, Constants.ArrayTypes.BIT);
+        addTypeName(Constants.PGTypeNames.VARBITSTRING, Constants.PGTypeNames.VAR_BIT_STRING_ARRAY,
+                Constants.ArrayTypes.BIT_VARYING);
+        addTypeName(Constants.PGTypeNames.BITSTRING, Constants.PGTypeNames.BIT_STRING_ARRAY,
+                Constants.ArrayTypes.BITSTRING);
+        addTypeName(Constants.PGTypeNames.PGLSN, Constants.PGTypeNames.PGLSN_ARRAY, Constants.ArrayTypes.PGLSN);
+        addTypeName(Constants.PGTypeNames.MONEY, Constants.PGTypeNames.MONEY_ARRAY, Constants.ArrayTypes.MONEY);
+        addTypeName(Constants.PGTypeNames.REGCLASS, Constants.PGTypeNames.REG_CLASS_ARRAY,
+                Constants.ArrayTypes.REGCLASS);
+        addTypeName(Constants.PGTypeNames.REGCONFIG, Constants.PGTypeNames.REG_CONFIG_ARRAY,
+                Constants.ArrayTypes.REGCONFIG);
+        addTypeName(Constants.PGTypeNames.REGDICTIONARY, Constants.PGTypeNames.REG_DICTIONARY_ARRAY,
+                Constants.ArrayTypes.REGDICTIONARY);
+        addTypeName(Constants.PGTypeNames.REGNAMESPACE, Constants.PGTypeNames.REG_NAME_SPACE_ARRAY,
+                Constants.ArrayTypes.REGNAMESPACE);
+        addTypeName(Constants.PGTypeNames.REGOPER, Constants.PGTypeNames.REG_OPER_ARRAY,
+                Constants.ArrayTypes.REGOPER);
+        addTypeName(Constants.PGTypeNames.REG_OPERATOR, Constants.PGTypeNames.REG_OPERATOR_ARRAY,
+                Constants.ArrayTypes.REGOPERATOR);
+        addTypeName(Constants.PGTypeNames.REG_PROC, Constants.PGTypeNames.REG_PROC_ARRAY,
+                Constants.ArrayTypes.REGPROC);
+        addTypeName(Constants.PGTypeNames.REG_PROCEDURE, Constants.PGTypeNames.REG_PROCEDURE_ARRAY,
+                Constants.ArrayTypes.REGPROCEDURE);
+        addTypeName(Constants.PGTypeNames.REG_ROLE, Constants.PGTypeNames.REG_ROLE_ARRAY,
+                Constants.ArrayTypes.REGROLE);
+        addTypeName(Constants.PGTypeNames.REG_TYPE, Constants.PGTypeNames.REG_TYPE_ARRAY,
+                Constants.ArrayTypes.REGTYPE);
+        addTypeName(Constants.PGTypeNames.XML, Constants.PGTypeNames.XML_ARRAY, Constants.ArrayTypes.XML);
+    }
+
+    private static volatile boolean enabled = false;
+    private static volatile ArrayType statisticsArrayType;
+
+    private ConversionMetrics() {
+    }
+
+    public static void configure(boolean isEnabled) {
+        enabled = isEnabled;
+    }
+
+    /**
+     * Starts timing a conversion.
+     *
+     * @return the start time, or 0 if the conversions are not counted
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a decoding of a single value, if the conversions are counted.
+     *
+     * @param typeName   the PostgreSQL type name of the value
+     * @param startNanos the start time returned by {@link #start()}
+     */
+    public static void recordDecoded(String typeName, long startNanos) {
+        if (startNanos != 0) {
+            getStatistics(Constants.ConversionStatistics.DECODE, typeName, false)
+                    .record(System.nanoTime() - startNanos, 0);
+        }
+    }
+
+    /**
+     * Records an encoding of a typed value, if the conversions are counted.
+     *
+     * @param typedValueName the name of the typed value (e.g., `TsTzRangeValue`)
+     * @param startNanos     the start time returned by {@link #start()}
+     */
+    public static void recordEncoded(String typedValueName, long startNanos) {
+        if (startNanos != 0) {
+            getStatistics(Constants.ConversionStatistics.ENCODE, getTypeName(typedValueName), false)
+                    .record(System.nanoTime() - startNanos, 0);
+        }
+    }
+
+    /**
+     * Records an encoding of a typed array value, if the conversions are counted.
+     *
+     * @param typedValueName the name of the typed array value (e.g., `TsTzRangeArrayValue`)
+     * @param startNanos     the start time returned by {@link #start()}
+     * @param elements       the number of elements of the array
+     */
+    public static void recordEncodedArray(String typedValueName, long startNanos, int elements) {
+        if (startNanos != 0) {
+            getStatistics(Constants.ConversionStatistics.ENCODE, getTypeName(typedValueName) + ARRAY_SUFFIX, true)
+                    .record(System.nanoTime() - startNanos, elements);
+        }
+    }
+
+    /**
+     * Records a decoding of an array, if the conversions are counted.
+     *
+     * @param elementTypeName the PostgreSQL type name of the elements, to which `[]` is appended
+     * @param startNanos      the start time returned by {@link #start()}
+     * @param elements        the number of elements of the array
+     */
+    public static void recordDecodedArray(String elementTypeName, long startNanos, int elements) {
+        if (startNanos != 0) {
+            getStatistics(Constants.ConversionStatistics.DECODE, elementTypeName + ARRAY_SUFFIX, true)
+                    .record(System.nanoTime() - startNanos, elements);
+        }
+    }
+
+    /**
+     * Returns the statistics of the conversions, optionally resetting them so that the next call returns the
+     * conversions done in between.
+     *
+     * @param reset whether to reset the statistics
+     * @return the `postgresql:ConversionStatistics` array, ordered by the total time spent, the largest first
+     */
+    public static BArray getStatistics(boolean reset) {
+        List<BMap<BString, Object>> records = new ArrayList<>();
+        List<TypeStatistics> statistics = new ArrayList<>(STATISTICS.values());
+        statistics.sort((a, b) -> Long.compare(b.totalNanos.sum(), a.totalNanos.sum()));
+        for (TypeStatistics typeStatistics : statistics) {
+            long count = reset ? typeStatistics.count.sumThenReset() : typeStatistics.count.sum();
+            long elements = reset ? typeStatistics.elements.sumThenReset() : typeStatistics.elements.sum();
+            long totalNanos = reset ? typeStatistics.totalNanos.sumThenReset() : typeStatistics.totalNanos.sum();
+            long maxNanos = reset ? typeStatistics.maxNanos.getAndSet(0) : typeStatistics.maxNanos.get();
+            if (count == 0) {
+                continue;
+            }
+            BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.ConversionStatistics.RECORD_NAME);
+            record.put(Constants.ConversionStatistics.TYPE_NAME, StringUtils.fromString(typeStatistics.typeName));
+            record.put(Constants.ConversionStatistics.DIRECTION, StringUtils.fromString(typeStatistics.direction));
+            record.put(Constants.ConversionStatistics.COUNT, count);
+            record.put(Constants.ConversionStatistics.ELEMENTS, elements);
+            record.put(Constants.ConversionStatistics.TOTAL_TIME, toSeconds(totalNanos));
+            record.put(Constants.ConversionStatistics.MAX_TIME, toSeconds(maxNanos));
+            records.add(record);
+        }
+        if (statisticsArrayType == null) {
+            statisticsArrayType = TypeCreator.createArrayType(ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.ConversionStatistics.RECORD_NAME).getType());
+        }
+        BArray array = ValueCreator.createArrayValue(statisticsArrayType);
+        for (int i = 0; i < records.size(); i++) {
+            array.add(i, records.get(i));
+        }
+        return array;
+    }
+
+    private static void addTypeName(String typedValueName, String typedArrayValueName, String typeName) {
+        TYPE_NAMES.put(typedValueName, typeName);
+        TYPE_NAMES.put(typedArrayValueName, typeName);
+    }
+
+    private static String getTypeName(String typedValueName) {
+        return TYPE_NAMES.getOrDefault(typedValueName, typedValueName);
+    }
+
+    private static TypeStatistics getStatistics(String direction, String typeName, boolean isArray) {
+        String key = direction + ':' + typeName;
+        TypeStatistics statistics = STATISTICS.get(key);
+        if (statistics != null) {
+            return statistics;
+        }
+        return STATISTICS.computeIfAbsent(key, k -> new TypeStatistics(direction, typeName, isArray));
+    }
+
+    private static Object toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, 9));
+    }
+
+    private static final class TypeStatistics {
+
+        private final String direction;
+        private final String typeName;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder elements = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final Gauge time;
+        private final Gauge arrayElements;
+
+        TypeStatistics(String direction, String typeName, boolean isArray) {
+            this.direction = direction;
+            this.typeName = typeName;
+            if (!ObserveUtils.isMetricsEnabled()) {
+                this.time = null;
+                this.arrayElements = null;
+                return;
+            }
+            Set<Tag> tags = Set.of(Tag.of("type", typeName), Tag.of("direction", direction));
+            this.time = Gauge.builder("postgresql_conversion_time_milliseconds")
+                    .description("Time taken to convert a value of a PostgreSQL type").tags(tags)
+                    .summarize(STATISTIC_CONFIGS).register();
+            this.arrayElements = !isArray ? null : Gauge.builder("postgresql_conversion_array_elements")
+                    .description("Number of elements of a converted array of a PostgreSQL type").tags(tags)
+                    .summarize(STATISTIC_CONFIGS).register();
+        }
+
+        void record(long nanos, int arrayElements) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            elements.add(arrayElements);
+            if (time != null) {
+                time.setValue(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+                if (this.arrayElements != null) {
+                    this.arrayElements.setValue(arrayElements);
+                }
+            }
+        }
+    }
+}
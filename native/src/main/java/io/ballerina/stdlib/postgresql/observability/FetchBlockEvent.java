@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This event records reading a block of rows of a result, i.e. the rows fetched from the server in a single trip when
+ * the rows are read through a cursor, and the whole result otherwise.
+ *
+ * @since 1.13.2
+ */
+@Name("ballerinax.postgresql.FetchBlock")
+@Label("Fetch Block")
+@Category({"Ballerina", "PostgreSQL"})
+@Description("Reading a block of rows fetched from the server in a single trip")
+@StackTrace(false)
+final class FetchBlockEvent extends Event {
+
+    @Label("Client Name")
+    String clientName;
+
+    @Label("SQL Template")
+    String sqlTemplate;
+
+    @Label("Rows")
+    long rows;
+}
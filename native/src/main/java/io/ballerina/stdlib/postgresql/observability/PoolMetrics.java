@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import static io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT;
+
+/**
+ * This class publishes the metrics of the connection pool of a client to the Ballerina metrics registry, tagged with
+ * the name of the client. The gauges report the active, idle, and total connections of the pool and the requests
+ * waiting for a connection, while the summaries record how long a connection takes to be acquired, is held by a
+ * call, and takes to be created. The connection times are reported by the pool itself through its metrics tracker.
+ * The metrics are unregistered when the pool is closed, which closes its metrics tracker.
+ *
+ * @since 1.13.2
+ */
+public final class PoolMetrics implements MetricsTrackerFactory {
+
+    private static final String CLIENT_NAME_TAG = "client_name";
+    private static final String HIKARI_DATASOURCE_FIELD = "hikariDataSource";
+    private static final StatisticConfig[] STATISTIC_CONFIGS = {StatisticConfig.builder()
+            .expiry(Duration.ofMinutes(1)).buckets(5).percentiles(0.5, 0.75, 0.95, 0.99).build()};
+
+    private final Set<Tag> tags;
+
+    PoolMetrics(String clientName) {
+        this.tags = Set.of(Tag.of(CLIENT_NAME_TAG, clientName));
+    }
+
+    /**
+     * Publishes the metrics of the connection pool of a client if metrics are enabled. A pool which is shared by
+     * clients, e.g. the global connection pool, is tracked with the name of the first client it is created for.
+     *
+     * @param client     the object holding the connection pool
+     * @param clientName the name of the client
+     */
+    public static void register(BObject client, String clientName) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        HikariDataSource dataSource = getHikariDataSource(client);
+        if (dataSource == null || dataSource.getMetricsTrackerFactory() != null) {
+            return;
+        }
+        try {
+            dataSource.setMetricsTrackerFactory(new PoolMetrics(clientName));
+        } catch (RuntimeException e) {
+            // Another client sharing the pool registered its tracker concurrently, or the metrics of the pool cannot
+            // be registered. The metrics are not required for the pool to work.
+        }
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        List<Metric> metrics = new ArrayList<>();
+        registerPoolGauge(metrics, "postgresql_pool_active_connections", "Number of connections in use", poolStats,
+                PoolStats::getActiveConnections);
+        registerPoolGauge(metrics, "postgresql_pool_idle_connections", "Number of idle connections", poolStats,
+                PoolStats::getIdleConnections);
+        registerPoolGauge(metrics, "postgresql_pool_pending_requests", "Number of requests waiting for a connection",
+                poolStats, PoolStats::getPendingThreads);
+        registerPoolGauge(metrics, "postgresql_pool_total_connections", "Number of open connections", poolStats,
+                PoolStats::getTotalConnections);
+        Gauge acquireTime = createSummary(metrics, "postgresql_pool_connection_acquire_time_milliseconds",
+                "Time taken to acquire a connection from the pool");
+        Gauge holdTime = createSummary(metrics, "postgresql_pool_connection_hold_time_milliseconds",
+                "Time a connection is held before it is returned to the pool");
+        Gauge creationTime = createSummary(metrics, "postgresql_pool_connection_creation_time_milliseconds",
+                "Time taken to open a connection");
+        return new Tracker(metrics, acquireTime, holdTime, creationTime);
+    }
+
+    private void registerPoolGauge(List<Metric> metrics, String name, String description, PoolStats poolStats,
+                                   ToIntFunction<PoolStats> value) {
+        try {
+            metrics.add(PolledGauge.builder(name, poolStats, stats -> value.applyAsInt(stats))
+                    .description(description).tags(tags).register());
+        } catch (RuntimeException e) {
+            // A gauge with the same name and tags is registered by another pool, e.g. of a client with the same
+            // name, hence the gauge of this pool is not published.
+        }
+    }
+
+    private Gauge createSummary(List<Metric> metrics, String name, String description) {
+        try {
+            Gauge summary = Gauge.builder(name).description(description).tags(tags).summarize(STATISTIC_CONFIGS)
+                    .register();
+            metrics.add(summary);
+            return summary;
+        } catch (RuntimeException e) {
+            // A metric of another type is registered with the same name and tags.
+            return null;
+        }
+    }
+
+    private static HikariDataSource getHikariDataSource(BObject client) {
+        Object datasource = client.getNativeData(DATABASE_CLIENT);
+        if (!(datasource instanceof SQLDatasource)) {
+            return null;
+        }
+        try {
+            // The `sql` module does not expose the pool of a datasource.
+            Field field = SQLDatasource.class.getDeclaredField(HIKARI_DATASOURCE_FIELD);
+            field.setAccessible(true);
+            Object dataSource = field.get(datasource);
+            return dataSource instanceof HikariDataSource ? (HikariDataSource) dataSource : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static class Tracker implements IMetricsTracker {
+
+        private final List<Metric> metrics;
+        private final Gauge acquireTime;
+        private final Gauge holdTime;
+        private final Gauge creationTime;
+
+        Tracker(List<Metric> metrics, Gauge acquireTime, Gauge holdTime, Gauge creationTime) {
+            this.metrics = metrics;
+            this.acquireTime = acquireTime;
+            this.holdTime = holdTime;
+            this.creationTime = creationTime;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            if (acquireTime != null) {
+                acquireTime.setValue(elapsedAcquiredNanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            if (holdTime != null) {
+                holdTime.setValue(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            if (creationTime != null) {
+                creationTime.setValue(connectionCreatedMillis);
+            }
+        }
+
+        /**
+         * Unregisters the metrics of the pool, as the pool closes its tracker when it is shut down, i.e. when the
+         * client which owns it is closed. A pool shared by clients, e.g. the global connection pool, keeps its
+         * metrics while it is open.
+         */
+        @Override
+        public void close() {
+            for (Metric metric : metrics) {
+                DefaultMetricRegistry.getInstance().unregister(metric);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.utils.SqlTemplateCache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * This class records the latency of the calls of a client per SQL template. The times of the phases of the calls and
+ * the number of rows are published as summaries tagged with the client name, the operation, and the normalised
+ * template, if metrics are enabled. The calls which take longer than the slow query threshold are logged. The
+ * summaries are unregistered when the client is closed.
+ *
+ * @since 1.13.2
+ */
+public final class QueryMetrics {
+
+    public static final String QUERY = "query";
+    public static final String QUERY_ROW = "queryRow";
+    public static final String EXECUTE = "execute";
+    public static final String BATCH_EXECUTE = "batchExecute";
+    public static final String CALL = "call";
+
+    private static final Logger LOGGER = Logger.getLogger(QueryMetrics.class.getName());
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_TEMPLATES = 1000;
+    private static final String OTHER_TEMPLATES = "other";
+    private static final StatisticConfig[] STATISTIC_CONFIGS = {StatisticConfig.builder()
+            .expiry(Duration.ofMinutes(1)).buckets(5).percentiles(0.5, 0.75, 0.95, 0.99).build()};
+
+    private final String clientName;
+    private final long slowQueryThresholdNanos;
+    private final boolean publishMetrics;
+    private final Map<String, TemplateMetrics> templates = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    public QueryMetrics(String clientName, long slowQueryThresholdMillis, boolean publishMetrics) {
+        this.clientName = clientName;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+        this.publishMetrics = publishMetrics && ObserveUtils.isMetricsEnabled();
+    }
+
+    // Publishes the metrics regardless of whether the metrics of the runtime are enabled, as done in the tests.
+    QueryMetrics(String clientName, boolean publishMetrics) {
+        this.clientName = clientName;
+        this.slowQueryThresholdNanos = 0;
+        this.publishMetrics = publishMetrics;
+    }
+
+    /**
+     * Starts timing a call of a client.
+     *
+     * @param client    the `postgresql:Client`, or the object holding the pool of a read replica
+     * @param sqlQuery  the SQL query with `?` as the parameter placeholders
+     * @param operation the name of the call
+     * @return the timer of the call, which is {@link QueryTimer#NONE} if the client does not record metrics and no
+     * events are being recorded
+     */
+    public static QueryTimer start(BObject client, String sqlQuery, String operation) {
+        QueryMetrics metrics = (QueryMetrics) client.getNativeData(Constants.QUERY_METRICS);
+        return metrics == null && !QueryTimer.isRecording() ? QueryTimer.NONE
+                : new QueryTimer(metrics, (String) client.getNativeData(Constants.CLIENT_NAME), sqlQuery, operation);
+    }
+
+    /**
+     * Starts timing a call of a client, computing the SQL query of the template only if the call is timed.
+     *
+     * @param client         the `postgresql:Client`
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @param operation      the name of the call
+     * @return the timer of the call, which is {@link QueryTimer#NONE} if the client does not record metrics and no
+     * events are being recorded
+     */
+    public static QueryTimer start(BObject client, BObject paramSQLString, String operation) {
+        QueryMetrics metrics = (QueryMetrics) client.getNativeData(Constants.QUERY_METRICS);
+        return metrics == null && !QueryTimer.isRecording() ? QueryTimer.NONE
+                : new QueryTimer(metrics, (String) client.getNativeData(Constants.CLIENT_NAME),
+                SqlTemplateCache.getSqlQuery(client, paramSQLString), operation);
+    }
+
+    /**
+     * Checks whether the client records metrics of its calls.
+     *
+     * @param client the `postgresql:Client`
+     * @return `true` if the client records metrics
+     */
+    public static boolean isEnabled(BObject client) {
+        return client.getNativeData(Constants.QUERY_METRICS) != null;
+    }
+
+    /**
+     * Unregisters the summaries of the templates. The calls which complete after the client is closed are not
+     * published.
+     */
+    public void close() {
+        closed = true;
+        for (TemplateMetrics metrics : templates.values()) {
+            metrics.unregister();
+        }
+        templates.clear();
+    }
+
+    void record(QueryTimer timer, long totalNanos) {
+        TemplateMetrics metrics = getTemplateMetrics(timer);
+        if (metrics.acquireTime != null && !closed) {
+            setMillis(metrics.acquireTime, timer.getAcquiredNanos());
+            setMillis(metrics.executeTime, timer.getExecutedNanos());
+            setMillis(metrics.firstRowTime, timer.getFirstRowNanos());
+            setMillis(metrics.totalTime, totalNanos);
+            metrics.rows.setValue(timer.getRows());
+        }
+        if (slowQueryThresholdNanos > 0 && totalNanos >= slowQueryThresholdNanos && LOGGER.isLoggable(Level.WARNING)) {
+            LOGGER.warning(String.format("Slow %s of client '%s' took %s ms (acquire: %s ms, execute: %s ms, " +
+                            "first row: %s ms) and returned %d row(s): %s", timer.getOperation(), clientName,
+                    formatMillis(totalNanos), formatMillis(timer.getAcquiredNanos()),
+                    formatMillis(timer.getExecutedNanos()), formatMillis(timer.getFirstRowNanos()), timer.getRows(),
+                    metrics.template));
+        }
+    }
+
+    private TemplateMetrics getTemplateMetrics(QueryTimer timer) {
+        String key = timer.getOperation() + ':' + timer.getSqlQuery();
+        TemplateMetrics metrics = templates.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        String template = WHITESPACE.matcher(timer.getSqlQuery()).replaceAll(" ").trim();
+        if (templates.size() >= MAX_TEMPLATES) {
+            // The templates are bounded so that dynamically built SQL does not grow the number of metrics.
+            return templates.computeIfAbsent(timer.getOperation() + ':' + OTHER_TEMPLATES,
+                    k -> new TemplateMetrics(timer.getOperation(), OTHER_TEMPLATES));
+        }
+        return templates.computeIfAbsent(key, k -> new TemplateMetrics(timer.getOperation(), template));
+    }
+
+    private static void setMillis(Gauge gauge, long nanos) {
+        if (nanos >= 0) {
+            gauge.setValue(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private static String formatMillis(long nanos) {
+        return nanos < 0 ? "-" : String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private final class TemplateMetrics {
+
+        private final String template;
+        private final Gauge acquireTime;
+        private final Gauge executeTime;
+        private final Gauge firstRowTime;
+        private final Gauge totalTime;
+        private final Gauge rows;
+
+        TemplateMetrics(String operation, String template) {
+            this.template = template;
+            if (!publishMetrics || closed) {
+                this.acquireTime = null;
+                this.executeTime = null;
+                this.firstRowTime = null;
+                this.totalTime = null;
+                this.rows = null;
+                return;
+            }
+            Set<Tag> tags = Set.of(Tag.of("client_name", clientName), Tag.of("operation", operation),
+                    Tag.of("query", template));
+            this.acquireTime = createSummary("postgresql_query_acquire_time_milliseconds",
+                    "Time taken to acquire the connection of a query", tags);
+            this.executeTime = createSummary("postgresql_query_execute_time_milliseconds",
+                    "Time taken until the server replies to a query", tags);
+            this.firstRowTime = createSummary("postgresql_query_first_row_time_milliseconds",
+                    "Time taken until the first row of a query is read", tags);
+            this.totalTime = createSummary("postgresql_query_total_time_milliseconds",
+                    "Time taken until the result of a query is consumed", tags);
+            this.rows = createSummary("postgresql_query_rows", "Number of rows returned by a query", tags);
+        }
+
+        private void unregister() {
+            if (acquireTime == null) {
+                return;
+            }
+            for (Gauge gauge : new Gauge[]{acquireTime, executeTime, firstRowTime, totalTime, rows}) {
+                DefaultMetricRegistry.getInstance().unregister(gauge);
+            }
+        }
+
+        private Gauge createSummary(String name, String description, Set<Tag> tags) {
+            return Gauge.builder(name).description(description).tags(tags).summarize(STATISTIC_CONFIGS).register();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import jdk.jfr.EventType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class times the phases of a single call: acquiring the connection, executing the statement, reading the first
+ * row, and consuming the result. The phases are recorded as query metrics if the client records them, and as JFR
+ * events if a flight recording is enabling them. Otherwise, the timer of a call is {@link #NONE}, whose methods return
+ * at once, so that the calls are not slowed down when neither is enabled.
+ *
+ * @since 1.13.2
+ */
+public final class QueryTimer {
+
+    public static final QueryTimer NONE = new QueryTimer(null, null, null, null);
+
+    private static final EventType ACQUIRE_EVENT = EventType.getEventType(ConnectionAcquireEvent.class);
+    private static final EventType EXECUTE_EVENT = EventType.getEventType(StatementExecuteEvent.class);
+    private static final EventType FETCH_EVENT = EventType.getEventType(FetchBlockEvent.class);
+
+    private final QueryMetrics metrics;
+    private final String clientName;
+    private final String sqlQuery;
+    private final String operation;
+    private final long startNanos;
+    private long acquiredNanos = -1;
+    private long executedNanos = -1;
+    private long firstRowNanos = -1;
+    private long rows = 0;
+    private boolean finished = false;
+
+    private ConnectionAcquireEvent acquireEvent;
+    private StatementExecuteEvent executeEvent;
+    private FetchBlockEvent fetchEvent;
+    private int fetchSize = 0;
+
+    QueryTimer(QueryMetrics metrics, String clientName, String sqlQuery, String operation) {
+        this.metrics = metrics;
+        this.clientName = clientName;
+        this.sqlQuery = sqlQuery;
+        this.operation = operation;
+        this.startNanos = sqlQuery == null ? 0 : System.nanoTime();
+        if (sqlQuery != null && ACQUIRE_EVENT.isEnabled()) {
+            acquireEvent = new ConnectionAcquireEvent();
+            acquireEvent.begin();
+        }
+    }
+
+    /**
+     * Checks whether a flight recording is enabling any of the events of the calls.
+     *
+     * @return `true` if the events of the calls should be recorded
+     */
+    static boolean isRecording() {
+        return ACQUIRE_EVENT.isEnabled() || EXECUTE_EVENT.isEnabled() || FETCH_EVENT.isEnabled();
+    }
+
+    /**
+     * Sets the number of rows fetched from the server in each trip, so that the rows of each trip are recorded as a
+     * separate fetch block. If not set, all the rows of the result are recorded as a single block.
+     *
+     * @param fetchSize the number of rows fetched in each trip
+     */
+    public synchronized void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Marks that the connection is acquired.
+     */
+    public void acquired() {
+        if (this == NONE) {
+            return;
+        }
+        synchronized (this) {
+            acquiredNanos = System.nanoTime() - startNanos;
+            if (acquireEvent != null) {
+                acquireEvent.end();
+                if (acquireEvent.shouldCommit()) {
+                    acquireEvent.clientName = clientName;
+                    acquireEvent.sqlTemplate = sqlQuery;
+                    acquireEvent.commit();
+                }
+                acquireEvent = null;
+            }
+            if (EXECUTE_EVENT.isEnabled()) {
+                executeEvent = new StatementExecuteEvent();
+                executeEvent.begin();
+            }
+        }
+    }
+
+    /**
+     * Marks that the statement is executed, i.e. the server replied to it.
+     */
+    public void executed() {
+        executed(-1);
+    }
+
+    /**
+     * Marks that a statement which does not return rows is executed.
+     *
+     * @param affectedRows the number of rows affected by the statement
+     */
+    public void executed(long affectedRows) {
+        if (this == NONE) {
+            return;
+        }
+        synchronized (this) {
+            executedNanos = System.nanoTime() - startNanos;
+            if (executeEvent != null) {
+                executeEvent.end();
+                if (executeEvent.shouldCommit()) {
+                    executeEvent.clientName = clientName;
+                    executeEvent.sqlTemplate = sqlQuery;
+                    executeEvent.operation = operation;
+                    executeEvent.sqlBytes = sqlQuery.getBytes(StandardCharsets.UTF_8).length;
+                    executeEvent.affectedRows = affectedRows;
+                    executeEvent.commit();
+                }
+                executeEvent = null;
+            }
+            if (affectedRows < 0 && FETCH_EVENT.isEnabled()) {
+                fetchEvent = new FetchBlockEvent();
+                fetchEvent.begin();
+            }
+        }
+    }
+
+    /**
+     * Counts a row read from the result.
+     */
+    public void row() {
+        if (this == NONE) {
+            return;
+        }
+        synchronized (this) {
+            if (rows++ == 0) {
+                firstRowNanos = System.nanoTime() - startNanos;
+            }
+            if (fetchEvent != null && ++fetchEvent.rows == fetchSize) {
+                commitFetchBlock();
+                fetchEvent = new FetchBlockEvent();
+                fetchEvent.begin();
+            }
+        }
+    }
+
+    private void commitFetchBlock() {
+        fetchEvent.end();
+        if (fetchEvent.shouldCommit()) {
+            fetchEvent.clientName = clientName;
+            fetchEvent.sqlTemplate = sqlQuery;
+            fetchEvent.commit();
+        }
+        fetchEvent = null;
+    }
+
+    /**
+     * Marks that the call is completed, and records its times. Only the first call has an effect.
+     */
+    public void finish() {
+        if (this == NONE) {
+            return;
+        }
+        long totalNanos;
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            totalNanos = System.nanoTime() - startNanos;
+            if (fetchEvent != null && (fetchEvent.rows > 0 || rows == 0)) {
+                commitFetchBlock();
+            }
+        }
+        if (metrics != null) {
+            metrics.record(this, totalNanos);
+        }
+    }
+
+    String getSqlQuery() {
+        return sqlQuery;
+    }
+
+    String getOperation() {
+        return operation;
+    }
+
+    synchronized long getAcquiredNanos() {
+        return acquiredNanos;
+    }
+
+    synchronized long getExecutedNanos() {
+        return executedNanos;
+    }
+
+    synchronized long getFirstRowNanos() {
+        return firstRowNanos;
+    }
+
+    synchronized long getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This event records executing a statement until the server replies to it.
+ *
+ * @since 1.13.2
+ */
+@Name("ballerinax.postgresql.StatementExecute")
+@Label("Statement Execute")
+@Category({"Ballerina", "PostgreSQL"})
+@Description("Executing a statement until the server replies to it")
+@StackTrace(false)
+final class StatementExecuteEvent extends Event {
+
+    @Label("Client Name")
+    String clientName;
+
+    @Label("SQL Template")
+    String sqlTemplate;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("SQL Size")
+    @DataAmount
+    long sqlBytes;
+
+    @Label("Affected Rows")
+    @Description("The number of rows affected by a statement which does not return rows, or -1")
+    long affectedRows;
+}
@@ -23,12 +23,15 @@ import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.utils.XmlUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.observability.ConversionMetrics;
 import io.ballerina.stdlib.postgresql.utils.ConverterUtils;
+import io.ballerina.stdlib.postgresql.utils.InternedValues;
 import io.ballerina.stdlib.postgresql.utils.ModuleUtils;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.TypeMismatchError;
@@ -68,8 +71,16 @@ public class PostgresResultParameterProcessor extends DefaultResultParameterProc
     @Override
     protected BArray createAndPopulateCustomValueArray(Object firstNonNullElement, Type type, 
             java.sql.Array array) throws DataError, SQLException {
+        long startNanos = ConversionMetrics.start();
         String sqlType = ConverterUtils.getArrayType(array);
         Object[] dataArray = (Object[]) array.getArray();
+        BArray ballerinaArray = createCustomValueArray(sqlType, type, dataArray);
+        ConversionMetrics.recordDecodedArray(sqlType, startNanos, dataArray.length);
+        return ballerinaArray;
+    }
+
+    private BArray createCustomValueArray(String sqlType, Type type, Object[] dataArray)
+            throws DataError, SQLException {
         BArray ballerinaArray;
         switch (sqlType) {
             case Constants.ArrayTypes.POINT:
@@ -169,8 +180,16 @@ public class PostgresResultParameterProcessor extends DefaultResultParameterProc
     @Override
     protected BArray createAndPopulateCustomBBRefValueArray(Object firstNonNullElement,
             Type type, java.sql.Array array) throws DataError, SQLException {
+        long startNanos = ConversionMetrics.start();
         String sqlType = ConverterUtils.getArrayType(array);
         Object[] dataArray = (Object[]) array.getArray();
+        BArray ballerinaArray = createCustomBBRefValueArray(sqlType, type, dataArray);
+        ConversionMetrics.recordDecodedArray(sqlType, startNanos, dataArray.length);
+        return ballerinaArray;
+    }
+
+    private BArray createCustomBBRefValueArray(String sqlType, Type type, Object[] dataArray)
+            throws DataError, SQLException {
         BArray ballerinaArray;
         switch (sqlType) {
             case Constants.ArrayTypes.POINT:
@@ -842,6 +861,38 @@ public class PostgresResultParameterProcessor extends DefaultResultParameterProc
         }
     }
 
+    @Override
+    public Object processChar(ResultSet resultSet, int columnIndex, int sqlType, Type ballerinaType)
+            throws DataError, SQLException {
+        InternedValues.Dictionary dictionary = InternedValues.getDictionary(resultSet, columnIndex, sqlType);
+        if (dictionary != null && isStringCompatible(ballerinaType)) {
+            String value = resultSet.getString(columnIndex);
+            if (value != null) {
+                return dictionary.intern(value);
+            }
+        }
+        return super.processChar(resultSet, columnIndex, sqlType, ballerinaType);
+    }
+
+    private static boolean isStringCompatible(Type ballerinaType) {
+        Type type = TypeUtils.getReferredType(ballerinaType);
+        switch (type.getTag()) {
+            case TypeTags.STRING_TAG:
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.JSON_TAG:
+                return true;
+            case TypeTags.UNION_TAG:
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    if (TypeUtils.getReferredType(memberType).getTag() == TypeTags.STRING_TAG) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
     @Override
     public BObject getBalStreamResultIterator() {
         return iteratorObject;
@@ -850,6 +901,16 @@ public class PostgresResultParameterProcessor extends DefaultResultParameterProc
     public Object processCustomTypeFromResultSet(ResultSet resultSet, int columnIndex,
                                                  PrimitiveTypeColumnDefinition columnDefinition) 
             throws DataError, SQLException {
+        long startNanos = ConversionMetrics.start();
+        Object value = convertCustomType(resultSet, columnIndex, columnDefinition);
+        if (startNanos != 0) {
+            ConversionMetrics.recordDecoded(resultSet.getMetaData().getColumnTypeName(columnIndex), startNanos);
+        }
+        return value;
+    }
+
+    private Object convertCustomType(ResultSet resultSet, int columnIndex,
+                                     PrimitiveTypeColumnDefinition columnDefinition) throws DataError, SQLException {
         Type ballerinaType = columnDefinition.getBallerinaType();
         Object value = resultSet.getObject(columnIndex);
         switch (ballerinaType.getName()) {
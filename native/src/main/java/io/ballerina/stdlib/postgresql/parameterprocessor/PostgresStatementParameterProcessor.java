@@ -32,6 +32,7 @@ import io.ballerina.stdlib.io.channels.base.Channel;
 import io.ballerina.stdlib.io.utils.IOConstants;
 import io.ballerina.stdlib.io.utils.IOUtils;
 import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.observability.ConversionMetrics;
 import io.ballerina.stdlib.postgresql.utils.ConverterUtils;
 import io.ballerina.stdlib.sql.exception.ConversionError;
 import io.ballerina.stdlib.sql.exception.DataError;
@@ -392,11 +393,42 @@ public class PostgresStatementParameterProcessor extends DefaultStatementParamet
     protected void setCustomSqlTypedParam(Connection connection, PreparedStatement preparedStatement,
                     int index, BObject typedValue) throws SQLException, DataError {
         String sqlType = TypeUtils.getType(typedValue).getName();
-        Object value = typedValue.get(io.ballerina.stdlib.sql.Constants.TypedValueFields.VALUE);
-        if (sqlType.contains("Array")) {
+        setTypedParam(connection, preparedStatement, index, sqlType, isArrayType(sqlType),
+                typedValue.get(io.ballerina.stdlib.sql.Constants.TypedValueFields.VALUE));
+    }
+
+    /**
+     * Checks whether a PostgreSQL typed value holds an array, from the name of its type.
+     *
+     * @param sqlType the name of the type of the typed value
+     * @return `true` if the typed value holds an array
+     */
+    public static boolean isArrayType(String sqlType) {
+        return sqlType.contains("Array");
+    }
+
+    /**
+     * Sets the value of a PostgreSQL typed value as a parameter, with the type of the typed value already resolved.
+     *
+     * @param connection        the connection of the statement
+     * @param preparedStatement the statement
+     * @param index             the index of the parameter
+     * @param sqlType           the name of the type of the typed value
+     * @param isArray           whether the typed value holds an array
+     * @param value             the value of the typed value
+     * @throws SQLException if the parameter cannot be set
+     * @throws DataError    if the value cannot be converted
+     */
+    public void setTypedParam(Connection connection, PreparedStatement preparedStatement, int index, String sqlType,
+                              boolean isArray, Object value) throws SQLException, DataError {
+        long startNanos = ConversionMetrics.start();
+        if (isArray) {
             setValueArray(sqlType, connection, preparedStatement, index, value);
+            ConversionMetrics.recordEncodedArray(sqlType, startNanos,
+                    value instanceof BArray ? ((BArray) value).size() : 0);
         } else {
             setValue(sqlType, preparedStatement, index, value);
+            ConversionMetrics.recordEncoded(sqlType, startNanos);
         }
     }
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.replica;
+
+import io.ballerina.runtime.api.values.BObject;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class selects the read replica for a query. Each replica is represented by an object which holds the
+ * connection pool of the replica as its native data, in the same way as the `postgresql:Client` holds the pool of
+ * the primary, so that the queries can be executed on a replica as on the client itself.
+ *
+ * @since 1.13.2
+ */
+public class ReplicaRouter {
+
+    private final BObject[] replicaPools;
+    private final AtomicInteger[] outstandingRequests;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final boolean leastOutstanding;
+
+    public ReplicaRouter(List<BObject> replicaPools, boolean leastOutstanding) {
+        this.replicaPools = replicaPools.toArray(new BObject[0]);
+        this.outstandingRequests = new AtomicInteger[this.replicaPools.length];
+        for (int i = 0; i < outstandingRequests.length; i++) {
+            outstandingRequests[i] = new AtomicInteger();
+        }
+        this.leastOutstanding = leastOutstanding;
+    }
+
+    /**
+     * Selects a replica and counts the request as outstanding until it is released.
+     *
+     * @return the index of the selected replica
+     */
+    public int acquire() {
+        int index;
+        if (leastOutstanding) {
+            // Ties are broken in round-robin order so that an idle topology spreads the load evenly.
+            int start = Math.floorMod(nextReplica.getAndIncrement(), replicaPools.length);
+            index = start;
+            int minimum = Integer.MAX_VALUE;
+            for (int i = 0; i < replicaPools.length; i++) {
+                int candidate = (start + i) % replicaPools.length;
+                int outstanding = outstandingRequests[candidate].get();
+                if (outstanding < minimum) {
+                    minimum = outstanding;
+                    index = candidate;
+                }
+            }
+        } else {
+            index = Math.floorMod(nextReplica.getAndIncrement(), replicaPools.length);
+        }
+        outstandingRequests[index].incrementAndGet();
+        return index;
+    }
+
+    public BObject getReplicaPool(int index) {
+        return replicaPools[index];
+    }
+
+    public void release(int index) {
+        outstandingRequests[index].decrementAndGet();
+    }
+
+    public BObject[] getReplicaPools() {
+        return replicaPools.clone();
+    }
+}
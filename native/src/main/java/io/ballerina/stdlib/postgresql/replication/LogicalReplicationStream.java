@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.replication;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.sql.exception.DataError;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Streams the changes of a logical replication slot using the `pgoutput` plugin. Messages are read from the server
+ * only when the consumer asks for the next event, so a slow consumer applies backpressure on the walsender instead
+ * of buffering changes in memory. The position of the slot is advanced only by explicit acknowledgements.
+ *
+ * @since 1.13.2
+ */
+public class LogicalReplicationStream {
+
+    private static final String SLOT_EXISTS_QUERY = "SELECT 1 FROM pg_replication_slots WHERE slot_name = ?";
+    // The time to wait before polling the stream again when the server has not sent a message.
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private final String url;
+    private final Properties properties;
+    private final String slotName;
+    private final String publications;
+    private final boolean createSlot;
+    private final boolean temporarySlot;
+    private final String startLsn;
+    private final long statusIntervalMillis;
+    private final PgOutputDecoder decoder = new PgOutputDecoder();
+    private final Deque<BMap<BString, Object>> pendingEvents = new ArrayDeque<>();
+    private final ReentrantLock readLock = new ReentrantLock();
+
+    private Connection connection;
+    private volatile PGReplicationStream stream;
+
+    public LogicalReplicationStream(String url, Properties properties, String slotName, List<String> publications,
+                                    boolean createSlot, boolean temporarySlot, String startLsn,
+                                    long statusIntervalMillis) {
+        this.url = url;
+        this.properties = properties;
+        this.slotName = slotName;
+        this.publications = String.join(",", publications);
+        this.createSlot = createSlot;
+        this.temporarySlot = temporarySlot;
+        this.startLsn = startLsn;
+        this.statusIntervalMillis = statusIntervalMillis;
+        PGProperty.REPLICATION.set(this.properties, "database");
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(this.properties, "10");
+        PGProperty.PREFER_QUERY_MODE.set(this.properties, "simple");
+    }
+
+    /**
+     * Opens the replication connection, creates the slot if it does not exist, and starts streaming from the
+     * confirmed position of the slot (or the configured start position).
+     *
+     * @throws SQLException if the slot cannot be created or the streaming cannot be started
+     */
+    public synchronized void start() throws SQLException {
+        if (stream != null) {
+            return;
+        }
+        connection = DriverManager.getConnection(url, properties);
+        try {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            if (createSlot && !slotExists()) {
+                if (temporarySlot) {
+                    pgConnection.getReplicationAPI().createReplicationSlot().logical().withSlotName(slotName)
+                            .withOutputPlugin(Constants.Replication.OUTPUT_PLUGIN)
+                            .withTemporaryOption().make();
+                } else {
+                    pgConnection.getReplicationAPI().createReplicationSlot().logical().withSlotName(slotName)
+                            .withOutputPlugin(Constants.Replication.OUTPUT_PLUGIN)
+                            .make();
+                }
+            }
+            ChainedLogicalStreamBuilder builder = pgConnection.getReplicationAPI().replicationStream().logical()
+                    .withSlotName(slotName)
+                    .withSlotOption("proto_version", 1)
+                    .withSlotOption("publication_names", publications)
+                    .withStatusInterval((int) statusIntervalMillis, TimeUnit.MILLISECONDS);
+            if (startLsn != null) {
+                builder.withStartPosition(LogSequenceNumber.valueOf(startLsn));
+            }
+            stream = builder.start();
+        } catch (SQLException e) {
+            closeConnection();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the next change event, blocking until the server sends one. The stream is polled without blocking, and
+     * the read lock is released between the polls, so that the stream can be closed while waiting for a change.
+     *
+     * @return the next change event, or null if the stream is closed
+     * @throws SQLException if reading from the stream fails, or the thread is interrupted while waiting
+     * @throws DataError    if a column value cannot be converted
+     */
+    public BMap<BString, Object> next() throws SQLException, DataError {
+        while (true) {
+            readLock.lock();
+            try {
+                if (!pendingEvents.isEmpty()) {
+                    return pendingEvents.poll();
+                }
+                PGReplicationStream current = stream;
+                if (current == null || current.isClosed()) {
+                    return null;
+                }
+                ByteBuffer message = current.readPending();
+                if (message != null) {
+                    pendingEvents.addAll(decoder.decode(message, current.getLastReceiveLSN()));
+                    continue;
+                }
+            } finally {
+                readLock.unlock();
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for the next change.", e);
+            }
+        }
+    }
+
+    /**
+     * Marks the changes up to the given position as processed, which lets the server recycle the WAL. The status
+     * is sent immediately if no poll is in progress and with the next status update otherwise.
+     *
+     * @param lsn the position of the last processed change
+     * @throws SQLException if the status update cannot be sent
+     */
+    public void acknowledge(LogSequenceNumber lsn) throws SQLException {
+        PGReplicationStream current = stream;
+        if (current == null) {
+            throw new SQLException("Replication stream is not started.");
+        }
+        current.setAppliedLSN(lsn);
+        current.setFlushedLSN(lsn);
+        if (readLock.tryLock()) {
+            try {
+                current.forceUpdateStatus();
+            } finally {
+                readLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Stops the streaming and closes the replication connection. The stream is not thread-safe, hence it is closed
+     * while holding the read lock, which a pending `next` call releases between its polls.
+     *
+     * @throws SQLException if the stream or the connection cannot be closed
+     */
+    public synchronized void close() throws SQLException {
+        readLock.lock();
+        try {
+            PGReplicationStream current = stream;
+            stream = null;
+            pendingEvents.clear();
+            try {
+                if (current != null && !current.isClosed()) {
+                    current.close();
+                }
+            } finally {
+                closeConnection();
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private boolean slotExists() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SLOT_EXISTS_QUERY)) {
+            statement.setString(1, slotName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private void closeConnection() throws SQLException {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.replication;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.utils.ConverterUtils;
+import io.ballerina.stdlib.postgresql.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.exception.DataError;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the messages of the `pgoutput` logical decoding plugin (protocol version 1) into Ballerina
+ * `postgresql:ChangeEvent` records. Relation messages are cached so that the tuples of the following row messages
+ * can be mapped to column names and types.
+ *
+ * @since 1.13.2
+ */
+public class PgOutputDecoder {
+
+    private static final MapType ROW_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+
+    private static final int BOOL_OID = 16;
+    private static final int INT8_OID = 20;
+    private static final int INT2_OID = 21;
+    private static final int INT4_OID = 23;
+    private static final int OID_OID = 26;
+    private static final int JSON_OID = 114;
+    private static final int POINT_OID = 600;
+    private static final int FLOAT4_OID = 700;
+    private static final int FLOAT8_OID = 701;
+    private static final int INTERVAL_OID = 1186;
+    private static final int NUMERIC_OID = 1700;
+    private static final int JSONB_OID = 3802;
+    private static final int INT4RANGE_OID = 3904;
+    private static final int NUMRANGE_OID = 3906;
+    private static final int INT8RANGE_OID = 3926;
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    private long transactionId;
+
+    /**
+     * Decodes a single `pgoutput` message.
+     *
+     * @param buffer the message as read from the replication stream
+     * @param lsn    the WAL position of the message
+     * @return the change events carried by the message, which is empty for the transaction control and metadata
+     * messages
+     * @throws SQLException if a column value cannot be converted
+     * @throws DataError    if a JSON column value cannot be converted
+     */
+    public List<BMap<BString, Object>> decode(ByteBuffer buffer, LogSequenceNumber lsn)
+            throws SQLException, DataError {
+        char type = (char) buffer.get();
+        switch (type) {
+            case 'B':
+                // Final LSN and commit timestamp of the transaction precede the transaction ID.
+                buffer.getLong();
+                buffer.getLong();
+                transactionId = Integer.toUnsignedLong(buffer.getInt());
+                return Collections.emptyList();
+            case 'R':
+                decodeRelation(buffer);
+                return Collections.emptyList();
+            case 'I':
+                return Collections.singletonList(decodeInsert(buffer, lsn));
+            case 'U':
+                return Collections.singletonList(decodeUpdate(buffer, lsn));
+            case 'D':
+                return Collections.singletonList(decodeDelete(buffer, lsn));
+            case 'T':
+                return decodeTruncate(buffer, lsn);
+            default:
+                // Commit, origin and type messages do not carry row changes.
+                return Collections.emptyList();
+        }
+    }
+
+    private void decodeRelation(ByteBuffer buffer) {
+        int relationId = buffer.getInt();
+        String schema = readString(buffer);
+        String table = readString(buffer);
+        // Replica identity setting of the relation.
+        buffer.get();
+        short columnCount = buffer.getShort();
+        String[] columnNames = new String[columnCount];
+        int[] columnTypes = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            // Column flags (part of the key or not) followed by the name, type OID and type modifier.
+            buffer.get();
+            columnNames[i] = readString(buffer);
+            columnTypes[i] = buffer.getInt();
+            buffer.getInt();
+        }
+        relations.put(relationId, new Relation(schema, table, columnNames, columnTypes));
+    }
+
+    private BMap<BString, Object> decodeInsert(ByteBuffer buffer, LogSequenceNumber lsn)
+            throws SQLException, DataError {
+        Relation relation = getRelation(buffer.getInt());
+        // The 'N' marker of the new tuple.
+        buffer.get();
+        BMap<BString, Object> event = createEvent(ChangeOperation.INSERT, relation, lsn);
+        event.put(Constants.Replication.AFTER, readTuple(buffer, relation));
+        return event;
+    }
+
+    private BMap<BString, Object> decodeUpdate(ByteBuffer buffer, LogSequenceNumber lsn)
+            throws SQLException, DataError {
+        Relation relation = getRelation(buffer.getInt());
+        BMap<BString, Object> event = createEvent(ChangeOperation.UPDATE, relation, lsn);
+        char marker = (char) buffer.get();
+        if (marker == 'K' || marker == 'O') {
+            // The old key or the old tuple is sent only if the replica identity requires it.
+            event.put(Constants.Replication.BEFORE, readTuple(buffer, relation));
+            buffer.get();
+        }
+        event.put(Constants.Replication.AFTER, readTuple(buffer, relation));
+        return event;
+    }
+
+    private BMap<BString, Object> decodeDelete(ByteBuffer buffer, LogSequenceNumber lsn)
+            throws SQLException, DataError {
+        Relation relation = getRelation(buffer.getInt());
+        // The 'K' or 'O' marker of the old key or the old tuple.
+        buffer.get();
+        BMap<BString, Object> event = createEvent(ChangeOperation.DELETE, relation, lsn);
+        event.put(Constants.Replication.BEFORE, readTuple(buffer, relation));
+        return event;
+    }
+
+    private List<BMap<BString, Object>> decodeTruncate(ByteBuffer buffer, LogSequenceNumber lsn)
+            throws SQLException {
+        int relationCount = buffer.getInt();
+        // The CASCADE and RESTART IDENTITY options.
+        buffer.get();
+        List<BMap<BString, Object>> events = new ArrayList<>(relationCount);
+        for (int i = 0; i < relationCount; i++) {
+            events.add(createEvent(ChangeOperation.TRUNCATE, getRelation(buffer.getInt()), lsn));
+        }
+        return events;
+    }
+
+    private BMap<BString, Object> readTuple(ByteBuffer buffer, Relation relation) throws SQLException, DataError {
+        short columnCount = buffer.getShort();
+        BMap<BString, Object> row = ValueCreator.createMapValue(ROW_TYPE);
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) buffer.get();
+            BString columnName = StringUtils.fromString(relation.columnNames[i]);
+            if (kind == 'n') {
+                row.put(columnName, null);
+            } else if (kind == 't') {
+                byte[] value = new byte[buffer.getInt()];
+                buffer.get(value);
+                row.put(columnName, convertValue(relation.columnTypes[i],
+                        new String(value, StandardCharsets.UTF_8)));
+            }
+            // Unchanged TOASTed values ('u') are not sent by the server, hence they are left out of the row.
+        }
+        return row;
+    }
+
+    private static Object convertValue(int typeOid, String value) throws SQLException, DataError {
+        switch (typeOid) {
+            case BOOL_OID:
+                return "t".equals(value);
+            case INT2_OID:
+            case INT4_OID:
+            case INT8_OID:
+            case OID_OID:
+                return Long.parseLong(value);
+            case FLOAT4_OID:
+            case FLOAT8_OID:
+                return Double.parseDouble(value);
+            case NUMERIC_OID:
+                // NaN, Infinity, and -Infinity cannot be represented as a decimal.
+                return isSpecialNumeric(value) ? StringUtils.fromString(value) :
+                        ValueCreator.createDecimalValue(new BigDecimal(value));
+            case JSON_OID:
+            case JSONB_OID:
+                return ConverterUtils.getJsonValue(value);
+            case POINT_OID:
+                return ConverterUtils.convertPointToRecord(value, Constants.TypeRecordNames.POINT_RECORD);
+            case INTERVAL_OID:
+                return ConverterUtils.convertIntervalToRecord(value, Constants.TypeRecordNames.INTERVAL_RECORD);
+            case INT4RANGE_OID:
+                return ConverterUtils.convertInt4rangeToRecord(value, Constants.TypeRecordNames.INTEGER_RANGE_RECORD);
+            case INT8RANGE_OID:
+                return ConverterUtils.convertInt8rangeToRecord(value, Constants.TypeRecordNames.LONG_RANGE_RECORD);
+            case NUMRANGE_OID:
+                return ConverterUtils.convertNumRangeToRecord(value,
+                        Constants.TypeRecordNames.NUMERICAL_RANGE_RECORD);
+            default:
+                return StringUtils.fromString(value);
+        }
+    }
+
+    private static boolean isSpecialNumeric(String value) {
+        return "NaN".equals(value) || "Infinity".equals(value) || "-Infinity".equals(value);
+    }
+
+    private BMap<BString, Object> createEvent(ChangeOperation operation, Relation relation, LogSequenceNumber lsn) {
+        BMap<BString, Object> event = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.Replication.CHANGE_EVENT_RECORD);
+        event.put(Constants.Replication.OPERATION, StringUtils.fromString(operation.name()));
+        event.put(Constants.Replication.LSN, StringUtils.fromString(lsn.asString()));
+        event.put(Constants.Replication.TRANSACTION_ID, transactionId);
+        event.put(Constants.Replication.SCHEMA, StringUtils.fromString(relation.schema));
+        event.put(Constants.Replication.TABLE, StringUtils.fromString(relation.table));
+        return event;
+    }
+
+    private Relation getRelation(int relationId) throws SQLException {
+        Relation relation = relations.get(relationId);
+        if (relation == null) {
+            // The server always sends the relation before the first change of a relation in a session.
+            throw new SQLException("Received a change for an unknown relation: " + relationId);
+        }
+        return relation;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int start = buffer.position();
+        int end = start;
+        while (buffer.get(end) != 0) {
+            end++;
+        }
+        byte[] bytes = new byte[end - start];
+        buffer.get(bytes);
+        // Skip the null terminator.
+        buffer.get();
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private enum ChangeOperation {
+        INSERT, UPDATE, DELETE, TRUNCATE
+    }
+
+    private static final class Relation {
+        private final String schema;
+        private final String table;
+        private final String[] columnNames;
+        private final int[] columnTypes;
+
+        private Relation(String schema, String table, String[] columnNames, int[] columnTypes) {
+            this.schema = schema;
+            this.table = table;
+            this.columnNames = columnNames;
+            this.columnTypes = columnTypes;
+        }
+    }
+}
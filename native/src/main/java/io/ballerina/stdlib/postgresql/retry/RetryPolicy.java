@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.retry;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.utils.BlockingCallExecutor;
+import io.ballerina.stdlib.postgresql.utils.QueryExecutionUtils;
+import io.ballerina.stdlib.postgresql.utils.Utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * This class retries the statements of a client which fail due to a serialization failure (SQLSTATE `40001`) or a
+ * deadlock (SQLSTATE `40P01`). A statement executed outside a transaction is rolled back by the server when it fails
+ * with these errors, hence it can be executed again as is. The retries wait for an exponentially growing interval
+ * with full jitter, so that the conflicting statements do not collide again at once.
+ *
+ * @since 1.13.2
+ */
+public final class RetryPolicy {
+
+    private static final String SERIALIZATION_FAILURE = "40001";
+    private static final String DEADLOCK_DETECTED = "40P01";
+
+    private final long maxRetries;
+    private final long initialIntervalMillis;
+    private final double backOffFactor;
+    private final long maxIntervalMillis;
+    private final AtomicLong retryCount;
+
+    public RetryPolicy(BMap<BString, Object> config, AtomicLong retryCount) {
+        this.maxRetries = config.getIntValue(Constants.Retry.MAX_RETRIES);
+        this.initialIntervalMillis = Math.max(0, Utils.getTimeout(config.get(Constants.Retry.INITIAL_INTERVAL)));
+        this.backOffFactor = ((BDecimal) config.get(Constants.Retry.BACK_OFF_FACTOR)).floatValue();
+        this.maxIntervalMillis = Math.max(0, Utils.getTimeout(config.get(Constants.Retry.MAX_INTERVAL)));
+        this.retryCount = retryCount;
+    }
+
+    /**
+     * Returns the retry policy of the client. A failed statement within a transaction aborts the transaction, hence
+     * the statements within a transaction are not retried.
+     *
+     * @param client the `postgresql:Client`
+     * @return the retry policy, or `null` if the statements of the client are not retried
+     */
+    public static RetryPolicy get(BObject client) {
+        RetryPolicy policy = (RetryPolicy) client.getNativeData(Constants.Retry.RETRY_POLICY);
+        if (policy == null || QueryExecutionUtils.isWithinTransaction()) {
+            return null;
+        }
+        return policy;
+    }
+
+    /**
+     * Executes a blocking call, and retries it if it fails with a retryable error. The first attempt runs on the
+     * current thread unless the calls of the client are offloaded, while the retries are offloaded so that the
+     * back-off interval does not hold the thread of the Ballerina scheduler.
+     *
+     * @param env    the environment of the strand
+     * @param client the `postgresql:Client`
+     * @param call   the blocking call
+     * @return the result of the call, or `null` if the result is returned through the future of the strand
+     */
+    public Object execute(Environment env, BObject client, Supplier<Object> call) {
+        if (BlockingCallExecutor.isOffloaded(client)) {
+            return BlockingCallExecutor.offload(env, () -> retry(call, call.get()));
+        }
+        Object result = call.get();
+        if (!isRetryable(result) || maxRetries < 1) {
+            return result;
+        }
+        return BlockingCallExecutor.offload(env, () -> retry(call, result));
+    }
+
+    private Object retry(Supplier<Object> call, Object result) {
+        for (int retry = 1; retry <= maxRetries && isRetryable(result); retry++) {
+            try {
+                Thread.sleep(getBackOffMillis(retry));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+            retryCount.incrementAndGet();
+            result = call.get();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the interval to wait before a retry, which is a random value up to the exponentially grown interval.
+     *
+     * @param retry the number of the retry, starting from 1
+     * @return the interval in milliseconds
+     */
+    public long getBackOffMillis(long retry) {
+        double interval = Math.min(maxIntervalMillis, initialIntervalMillis * Math.pow(backOffFactor, retry - 1));
+        return interval < 1 ? 0 : ThreadLocalRandom.current().nextLong((long) interval + 1);
+    }
+
+    /**
+     * Checks whether the result is an error caused by a serialization failure or a deadlock.
+     *
+     * @param result the result of a call
+     * @return `true` if the call can be retried
+     */
+    public static boolean isRetryable(Object result) {
+        BError error = result instanceof BError ? (BError) result : null;
+        while (error != null) {
+            if (error.getDetails() instanceof BMap) {
+                Object sqlState = ((BMap<?, ?>) error.getDetails()).get(Constants.Retry.SQL_STATE);
+                if (sqlState != null && (SERIALIZATION_FAILURE.equals(sqlState.toString())
+                        || DEADLOCK_DETECTED.equals(sqlState.toString()))) {
+                    return true;
+                }
+            }
+            error = error.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.statement;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Represents the binding of a parameter of a basic type. The values of the other types, such as the typed values
+ * and arrays, are bound by the statement parameter processor.
+ *
+ * @since 1.13.2
+ */
+enum Binder {
+    INT(TypeTags.INT_TAG) {
+        @Override
+        void setValue(PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setLong(index, (Long) value);
+        }
+    },
+    FLOAT(TypeTags.FLOAT_TAG) {
+        @Override
+        void setValue(PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setDouble(index, (Double) value);
+        }
+    },
+    DECIMAL(TypeTags.DECIMAL_TAG) {
+        @Override
+        void setValue(PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setBigDecimal(index, ((BDecimal) value).decimalValue());
+        }
+    },
+    BOOLEAN(TypeTags.BOOLEAN_TAG) {
+        @Override
+        void setValue(PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setBoolean(index, (Boolean) value);
+        }
+    },
+    STRING(TypeTags.STRING_TAG) {
+        @Override
+        void setValue(PreparedStatement statement, int index, Object value) throws SQLException {
+            statement.setString(index, ((BString) value).getValue());
+        }
+    };
+
+    private final int typeTag;
+
+    Binder(int typeTag) {
+        this.typeTag = typeTag;
+    }
+
+    static Binder of(Object value) {
+        if (value == null) {
+            return null;
+        }
+        int tag = TypeUtils.getType(value).getTag();
+        for (Binder binder : values()) {
+            if (binder.typeTag == tag) {
+                return binder;
+            }
+        }
+        return null;
+    }
+
+    boolean accepts(Object value) {
+        return value == null || TypeUtils.getType(value).getTag() == typeTag;
+    }
+
+    void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.NULL);
+        } else {
+            setValue(statement, index, value);
+        }
+    }
+
+    abstract void setValue(PreparedStatement statement, int index, Object value) throws SQLException;
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.statement;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresStatementParameterProcessor;
+import io.ballerina.stdlib.postgresql.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * This class holds the binding plan of an SQL template, which is made from the types of the insertions of an
+ * execution and reused by the executions whose insertions have the same types. A parameter of a basic type is bound
+ * with its `PreparedStatement` setter and a PostgreSQL typed value with the setter of its type, hence an execution
+ * neither looks up the types of the insertions nor goes through the statement parameter processor.
+ *
+ * @since 1.13.2
+ */
+public class BindingPlan {
+
+    private final Parameter[] parameters;
+
+    private BindingPlan(Parameter[] parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Makes the binding plan of the insertions of a template.
+     *
+     * @param insertions the insertions of the `sql:ParameterizedQuery`
+     * @return the binding plan, or `null` if an insertion is of a type which is bound by the statement parameter
+     *         processor only, e.g. an array or a typed value of the `sql` module
+     */
+    public static BindingPlan of(BArray insertions) {
+        Parameter[] parameters = new Parameter[insertions.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = getParameter(insertions.get(i));
+            if (parameters[i] == null) {
+                return null;
+            }
+        }
+        return new BindingPlan(parameters);
+    }
+
+    /**
+     * Binds the insertions of an execution, whose types are the same as the ones the plan is made from.
+     *
+     * @param connection the connection of the statement
+     * @param statement  the statement
+     * @param insertions the insertions of the `sql:ParameterizedQuery`
+     * @throws SQLException if a parameter cannot be set
+     * @throws DataError    if a value cannot be converted
+     */
+    public void bind(Connection connection, PreparedStatement statement, BArray insertions)
+            throws SQLException, DataError {
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i].bind(connection, statement, i + 1, insertions.get(i));
+        }
+    }
+
+    private static Parameter getParameter(Object value) {
+        if (value == null) {
+            return (connection, statement, index, nil) -> statement.setNull(index, Types.NULL);
+        }
+        Binder binder = Binder.of(value);
+        if (binder != null) {
+            return (connection, statement, index, basicValue) -> binder.setValue(statement, index, basicValue);
+        }
+        if (!isPostgreSQLTypedValue(value)) {
+            return null;
+        }
+        String sqlType = TypeUtils.getType(value).getName();
+        boolean isArray = PostgresStatementParameterProcessor.isArrayType(sqlType);
+        return (connection, statement, index, typedValue) -> PostgresStatementParameterProcessor.getInstance()
+                .setTypedParam(connection, statement, index, sqlType, isArray,
+                        ((BObject) typedValue).get(Constants.TypedValueFields.VALUE));
+    }
+
+    private static boolean isPostgreSQLTypedValue(Object value) {
+        if (!(value instanceof BObject)) {
+            return false;
+        }
+        Type type = TypeUtils.getReferredType(((BObject) value).getType());
+        Module module = ModuleUtils.getModule();
+        if (!(type instanceof ObjectType) || module == null || type.getPackage() == null) {
+            return false;
+        }
+        return module.getOrg().equals(type.getPackage().getOrg())
+                && module.getName().equals(type.getPackage().getName())
+                && ((ObjectType) type).getFields()
+                .containsKey(Constants.TypedValueFields.VALUE.getValue());
+    }
+
+    /**
+     * Represents the binding of a parameter.
+     */
+    @FunctionalInterface
+    private interface Parameter {
+        void bind(Connection connection, PreparedStatement statement, int index, Object value)
+                throws SQLException, DataError;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.statement;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresStatementParameterProcessor;
+import io.ballerina.stdlib.postgresql.utils.ModuleUtils;
+import io.ballerina.stdlib.postgresql.utils.QueryExecutionUtils;
+import io.ballerina.stdlib.postgresql.utils.SqlTemplateCache;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * This class holds the analysed form of an SQL template which is prepared once and executed many times. The SQL
+ * text is generated when the template is prepared, and the values given as the insertions of the template decide
+ * the binding plan, i.e. the `PreparedStatement` setter used for each parameter. An execution only binds the new
+ * values, and falls back to the statement parameter processor if a value does not match the plan.
+ *
+ * @since 1.13.2
+ */
+public class PreparedTemplate {
+
+    private final BArray strings;
+    private final String sqlQuery;
+    private final Binder[] bindingPlan;
+
+    private PreparedTemplate(BArray strings, String sqlQuery, Binder[] bindingPlan) {
+        this.strings = strings;
+        this.sqlQuery = sqlQuery;
+        this.bindingPlan = bindingPlan;
+    }
+
+    /**
+     * Analyses an SQL template.
+     *
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @return the prepared template
+     * @throws ApplicationError if the template contains a nested template, whose parameters cannot be mapped to
+     *                          the values of an execution
+     */
+    public static PreparedTemplate prepare(BObject paramSQLString) throws ApplicationError {
+        BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQueryFields.INSERTIONS);
+        Binder[] bindingPlan = new Binder[insertions.size()];
+        for (int i = 0; i < bindingPlan.length; i++) {
+            Object value = insertions.get(i);
+            if (SqlTemplateCache.isTemplate(value)) {
+                throw new ApplicationError("Nested SQL templates are not supported in prepared statements.");
+            }
+            bindingPlan[i] = Binder.of(value);
+        }
+        return new PreparedTemplate(paramSQLString.getArrayValue(Constants.ParameterizedQueryFields.STRINGS),
+                io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString), bindingPlan);
+    }
+
+    public String getSqlQuery() {
+        return sqlQuery;
+    }
+
+    /**
+     * Returns the binder of the given values, to be used for an execution of the template.
+     *
+     * @param values the parameter values
+     * @return the binder
+     * @throws ApplicationError if the number of values does not match the number of parameters
+     */
+    public QueryExecutionUtils.ParameterBinder getBinder(BArray values) throws ApplicationError {
+        if (values.size() != bindingPlan.length) {
+            throw new ApplicationError(String.format("Prepared statement expects %d parameter(s) but %d given.",
+                    bindingPlan.length, values.size()));
+        }
+        return (connection, statement) -> bind(connection, statement, values);
+    }
+
+    /**
+     * Creates an `sql:ParameterizedQuery` with the given values as the insertions, to execute the template with the
+     * `sql` module implementation, e.g., within a transaction.
+     *
+     * @param values the parameter values
+     * @return the template with the values
+     */
+    public BObject createBoundQuery(BArray values) {
+        return ValueCreator.createObjectValue(ModuleUtils.getModule(), Constants.PreparedStatement.BOUND_QUERY_OBJECT,
+                strings, values);
+    }
+
+    private void bind(Connection connection, PreparedStatement statement, BArray values)
+            throws SQLException, ApplicationError {
+        for (int i = 0; i < bindingPlan.length; i++) {
+            if (bindingPlan[i] == null || !bindingPlan[i].accepts(values.get(i))) {
+                PostgresStatementParameterProcessor.getInstance().setParams(connection, statement,
+                        createBoundQuery(values));
+                return;
+            }
+        }
+        for (int i = 0; i < bindingPlan.length; i++) {
+            bindingPlan[i].bind(statement, i + 1, values.get(i));
+        }
+    }
+}
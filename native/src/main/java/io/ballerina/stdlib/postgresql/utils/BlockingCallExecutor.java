@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * This class offloads the blocking JDBC calls of the clients which enable `offloadBlockingCalls`, so that a slow
+ * query does not hold the thread of the Ballerina scheduler running the strand. The strand is suspended and is
+ * resumed with the result once the call completes. The calls run on virtual threads if the runtime supports them
+ * (Java 21 or later), and on a cached pool of daemon threads otherwise.
+ *
+ * @since 1.13.2
+ */
+public final class BlockingCallExecutor {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private BlockingCallExecutor() {
+    }
+
+    /**
+     * Checks whether the calls of the client should be offloaded. The calls within a transaction are not offloaded,
+     * as the transaction context is bound to the strand.
+     *
+     * @param client the `postgresql:Client`
+     * @return `true` if the calls should be offloaded
+     */
+    public static boolean isOffloaded(BObject client) {
+        return Boolean.TRUE.equals(client.getNativeData(Constants.OFFLOAD_BLOCKING_CALLS))
+                && !QueryExecutionUtils.isWithinTransaction();
+    }
+
+    /**
+     * Runs the call on the executor and completes the strand with its result.
+     *
+     * @param env  the environment of the strand
+     * @param call the blocking call
+     * @return `null`, as the result is returned through the future of the strand
+     */
+    public static Object offload(Environment env, Supplier<Object> call) {
+        Future balFuture = env.markAsync();
+        submit(call, balFuture::complete, BlockingCallExecutor::createError);
+        return null;
+    }
+
+    /**
+     * Runs the call on the executor and gives its result to the completion. The completion is always called, with the
+     * error created for the failure if the call throws or cannot be scheduled, as the strand waiting for the result is
+     * not resumed otherwise.
+     *
+     * @param call       the blocking call
+     * @param completion the completion of the strand
+     * @param onFailure  creates the result of a call which throws or cannot be scheduled
+     */
+    static void submit(Supplier<Object> call, Consumer<Object> completion, Function<Throwable, Object> onFailure) {
+        try {
+            EXECUTOR.execute(() -> completion.accept(run(call, onFailure)));
+        } catch (RejectedExecutionException e) {
+            completion.accept(onFailure.apply(e));
+        }
+    }
+
+    private static Object run(Supplier<Object> call, Function<Throwable, Object> onFailure) {
+        try {
+            return call.get();
+        } catch (Throwable e) {
+            return onFailure.apply(e);
+        }
+    }
+
+    private static Object createError(Throwable e) {
+        return ErrorGenerator.getSQLApplicationError("Error while executing the offloaded database call: " + e);
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            // The module targets Java 17, hence the virtual thread executor is looked up at runtime.
+            Method virtualThreadExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) virtualThreadExecutor.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "postgresql-blocking-call-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
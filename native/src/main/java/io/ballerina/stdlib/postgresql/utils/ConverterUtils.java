@@ -688,7 +688,7 @@ public class ConverterUtils {
                 }
                 customRecord = ConversionHelperUtils.getRecordType(customRecord.get(Constants.Custom.VALUE));
                 String valueName = customRecord.get(Constants.Custom.VALUE).toString();
-                return setPGobject(typeName, valueName);
+                return InternedValues.getPGobject(typeName, valueName);
             } else {
                 throw new TypeMismatchError("PostgreSQL Enum", TypeUtils.getType(value).getName(),
                         "postgresql:EnumRecord");
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.observability.QueryMetrics;
+import io.ballerina.stdlib.postgresql.observability.QueryTimer;
+import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresResultParameterProcessor;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * This class reads the rows of a `query` stream executed outside a transaction. If `rowFetchSize` is set, the rows
+ * are read through a cursor, fetching `rowFetchSize` rows in each trip. The driver only uses a cursor when
+ * auto-commit is disabled, hence the query runs in its own transaction, which is committed once the stream is
+ * exhausted or closed. Closing a stream before it is exhausted closes the cursor, so that the server does not produce
+ * the remaining rows, and cancels the statement if a fetch is in flight. Otherwise, the driver reads all the rows
+ * when the query is executed, as it does for the streams of the `sql` module, and the rows are converted to records
+ * while the stream is consumed. The given release action is run once the connection of the stream is released, so
+ * that a read replica counts the stream as outstanding until then.
+ * <p>
+ * If the calls of the client are offloaded, the rows of a cursor are read a batch at a time by the offloaded calls,
+ * and the rows of the batch are then returned without blocking, so that only the calls which fetch a batch from the
+ * server, or end the transaction of the query, are offloaded.
+ *
+ * @since 1.13.2
+ */
+public final class CursorResult {
+
+    // The end of the rows, which is queued after the rows read by an offloaded call.
+    private static final Object END = new Object();
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final RecordType recordType;
+    private final List<ColumnDefinition> columnDefinitions;
+    private final String sqlQuery;
+    private final QueryTimer timer;
+    private final int fetchSize;
+    private final boolean usesCursor;
+    private final long timeoutMillis;
+    private final Runnable onRelease;
+    private final boolean offloaded;
+    private final Queue<Object> rows = new ArrayDeque<>();
+    private volatile boolean fetching = false;
+    private volatile boolean closed = false;
+    private volatile boolean cancelled = false;
+    private boolean released = false;
+
+    private CursorResult(Connection connection, PreparedStatement statement, ResultSet resultSet,
+                         RecordType recordType, List<ColumnDefinition> columnDefinitions, String sqlQuery,
+                         QueryTimer timer, int fetchSize, long timeoutMillis, Runnable onRelease,
+                         boolean offloaded) {
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.recordType = recordType;
+        this.columnDefinitions = columnDefinitions;
+        this.sqlQuery = sqlQuery;
+        this.timer = timer;
+        this.fetchSize = fetchSize;
+        this.usesCursor = fetchSize > 0;
+        this.timeoutMillis = timeoutMillis;
+        this.onRelease = onRelease;
+        this.offloaded = offloaded;
+    }
+
+    /**
+     * Executes a query and returns a stream which reads its rows, through a cursor if a fetch size is given.
+     *
+     * @param client    the `postgresql:Client`
+     * @param sqlQuery  the SQL query with `?` as the parameter placeholders
+     * @param binder    the binder of the parameters
+     * @param rowType   the record type of the rows
+     * @param fetchSize the number of rows fetched in each trip, or 0 to read all the rows on execution
+     * @param onRelease the action run once the connection of the query is released
+     * @param offloaded whether the calls of the client are offloaded
+     * @return the stream
+     */
+    public static BStream query(BObject client, String sqlQuery, QueryExecutionUtils.ParameterBinder binder,
+                                BTypedesc rowType, int fetchSize, Runnable onRelease, boolean offloaded) {
+        Object closedError = QueryExecutionUtils.validateClientStatus(client);
+        if (closedError != null) {
+            onRelease.run();
+            return QueryExecutionUtils.createErrorStream((BError) closedError, rowType);
+        }
+        RecordType recordType = (RecordType) TypeUtils.getReferredType(rowType.getDescribingType());
+        QueryTimer timer = QueryMetrics.start(client, sqlQuery, QueryMetrics.QUERY);
+        timer.setFetchSize(fetchSize);
+        boolean usesCursor = fetchSize > 0;
+        Connection connection = null;
+        PreparedStatement statement = null;
+        try {
+            connection = QueryExecutionUtils.getConnection(client, timer);
+            statement = connection.prepareStatement(sqlQuery);
+            if (usesCursor) {
+                connection.setAutoCommit(false);
+                statement.setFetchSize(fetchSize);
+            }
+            binder.bind(connection, statement);
+            ResultSet resultSet = statement.executeQuery();
+            timer.executed();
+            CursorResult cursor = new CursorResult(connection, statement, resultSet, recordType,
+                    io.ballerina.stdlib.sql.utils.Utils.getColumnDefinitions(resultSet, recordType), sqlQuery, timer,
+                    fetchSize, binder.getTimeoutMillis(), onRelease, offloaded);
+            BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                    Constants.CURSOR_RESULT_ITERATOR_OBJECT);
+            iterator.addNativeData(Constants.CURSOR_RESULT, cursor);
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType, PredefinedTypes.TYPE_NULL),
+                    iterator);
+        } catch (SQLException e) {
+            timer.finish();
+            release(connection, statement, null, usesCursor, false);
+            onRelease.run();
+            return QueryExecutionUtils.createErrorStream(QueryExecutionUtils.getDatabaseError(e, sqlQuery,
+                    binder.getTimeoutMillis()), rowType);
+        } catch (ApplicationError e) {
+            timer.finish();
+            release(connection, statement, null, usesCursor, false);
+            onRelease.run();
+            return QueryExecutionUtils.createErrorStream(ErrorGenerator.getSQLApplicationError(e.getMessage()),
+                    rowType);
+        }
+    }
+
+    /**
+     * Checks whether the calls reading the rows and closing the stream should be offloaded, i.e. the calls of the
+     * client are offloaded, and the rows are read through a cursor.
+     *
+     * @return `true` if the calls should be offloaded
+     */
+    public boolean isOffloaded() {
+        return offloaded && usesCursor;
+    }
+
+    /**
+     * Checks whether the rows read by an offloaded call are not returned yet, in which case the next row is returned
+     * without blocking.
+     *
+     * @return `true` if there is a row to be returned
+     */
+    public synchronized boolean hasBufferedRows() {
+        return !rows.isEmpty();
+    }
+
+    /**
+     * Reads the next row, fetching the next batch from the cursor once the current batch is consumed. If the stream
+     * is offloaded, the rows of the whole batch are read.
+     *
+     * @return the row, `null` if there are no more rows, or an `sql:Error`
+     */
+    public synchronized Object next() {
+        if (rows.isEmpty()) {
+            int count = isOffloaded() ? fetchSize : 1;
+            for (int i = 0; i < count; i++) {
+                Object row = readRow();
+                rows.add(row == null ? END : row);
+                if (!(row instanceof BMap)) {
+                    break;
+                }
+            }
+        }
+        Object row = rows.poll();
+        return row == END ? null : row;
+    }
+
+    private Object readRow() {
+        if (closed) {
+            return null;
+        }
+        try {
+            boolean hasNext;
+            fetching = true;
+            try {
+                hasNext = resultSet.next();
+            } finally {
+                fetching = false;
+            }
+            if (hasNext) {
+                timer.row();
+                return io.ballerina.stdlib.sql.utils.Utils.createBallerinaRecord(recordType,
+                        PostgresResultParameterProcessor.getInstance(), resultSet, columnDefinitions);
+            }
+            closed = true;
+            released = true;
+            timer.finish();
+            return release(true);
+        } catch (SQLException e) {
+            if (closed) {
+                // The statement is cancelled as the stream is closed, which releases the connection.
+                return null;
+            }
+            closed = true;
+            released = true;
+            timer.finish();
+            release(false);
+            return QueryExecutionUtils.getDatabaseError(e, sqlQuery, timeoutMillis);
+        } catch (ApplicationError e) {
+            closed = true;
+            released = true;
+            timer.finish();
+            release(false);
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the cursor and releases the connection. A fetch in flight is cancelled on the server rather than
+     * waiting for its batch to be produced.
+     *
+     * @return `null`, or an `sql:Error` if the transaction of the query cannot be ended
+     */
+    public Object close() {
+        closed = true;
+        timer.finish();
+        // Without a cursor, the rows are already read, hence there is no fetch on the server to cancel.
+        if (usesCursor && fetching) {
+            try {
+                statement.cancel();
+                cancelled = true;
+            } catch (SQLException e) {
+                // The fetch completes on its own, after which the cursor is closed.
+            }
+        }
+        synchronized (this) {
+            rows.clear();
+            if (released) {
+                return null;
+            }
+            released = true;
+            // A cancelled statement aborts the transaction, hence it can only be rolled back.
+            return release(!cancelled);
+        }
+    }
+
+    private Object release(boolean commit) {
+        try {
+            return release(connection, statement, resultSet, usesCursor, commit);
+        } finally {
+            onRelease.run();
+        }
+    }
+
+    private static Object release(Connection connection, PreparedStatement statement, ResultSet resultSet,
+                                  boolean usesCursor, boolean commit) {
+        Object error = null;
+        try {
+            if (resultSet != null) {
+                // Closing the result set closes the portal of the cursor on the server.
+                resultSet.close();
+            }
+            if (statement != null) {
+                statement.close();
+            }
+            if (connection != null && usesCursor) {
+                if (commit) {
+                    connection.commit();
+                } else {
+                    connection.rollback();
+                }
+            }
+        } catch (SQLException e) {
+            error = ErrorGenerator.getSQLDatabaseError(e, "Error while closing the result of the query: ");
+        } finally {
+            if (connection != null) {
+                try {
+                    if (usesCursor) {
+                        connection.setAutoCommit(true);
+                    }
+                    connection.close();
+                } catch (SQLException e) {
+                    if (error == null) {
+                        error = ErrorGenerator.getSQLDatabaseError(e,
+                                "Error while releasing the connection of the query: ");
+                    }
+                }
+            }
+        }
+        return error;
+    }
+}
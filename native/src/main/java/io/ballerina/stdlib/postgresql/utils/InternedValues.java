@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import org.postgresql.util.PGobject;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * This class holds the dictionaries used to intern low-cardinality values. Enum parameters share a single
+ * immutable `PGobject` per label, and the values of enum columns and of the configured text columns share a single
+ * `BString` per distinct value, so that a large result does not allocate a new string per row.
+ *
+ * @since 1.13.2
+ */
+public final class InternedValues {
+
+    private static final Set<String> CHARACTER_TYPES = Set.of("text", "varchar", "bpchar", "char", "name",
+            "character varying", "character");
+    private static final Map<String, PGobject> PG_OBJECTS = new ConcurrentHashMap<>();
+    private static final Map<String, Dictionary> ENUM_DICTIONARIES = new ConcurrentHashMap<>();
+    private static final Map<String, Dictionary> TEXT_DICTIONARIES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ColumnDictionaries> CURRENT_RESULT = ThreadLocal.withInitial(
+            ColumnDictionaries::new);
+
+    private static volatile Set<String> internedTextColumns = Set.of();
+    private static volatile int maxValuesPerColumn = 1024;
+
+    private InternedValues() {
+    }
+
+    public static void configure(BArray textColumns, long maxValues) {
+        Set<String> columns = new HashSet<>();
+        for (String column : textColumns.getStringArray()) {
+            columns.add(column.toLowerCase(Locale.ENGLISH));
+        }
+        internedTextColumns = Set.copyOf(columns);
+        maxValuesPerColumn = (int) Math.max(0, Math.min(maxValues, Integer.MAX_VALUE));
+        TEXT_DICTIONARIES.clear();
+    }
+
+    /**
+     * Returns the shared `PGobject` of the given type and value. The objects are immutable and the number of shared
+     * objects per type is bounded by the same limit used for the column dictionaries.
+     *
+     * @param type  the PostgreSQL type name
+     * @param value the text value
+     * @return the shared `PGobject`
+     * @throws SQLException if the object cannot be created
+     */
+    public static PGobject getPGobject(String type, String value) throws SQLException {
+        String key = type + '\u0000' + value;
+        PGobject pgObject = PG_OBJECTS.get(key);
+        if (pgObject != null) {
+            return pgObject;
+        }
+        pgObject = new ImmutablePGobject(type, value);
+        if (PG_OBJECTS.size() < maxValuesPerColumn * 16L) {
+            PGobject existing = PG_OBJECTS.putIfAbsent(key, pgObject);
+            return existing == null ? pgObject : existing;
+        }
+        return pgObject;
+    }
+
+    /**
+     * Returns the dictionary to decode the given column with, or `null` if the column values should not be interned.
+     * Enum columns are always interned, and text columns are interned only if they are configured.
+     *
+     * @param resultSet   the result set being read
+     * @param columnIndex the index of the column
+     * @param sqlType     the SQL type of the column
+     * @return the dictionary of the column or `null`
+     * @throws SQLException if the column metadata cannot be read
+     */
+    public static Dictionary getDictionary(ResultSet resultSet, int columnIndex, int sqlType) throws SQLException {
+        if (sqlType != Types.VARCHAR && sqlType != Types.CHAR) {
+            return null;
+        }
+        return CURRENT_RESULT.get().getDictionary(resultSet, columnIndex);
+    }
+
+    private static Dictionary resolveDictionary(ResultSetMetaData metaData, int columnIndex) throws SQLException {
+        if (maxValuesPerColumn == 0) {
+            return null;
+        }
+        String typeName = metaData.getColumnTypeName(columnIndex);
+        // The driver reports enum columns as VARCHAR with the name of the enum type.
+        if (typeName != null && !CHARACTER_TYPES.contains(typeName.toLowerCase(Locale.ENGLISH))) {
+            return ENUM_DICTIONARIES.computeIfAbsent(typeName, name -> new Dictionary());
+        }
+        Set<String> textColumns = internedTextColumns;
+        if (textColumns.isEmpty()) {
+            return null;
+        }
+        String columnName = metaData.getColumnLabel(columnIndex).toLowerCase(Locale.ENGLISH);
+        if (!textColumns.contains(columnName)) {
+            return null;
+        }
+        return TEXT_DICTIONARIES.computeIfAbsent(columnName, name -> new Dictionary());
+    }
+
+    /**
+     * Represents the dictionary of a column. Once the column exceeds the configured number of distinct values it is
+     * no longer considered low-cardinality, and the new values are decoded without being added to the dictionary.
+     */
+    public static final class Dictionary {
+        private final Map<String, BString> values = new ConcurrentHashMap<>();
+
+        public BString intern(String value) {
+            BString interned = values.get(value);
+            if (interned != null) {
+                return interned;
+            }
+            interned = fromString(value);
+            if (values.size() < maxValuesPerColumn) {
+                BString existing = values.putIfAbsent(value, interned);
+                return existing == null ? interned : existing;
+            }
+            return interned;
+        }
+    }
+
+    /**
+     * Caches the dictionaries resolved for the columns of the result set that is being read by the current thread,
+     * so that the column metadata is looked up once per result rather than once per row.
+     */
+    private static final class ColumnDictionaries {
+        private static final Dictionary NONE = new Dictionary();
+
+        private WeakReference<ResultSet> resultSet = new WeakReference<>(null);
+        private Dictionary[] dictionaries;
+
+        Dictionary getDictionary(ResultSet resultSet, int columnIndex) throws SQLException {
+            if (this.resultSet.get() != resultSet) {
+                this.resultSet = new WeakReference<>(resultSet);
+                this.dictionaries = new Dictionary[resultSet.getMetaData().getColumnCount() + 1];
+            }
+            Dictionary dictionary = dictionaries[columnIndex];
+            if (dictionary == null) {
+                dictionary = resolveDictionary(resultSet.getMetaData(), columnIndex);
+                dictionaries[columnIndex] = dictionary == null ? NONE : dictionary;
+            }
+            return dictionary == NONE ? null : dictionary;
+        }
+    }
+
+    private static final class ImmutablePGobject extends PGobject {
+        private static final long serialVersionUID = 1L;
+
+        ImmutablePGobject(String type, String value) {
+            this.type = type;
+            this.value = value;
+        }
+
+        @Override
+        public void setType(String type) {
+            throw new UnsupportedOperationException("Shared PGobject cannot be modified");
+        }
+
+        @Override
+        public void setValue(String value) throws SQLException {
+            throw new UnsupportedOperationException("Shared PGobject cannot be modified");
+        }
+    }
+}
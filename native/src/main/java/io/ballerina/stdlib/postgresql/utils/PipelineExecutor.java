@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.observability.BatchFlushEvent;
+import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresStatementParameterProcessor;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import org.postgresql.util.PSQLException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class executes independent SQL queries in a pipeline. The queries are joined into a single multi-statement
+ * template, which the driver sends with the extended protocol and a single `Sync`, so that all of them are executed in
+ * one round trip.
+ * <p>
+ * If a statement fails, the server skips the rest of the statements and rolls back the implicit transaction of the
+ * pipeline, hence none of the queries has taken effect. Only in that case, i.e. when the server reports an error of a
+ * statement, the queries are executed again one by one on the same connection, so that each query gets its own
+ * result or error. The failed query is executed again as well. If the pipeline fails otherwise, e.g. the connection
+ * is lost, a statement is cancelled, or the parameters cannot be bound, it is not known which of the queries have
+ * been executed, or executing them again would fail the same way, hence the error is the result of every query.
+ *
+ * @since 1.13.2
+ */
+public class PipelineExecutor {
+
+    private static final String CONNECTION_EXCEPTION_CLASS = "08";
+    private static final String OPERATOR_INTERVENTION_CLASS = "57";
+
+    private PipelineExecutor() {}
+
+    /**
+     * Executes the queries in a pipeline.
+     *
+     * @param client          the `postgresql:Client`
+     * @param pipelineQuery   the queries joined into a single template
+     * @param paramSQLStrings the `sql:ParameterizedQuery` array
+     * @param results         the array to which the result of each query is added
+     * @param rowType         the record type of the rows returned by the queries
+     * @return `null`, or an `sql:Error` if the pipeline cannot be executed
+     */
+    public static Object execute(BObject client, BObject pipelineQuery, BArray paramSQLStrings, BArray results,
+                                 BTypedesc rowType) {
+        Object closedError = QueryExecutionUtils.validateClientStatus(client);
+        if (closedError != null) {
+            return closedError;
+        }
+        RecordType recordType = (RecordType) TypeUtils.getReferredType(rowType.getDescribingType());
+        String sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(pipelineQuery);
+        try (Connection connection = QueryExecutionUtils.getConnection(client)) {
+            List<Object> pipelineResults = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+                PostgresStatementParameterProcessor.getInstance().setParams(connection, statement, pipelineQuery);
+                BatchFlushEvent flush = BatchFlushEvent.start();
+                boolean isResultSet = statement.execute();
+                if (flush.isEnabled()) {
+                    flush.finish(client.getNativeData(Constants.CLIENT_NAME), sqlQuery, paramSQLStrings.size(),
+                            sqlQuery.getBytes(StandardCharsets.UTF_8).length);
+                }
+                for (int i = 0; i < paramSQLStrings.size(); i++) {
+                    if (i > 0) {
+                        isResultSet = statement.getMoreResults();
+                    }
+                    Object result = readResult(statement, isResultSet, recordType);
+                    if (result == null) {
+                        return ErrorGenerator.getSQLApplicationError(String.format(
+                                "Pipeline expects a single statement per query but query %d has none.", i));
+                    }
+                    pipelineResults.add(result);
+                }
+                if (statement.getMoreResults() || statement.getUpdateCount() != -1) {
+                    return ErrorGenerator.getSQLApplicationError(
+                            "Pipeline expects a single statement per query but a query has more.");
+                }
+            } catch (SQLException e) {
+                pipelineResults.clear();
+                if (isAborted(e, connection)) {
+                    for (int i = 0; i < paramSQLStrings.size(); i++) {
+                        pipelineResults.add(executeSeparately(connection, (BObject) paramSQLStrings.get(i),
+                                recordType));
+                    }
+                } else {
+                    BError error = ErrorGenerator.getSQLDatabaseError(e, "Error while executing the pipeline: ");
+                    for (int i = 0; i < paramSQLStrings.size(); i++) {
+                        pipelineResults.add(error);
+                    }
+                }
+            }
+            for (Object result : pipelineResults) {
+                results.append(result);
+            }
+            return null;
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while executing the pipeline: ");
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns whether the pipeline was aborted by the server due to an error of one of its statements, which rolls
+     * back the implicit transaction of the pipeline. The errors of the connection (class `08`) and the cancellation
+     * of a statement (class `57`, e.g. on a statement timeout) are not counted, nor are the errors raised by the
+     * driver without a reply of the server.
+     */
+    private static boolean isAborted(SQLException e, Connection connection) throws SQLException {
+        if (!(e instanceof PSQLException) || ((PSQLException) e).getServerErrorMessage() == null
+                || connection.isClosed() || !connection.getAutoCommit()) {
+            return false;
+        }
+        String sqlState = e.getSQLState();
+        return sqlState == null || !(sqlState.startsWith(CONNECTION_EXCEPTION_CLASS)
+                || sqlState.startsWith(OPERATOR_INTERVENTION_CLASS));
+    }
+
+    private static Object executeSeparately(Connection connection, BObject paramSQLString, RecordType recordType)
+            throws SQLException {
+        String sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString);
+        try (PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+            PostgresStatementParameterProcessor.getInstance().setParams(connection, statement, paramSQLString);
+            Object result = readResult(statement, statement.execute(), recordType);
+            return result == null ? QueryExecutionUtils.createExecutionResult(0, null) : result;
+        } catch (SQLException e) {
+            if (connection.isClosed()) {
+                throw e;
+            }
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        }
+    }
+
+    private static Object readResult(PreparedStatement statement, boolean isResultSet, RecordType recordType)
+            throws SQLException, ApplicationError {
+        if (isResultSet) {
+            return QueryExecutionUtils.readRows(statement.getResultSet(), recordType);
+        }
+        int updateCount = statement.getUpdateCount();
+        return updateCount == -1 ? null : QueryExecutionUtils.createExecutionResult(updateCount, null);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.CachedQuery;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.core.ResultHandlerBase;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT;
+
+/**
+ * This class warms up the connection pool of a client before the client is returned. The connections are opened in
+ * parallel and the given statements are prepared on the server for each of them, so that the first requests neither
+ * wait for a connection to be opened nor run as unnamed statements until the `preparedStatementThreshold` is reached.
+ *
+ * @since 1.13.2
+ */
+public final class PoolWarmUp {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private PoolWarmUp() {
+    }
+
+    /**
+     * Opens the given number of connections of the pool held by the object and prepares the statements on each.
+     * All the connections are held until every connection is opened, so that the pool does not hand out the same
+     * connection twice, and are then returned to the pool.
+     *
+     * @param pool          the `postgresql:Client` or the replica pool holding the `SQLDatasource`
+     * @param connections   the number of connections to open
+     * @param statements    the SQL statements, with `?` as the parameter placeholders, to be prepared
+     * @param timeoutMillis the maximum time to wait for the warm-up
+     * @throws SQLException if a connection cannot be opened or a statement cannot be prepared
+     */
+    public static void warmUp(BObject pool, int connections, List<String> statements, long timeoutMillis)
+            throws SQLException {
+        if (connections <= 0) {
+            return;
+        }
+        SQLDatasource datasource = (SQLDatasource) pool.getNativeData(DATABASE_CLIENT);
+        ExecutorService executor = Executors.newFixedThreadPool(connections, runnable -> {
+            Thread thread = new Thread(runnable, "postgresql-warm-up-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<Connection>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < connections; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> openConnection(datasource, statements), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new SQLException("Error while warming up the connection pool: " + cause.getMessage(), cause);
+        } catch (TimeoutException e) {
+            throw new SQLException(String.format("Connection pool warm-up did not complete within %d ms.",
+                    timeoutMillis), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Connection pool warm-up was interrupted.", e);
+        } finally {
+            for (CompletableFuture<Connection> future : futures) {
+                future.thenAccept(PoolWarmUp::closeQuietly);
+            }
+            executor.shutdown();
+        }
+    }
+
+    private static Connection openConnection(SQLDatasource datasource, List<String> statements) {
+        Connection connection = null;
+        try {
+            connection = datasource.getSQLConnection();
+            prepareStatements(connection, statements);
+            return connection;
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Prepares the statements as named server-side statements, which the driver keeps in the statement cache of the
+     * connection for the later executions. Each statement is only parsed and described on the server, as done by the
+     * driver for the statement metadata, but with a named statement, and is never executed, so that the warm-up has
+     * no side effects. The statement is then counted as executed up to the `prepareThreshold` of the connection, so
+     * that its next execution uses the named statement. A statement which cannot be parsed fails the warm-up.
+     */
+    private static void prepareStatements(Connection connection, List<String> statements) throws SQLException {
+        BaseConnection pgConnection = connection.unwrap(BaseConnection.class);
+        int prepareThreshold = pgConnection.getPrepareThreshold();
+        if (statements.isEmpty() || prepareThreshold <= 0) {
+            // The server-side prepared statements are disabled with a threshold of 0.
+            return;
+        }
+        QueryExecutor executor = pgConnection.getQueryExecutor();
+        for (String sql : statements) {
+            CachedQuery cachedQuery = executor.borrowQuery(sql);
+            try {
+                int flags = QueryExecutor.QUERY_DESCRIBE_ONLY | QueryExecutor.QUERY_SUPPRESS_BEGIN;
+                executor.execute(cachedQuery.query, cachedQuery.query.createParameterList(), new ResultHandlerBase(),
+                        0, 0, flags);
+                cachedQuery.increaseExecuteCount(Math.max(0, prepareThreshold - 1 - cachedQuery.getExecuteCount()));
+            } finally {
+                executor.releaseQuery(cachedQuery);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // The connection is discarded by the pool.
+        }
+    }
+}
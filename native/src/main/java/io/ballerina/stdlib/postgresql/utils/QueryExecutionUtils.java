@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.observability.QueryMetrics;
+import io.ballerina.stdlib.postgresql.observability.QueryTimer;
+import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresResultParameterProcessor;
+import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresStatementParameterProcessor;
+import io.ballerina.stdlib.postgresql.statement.BindingPlan;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.PrimitiveTypeColumnDefinition;
+import org.postgresql.jdbc.PgStatement;
+
+import java.math.BigDecimal;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT;
+import static io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT_ACTIVE_STATUS;
+
+/**
+ * This class executes the calls of a client outside a transaction synchronously on a pooled connection, using the
+ * SQL query and the binding plan cached for their templates. Transactions are not handled here, hence the callers
+ * fall back to the `sql` module implementation within a transaction.
+ *
+ * @since 1.13.2
+ */
+public class QueryExecutionUtils {
+
+    private static final String INSERT = "INSERT";
+
+    private QueryExecutionUtils() {}
+
+    /**
+     * Binds the parameters of a statement before it is executed.
+     */
+    @FunctionalInterface
+    public interface ParameterBinder {
+        void bind(Connection connection, PreparedStatement statement) throws SQLException, ApplicationError;
+
+        /**
+         * Returns the timeout which the binder sets on the statement.
+         *
+         * @return the timeout in milliseconds, or 0 if the binder sets no timeout
+         */
+        default long getTimeoutMillis() {
+            return 0;
+        }
+    }
+
+    public static boolean isWithinTransaction() {
+        return io.ballerina.stdlib.sql.utils.Utils.isWithinTrxBlock(TransactionResourceManager.getInstance());
+    }
+
+    /**
+     * Executes a query which is expected to return at most one row.
+     *
+     * @param client         the `postgresql:Client`
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @param returnType     the type of the row, which can be a basic type if the query returns a single column
+     * @return the row, or an `sql:NoRowsError` or an `sql:Error`
+     */
+    public static Object queryRow(BObject client, BObject paramSQLString, BTypedesc returnType) {
+        SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+        return queryRow(client, template.getSqlQuery(), getParameterBinder(template, paramSQLString), returnType);
+    }
+
+    /**
+     * Executes a query which is expected to return at most one row, binding the parameters with the given binder.
+     *
+     * @param client     the `postgresql:Client`
+     * @param sqlQuery   the SQL query with `?` as the parameter placeholders
+     * @param binder     the binder of the parameters
+     * @param returnType the type of the row, which can be a basic type if the query returns a single column
+     * @return the row, or an `sql:NoRowsError` or an `sql:Error`
+     */
+    public static Object queryRow(BObject client, String sqlQuery, ParameterBinder binder, BTypedesc returnType) {
+        Object closedError = validateClientStatus(client);
+        if (closedError != null) {
+            return closedError;
+        }
+        Type describingType = TypeUtils.getReferredType(returnType.getDescribingType());
+        QueryTimer timer = QueryMetrics.start(client, sqlQuery, QueryMetrics.QUERY_ROW);
+        try (Connection connection = getConnection(client, timer);
+             PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+            binder.bind(connection, statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                timer.executed();
+                if (!resultSet.next()) {
+                    return ErrorGenerator.getNoRowsError("Query did not retrieve any rows.");
+                }
+                timer.row();
+                if (describingType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                    RecordType recordType = (RecordType) describingType;
+                    List<ColumnDefinition> columnDefinitions = io.ballerina.stdlib.sql.utils.Utils
+                            .getColumnDefinitions(resultSet, recordType);
+                    return io.ballerina.stdlib.sql.utils.Utils.createBallerinaRecord(recordType,
+                            PostgresResultParameterProcessor.getInstance(), resultSet, columnDefinitions);
+                }
+                PrimitiveTypeColumnDefinition definition = io.ballerina.stdlib.sql.utils.Utils
+                        .getColumnDefinition(resultSet, 1, describingType);
+                return io.ballerina.stdlib.sql.utils.Utils.getResult(resultSet, 1, definition,
+                        PostgresResultParameterProcessor.getInstance());
+            }
+        } catch (SQLException e) {
+            return getDatabaseError(e, sqlQuery, binder.getTimeoutMillis());
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            timer.finish();
+        }
+    }
+
+    /**
+     * Executes a query and reads all the rows of the result.
+     *
+     * @param client         the `postgresql:Client`
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @param rowType        the record type of the rows
+     * @return the rows as an array, or an `sql:Error`
+     */
+    public static Object queryRows(BObject client, BObject paramSQLString, BTypedesc rowType) {
+        SqlTemplateCache.Entry template = SqlTemplateCache.getEntry(client, paramSQLString);
+        return queryRows(client, template.getSqlQuery(), getParameterBinder(template, paramSQLString), rowType);
+    }
+
+    /**
+     * Executes a query and reads all the rows of the result, binding the parameters with the given binder.
+     *
+     * @param client   the `postgresql:Client`
+     * @param sqlQuery the SQL query with `?` as the parameter placeholders
+     * @param binder   the binder of the parameters
+     * @param rowType  the record type of the rows
+     * @return the rows as an array, or an `sql:Error`
+     */
+    public static Object queryRows(BObject client, String sqlQuery, ParameterBinder binder, BTypedesc rowType) {
+        Object closedError = validateClientStatus(client);
+        if (closedError != null) {
+            return closedError;
+        }
+        RecordType recordType = (RecordType) TypeUtils.getReferredType(rowType.getDescribingType());
+        QueryTimer timer = QueryMetrics.start(client, sqlQuery, QueryMetrics.QUERY);
+        try (Connection connection = getConnection(client, timer);
+             PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+            binder.bind(connection, statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                timer.executed();
+                return readRows(resultSet, recordType, timer);
+            }
+        } catch (SQLException e) {
+            return getDatabaseError(e, sqlQuery, binder.getTimeoutMillis());
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            timer.finish();
+        }
+    }
+
+    /**
+     * Executes a statement which does not return rows, binding the parameters with the given binder.
+     *
+     * @param client   the `postgresql:Client`
+     * @param sqlQuery the SQL statement with `?` as the parameter placeholders
+     * @param binder   the binder of the parameters
+     * @return the `sql:ExecutionResult`, or an `sql:Error`
+     */
+    public static Object execute(BObject client, String sqlQuery, ParameterBinder binder) {
+        Object closedError = validateClientStatus(client);
+        if (closedError != null) {
+            return closedError;
+        }
+        boolean isInsert = sqlQuery.stripLeading().regionMatches(true, 0, INSERT, 0, INSERT.length());
+        QueryTimer timer = QueryMetrics.start(client, sqlQuery, QueryMetrics.EXECUTE);
+        try (Connection connection = getConnection(client, timer);
+             PreparedStatement statement = isInsert
+                     ? connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS)
+                     : connection.prepareStatement(sqlQuery)) {
+            binder.bind(connection, statement);
+            int affectedRowCount = statement.executeUpdate();
+            timer.executed(affectedRowCount);
+            Object lastInsertId = null;
+            if (isInsert) {
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    lastInsertId = getLastInsertId(keys);
+                }
+            }
+            return createExecutionResult(affectedRowCount, lastInsertId);
+        } catch (SQLException e) {
+            return getDatabaseError(e, sqlQuery, binder.getTimeoutMillis());
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            timer.finish();
+        }
+    }
+
+    /**
+     * Executes the statements of a batch, which share the same SQL statement, in a single round trip, binding the
+     * parameters of each statement with its binder. If a statement fails, an `sql:BatchExecuteError` is returned
+     * with the results of the statements executed before it.
+     *
+     * @param client   the `postgresql:Client`
+     * @param sqlQuery the SQL statement with `?` as the parameter placeholders
+     * @param binders  the binders of the parameters of the statements
+     * @return the `sql:ExecutionResult` array, or an `sql:Error`
+     */
+    public static Object executeBatch(BObject client, String sqlQuery, List<ParameterBinder> binders) {
+        Object closedError = validateClientStatus(client);
+        if (closedError != null) {
+            return closedError;
+        }
+        boolean isInsert = sqlQuery.stripLeading().regionMatches(true, 0, INSERT, 0, INSERT.length());
+        QueryTimer timer = QueryMetrics.start(client, sqlQuery, QueryMetrics.BATCH_EXECUTE);
+        List<Object> results = new ArrayList<>();
+        try (Connection connection = getConnection(client, timer);
+             PreparedStatement statement = isInsert
+                     ? connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS)
+                     : connection.prepareStatement(sqlQuery)) {
+            for (ParameterBinder binder : binders) {
+                binder.bind(connection, statement);
+                statement.addBatch();
+            }
+            long timeoutMillis = getTimeoutMillis(binders);
+            if (timeoutMillis > 0) {
+                // The whole batch is sent at once, hence it is given the longest timeout of its statements.
+                statement.unwrap(PgStatement.class).setQueryTimeoutMs(timeoutMillis);
+            }
+            int[] counts;
+            try {
+                counts = statement.executeBatch();
+            } catch (BatchUpdateException e) {
+                for (int count : e.getUpdateCounts()) {
+                    if (count != Statement.EXECUTE_FAILED) {
+                        results.add(createExecutionResult(count, null));
+                    }
+                }
+                return getBatchExecuteError(e, sqlQuery, results);
+            }
+            long affectedRowCount = 0;
+            try (ResultSet keys = isInsert ? statement.getGeneratedKeys() : null) {
+                for (int count : counts) {
+                    affectedRowCount += Math.max(count, 0);
+                    results.add(createExecutionResult(count, keys == null ? null : getLastInsertId(keys)));
+                }
+            }
+            timer.executed(affectedRowCount);
+            return createExecutionResults(results);
+        } catch (SQLException e) {
+            return getDatabaseError(e, sqlQuery, getTimeoutMillis(binders));
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            timer.finish();
+        }
+    }
+
+    /**
+     * Creates a `stream` over rows which are already read and frozen.
+     *
+     * @param rows    the rows
+     * @param rowType the record type of the rows
+     * @return the stream
+     */
+    public static BStream createStream(BArray rows, BTypedesc rowType) {
+        return createStream(rows, null, rowType);
+    }
+
+    /**
+     * Creates a `stream` which returns the given error on the first read.
+     *
+     * @param error   the error
+     * @param rowType the record type of the stream
+     * @return the stream
+     */
+    public static BStream createErrorStream(BError error, BTypedesc rowType) {
+        Type recordType = TypeUtils.getReferredType(rowType.getDescribingType());
+        BArray rows = ValueCreator.createArrayValue(TypeCreator.createArrayType(recordType));
+        rows.freezeDirect();
+        return createStream(rows, error, rowType);
+    }
+
+    /**
+     * Creates a `stream` which reads the rows of the given stream while recording them with the timer of the query.
+     *
+     * @param stream  the stream of the query
+     * @param timer   the timer of the query
+     * @param rowType the record type of the rows
+     * @return the stream
+     */
+    public static BStream createInstrumentedStream(BStream stream, QueryTimer timer, BTypedesc rowType) {
+        Type recordType = TypeUtils.getReferredType(rowType.getDescribingType());
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.INSTRUMENTED_RESULT_ITERATOR_OBJECT, stream);
+        iterator.addNativeData(Constants.QUERY_TIMER, timer);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType, PredefinedTypes.TYPE_NULL),
+                iterator);
+    }
+
+    private static BStream createStream(BArray rows, BError error, BTypedesc rowType) {
+        Type recordType = TypeUtils.getReferredType(rowType.getDescribingType());
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.MATERIALIZED_RESULT_ITERATOR_OBJECT, rows, error);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType, PredefinedTypes.TYPE_NULL),
+                iterator);
+    }
+
+    /**
+     * Returns the binder which binds the insertions of a template with the binding plan of its entry in the template
+     * cache, or with the statement parameter processor if there is no such plan. The timeout of a
+     * `postgresql:TimedQuery` is set on the statement as well.
+     *
+     * @param template       the entry of the template, as returned by the template cache of the client
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @return the binder
+     */
+    public static ParameterBinder getParameterBinder(SqlTemplateCache.Entry template, BObject paramSQLString) {
+        long timeoutMillis = getTimeoutMillis(paramSQLString);
+        BindingPlan bindingPlan = template.getBindingPlan();
+        return new ParameterBinder() {
+            @Override
+            public void bind(Connection connection, PreparedStatement statement)
+                    throws SQLException, ApplicationError {
+                if (timeoutMillis > 0) {
+                    // The driver sends a cancel request for the statement on the deadline, which leaves the
+                    // connection usable, unlike the socket timeout.
+                    statement.unwrap(PgStatement.class).setQueryTimeoutMs(timeoutMillis);
+                }
+                if (bindingPlan != null) {
+                    bindingPlan.bind(connection, statement,
+                            paramSQLString.getArrayValue(Constants.ParameterizedQueryFields.INSERTIONS));
+                } else {
+                    PostgresStatementParameterProcessor.getInstance().setParams(connection, statement,
+                            paramSQLString);
+                }
+            }
+
+            @Override
+            public long getTimeoutMillis() {
+                return timeoutMillis;
+            }
+        };
+    }
+
+    /**
+     * Returns the timeout of a query given as a `postgresql:TimedQuery`.
+     *
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @return the timeout in milliseconds, or 0 if the query has no timeout
+     */
+    public static long getTimeoutMillis(BObject paramSQLString) {
+        if (!Constants.TimedQuery.OBJECT_NAME.equals(paramSQLString.getType().getName())) {
+            return 0;
+        }
+        return Math.max(0, Utils.getTimeout(paramSQLString.get(Constants.TimedQuery.TIMEOUT)));
+    }
+
+    /**
+     * Creates the error of a failed statement. A statement cancelled on the deadline set by the call results in a
+     * `postgresql:QueryTimeoutError`. A statement cancelled otherwise, e.g. by `pg_cancel_backend` or by the
+     * `statement_timeout` of the server, results in an `sql:DatabaseError` as for any other failure.
+     *
+     * @param e             the exception
+     * @param sqlQuery      the SQL query of the statement
+     * @param timeoutMillis the timeout set on the statement by the call, or 0 if it set none
+     * @return the `sql:DatabaseError`
+     */
+    public static BError getDatabaseError(SQLException e, String sqlQuery, long timeoutMillis) {
+        if (timeoutMillis <= 0 || !Constants.TimedQuery.QUERY_CANCELED_STATE.equals(e.getSQLState())) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        }
+        Map<String, Object> detailFields = new HashMap<>();
+        detailFields.put(Constants.TimedQuery.ERROR_CODE, (long) e.getErrorCode());
+        detailFields.put(Constants.TimedQuery.SQL_STATE, StringUtils.fromString(e.getSQLState()));
+        BMap<BString, Object> details = ValueCreator.createRecordValue(
+                io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(), Constants.TimedQuery.ERROR_DETAIL_RECORD,
+                detailFields);
+        return ErrorCreator.createError(ModuleUtils.getModule(), Constants.TimedQuery.ERROR_NAME,
+                StringUtils.fromString(String.format("Query timed out: %s. %s", sqlQuery, e.getMessage())),
+                null, details);
+    }
+
+    static BArray readRows(ResultSet resultSet, RecordType recordType) throws SQLException, ApplicationError {
+        return readRows(resultSet, recordType, QueryTimer.NONE);
+    }
+
+    private static BArray readRows(ResultSet resultSet, RecordType recordType, QueryTimer timer)
+            throws SQLException, ApplicationError {
+        List<ColumnDefinition> columnDefinitions = io.ballerina.stdlib.sql.utils.Utils
+                .getColumnDefinitions(resultSet, recordType);
+        BArray rows = ValueCreator.createArrayValue(TypeCreator.createArrayType(recordType));
+        while (resultSet.next()) {
+            timer.row();
+            rows.append(io.ballerina.stdlib.sql.utils.Utils.createBallerinaRecord(recordType,
+                    PostgresResultParameterProcessor.getInstance(), resultSet, columnDefinitions));
+        }
+        return rows;
+    }
+
+    private static Object getLastInsertId(ResultSet keys) throws SQLException {
+        if (!keys.next()) {
+            return null;
+        }
+        Object key = keys.getObject(1);
+        if (key instanceof Number && !(key instanceof BigDecimal)) {
+            return ((Number) key).longValue();
+        }
+        return key == null ? null : StringUtils.fromString(key.toString());
+    }
+
+    private static long getTimeoutMillis(List<ParameterBinder> binders) {
+        long timeoutMillis = 0;
+        for (ParameterBinder binder : binders) {
+            timeoutMillis = Math.max(timeoutMillis, binder.getTimeoutMillis());
+        }
+        return timeoutMillis;
+    }
+
+    private static BArray createExecutionResults(List<Object> results) {
+        Type resultType = TypeUtils.getType(createExecutionResult(0, null));
+        return ValueCreator.createArrayValue(results.toArray(),
+                TypeCreator.createArrayType(resultType));
+    }
+
+    private static BError getBatchExecuteError(BatchUpdateException e, String sqlQuery, List<Object> results) {
+        Map<String, Object> detailFields = new HashMap<>();
+        detailFields.put(Constants.BatchExecuteError.ERROR_CODE, (long) e.getErrorCode());
+        detailFields.put(Constants.BatchExecuteError.SQL_STATE, e.getSQLState() == null ? null
+                : StringUtils.fromString(e.getSQLState()));
+        detailFields.put(Constants.BatchExecuteError.EXECUTION_RESULTS, createExecutionResults(results));
+        BMap<BString, Object> details = ValueCreator.createRecordValue(
+                io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(), Constants.BatchExecuteError.ERROR_DETAIL_RECORD,
+                detailFields);
+        // The exception of the failed statement, rather than the one of the batch, describes the failure.
+        SQLException cause = e.getNextException() != null ? e.getNextException() : e;
+        return ErrorCreator.createError(io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(),
+                Constants.BatchExecuteError.ERROR_NAME, StringUtils.fromString(String.format(
+                        "Error while executing batch command starting with: '%s'. %s.", sqlQuery,
+                        cause.getMessage())), null, details);
+    }
+
+    static Object createExecutionResult(long affectedRowCount, Object lastInsertId) {
+        Map<String, Object> resultFields = new HashMap<>();
+        resultFields.put(Constants.ExecutionResult.AFFECTED_ROW_COUNT, affectedRowCount);
+        resultFields.put(Constants.ExecutionResult.LAST_INSERT_ID, lastInsertId);
+        return ValueCreator.createRecordValue(io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(),
+                Constants.ExecutionResult.RECORD_NAME, resultFields);
+    }
+
+    static Connection getConnection(BObject client) throws SQLException {
+        return ((SQLDatasource) client.getNativeData(DATABASE_CLIENT)).getSQLConnection();
+    }
+
+    static Connection getConnection(BObject client, QueryTimer timer) throws SQLException {
+        Connection connection = getConnection(client);
+        timer.acquired();
+        return connection;
+    }
+
+    static Object validateClientStatus(BObject client) {
+        Object status = client.getNativeData(DATABASE_CLIENT_ACTIVE_STATUS);
+        if (client.getNativeData(DATABASE_CLIENT) == null || !(status instanceof Boolean) || !((Boolean) status)) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed");
+        }
+        return null;
+    }
+}
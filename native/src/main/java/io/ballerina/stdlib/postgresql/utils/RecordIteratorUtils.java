@@ -18,7 +18,10 @@
 
 package io.ballerina.stdlib.postgresql.utils;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.observability.QueryTimer;
 import io.ballerina.stdlib.postgresql.parameterprocessor.PostgresResultParameterProcessor;
 
 /**
@@ -29,4 +32,33 @@ public class RecordIteratorUtils {
         return io.ballerina.stdlib.sql.utils.RecordIteratorUtils
             .nextResult(recordIterator, PostgresResultParameterProcessor.getInstance());
     }
+
+    public static Object nextCursorResult(Environment env, BObject cursorResultIterator) {
+        CursorResult cursor = (CursorResult) cursorResultIterator.getNativeData(Constants.CURSOR_RESULT);
+        if (cursor.isOffloaded() && !cursor.hasBufferedRows()) {
+            return BlockingCallExecutor.offload(env, cursor::next);
+        }
+        return cursor.next();
+    }
+
+    public static Object closeCursorResult(Environment env, BObject cursorResultIterator) {
+        CursorResult cursor = (CursorResult) cursorResultIterator.getNativeData(Constants.CURSOR_RESULT);
+        if (cursor.isOffloaded()) {
+            return BlockingCallExecutor.offload(env, cursor::close);
+        }
+        return cursor.close();
+    }
+
+    public static void recordInstrumentedRow(BObject instrumentedResultIterator, boolean hasRow) {
+        QueryTimer timer = (QueryTimer) instrumentedResultIterator.getNativeData(Constants.QUERY_TIMER);
+        if (hasRow) {
+            timer.row();
+        } else {
+            timer.finish();
+        }
+    }
+
+    public static void finishInstrumentedResult(BObject instrumentedResultIterator) {
+        ((QueryTimer) instrumentedResultIterator.getNativeData(Constants.QUERY_TIMER)).finish();
+    }
 }
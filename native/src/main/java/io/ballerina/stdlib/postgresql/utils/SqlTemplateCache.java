@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.postgresql.Constants;
+import io.ballerina.stdlib.postgresql.statement.BindingPlan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+
+/**
+ * This class caches the SQL query generated for an SQL template. The entries are keyed by the contents of the
+ * `strings` array of the template, whose elements are the same string constants on every evaluation of a given
+ * template expression, hence the keys are mostly compared by identity, and the types of the insertions are kept as
+ * the signature of the entry. A template is not cached if it has a nested template as an insertion, as the SQL query
+ * then depends on the insertion as well. The binding plan of the insertions is kept with the SQL query, hence the
+ * executions of a cached template bind their parameters without looking up the types of the insertions again.
+ * <p>
+ * Only the templates written in the code are cached. A template built at runtime by the `sql` module, e.g. with
+ * `sql:queryConcat`, is not cached, and nor is any other template until it is seen a second time, so that the
+ * templates built dynamically, whose strings differ on every evaluation, neither fill the cache nor keep the hot
+ * templates out. The cache is read without locking, and its size is bounded approximately: the entries record the
+ * epoch, i.e. the number of entries added before, in which they are last used, and once the cache is full, the
+ * entries used in the oldest epochs are evicted.
+ *
+ * @since 1.13.2
+ */
+public class SqlTemplateCache {
+
+    static final int MAX_ENTRIES = 2048;
+    // The size the cache is reduced to by an eviction, so that an eviction makes room for a number of entries.
+    private static final int EVICTED_SIZE = MAX_ENTRIES * 3 / 4;
+    // The number of the entries added in an epoch, which is the unit of the recency of the entries.
+    private static final int EPOCH_LENGTH = MAX_ENTRIES / 8;
+    // The number of the hashes of the templates seen once, which are cached when they are seen again.
+    private static final int CANDIDATES = 1024;
+    private static final String SQL_MODULE_ORG = "ballerina";
+    private static final String SQL_MODULE_NAME = "sql";
+
+    private final Map<StringsKey, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicIntegerArray candidates = new AtomicIntegerArray(CANDIDATES);
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicInteger additions = new AtomicInteger();
+    private final AtomicInteger epoch = new AtomicInteger();
+
+    /**
+     * Returns the SQL query of a template, using the template cache of the client if it has one.
+     *
+     * @param client         the `postgresql:Client`
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @return the SQL query with `?` as the parameter placeholders
+     */
+    public static String getSqlQuery(BObject client, BObject paramSQLString) {
+        return getEntry(client, paramSQLString).getSqlQuery();
+    }
+
+    /**
+     * Returns the SQL query and the binding plan of a template, using the template cache of the client if it has
+     * one.
+     *
+     * @param client         the `postgresql:Client`
+     * @param paramSQLString the `sql:ParameterizedQuery`
+     * @return the entry of the template, which has no binding plan if the template is not cached
+     */
+    public static Entry getEntry(BObject client, BObject paramSQLString) {
+        SqlTemplateCache cache = (SqlTemplateCache) client.getNativeData(Constants.SQL_TEMPLATE_CACHE);
+        if (cache == null) {
+            return new Entry(io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString), null, null);
+        }
+        return cache.get(paramSQLString);
+    }
+
+    /**
+     * Checks whether a value is an SQL template, which is given as an insertion of another template.
+     *
+     * @param value the insertion
+     * @return `true` if the value is a template
+     */
+    public static boolean isTemplate(Object value) {
+        if (!(value instanceof BObject)) {
+            return false;
+        }
+        Type type = TypeUtils.getReferredType(((BObject) value).getType());
+        return type instanceof ObjectType && ((ObjectType) type).getFields()
+                .containsKey(Constants.ParameterizedQueryFields.STRINGS.getValue());
+    }
+
+    public Entry get(BObject paramSQLString) {
+        if (isBuiltBySqlModule(paramSQLString)) {
+            return new Entry(io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString), null, null);
+        }
+        return get(paramSQLString.getArrayValue(Constants.ParameterizedQueryFields.STRINGS),
+                paramSQLString.getArrayValue(Constants.ParameterizedQueryFields.INSERTIONS),
+                () -> io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString));
+    }
+
+    Entry get(BArray strings, BArray insertions, Supplier<String> sqlQuery) {
+        StringsKey key = new StringsKey(strings);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.matches(insertions)) {
+            int currentEpoch = epoch.get();
+            if (entry.usedEpoch != currentEpoch) {
+                entry.usedEpoch = currentEpoch;
+            }
+            return entry;
+        }
+        Type[] signature = getSignature(insertions);
+        if (signature == null || (entry == null && !isSeenBefore(key.hash))) {
+            return new Entry(sqlQuery.get(), null, null);
+        }
+        Entry newEntry = new Entry(sqlQuery.get(), signature, BindingPlan.of(insertions));
+        newEntry.usedEpoch = epoch.get();
+        entries.put(key, newEntry);
+        if (additions.incrementAndGet() % EPOCH_LENGTH == 0) {
+            epoch.incrementAndGet();
+        }
+        if (entries.size() > MAX_ENTRIES) {
+            evict();
+        }
+        return newEntry;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Records the hash of a template which is not cached, and returns whether the hash was recorded before, in which
+     * case the template is cached. A template whose hash collides with the one of another template may be cached
+     * when it is seen the first time, which is bounded by the eviction as any other entry.
+     */
+    private boolean isSeenBefore(int hash) {
+        int slot = (hash ^ (hash >>> 16)) & (CANDIDATES - 1);
+        return candidates.getAndSet(slot, hash) == hash;
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int[] usedEpochs = entries.values().stream().mapToInt(entry -> entry.usedEpoch).sorted().toArray();
+            if (usedEpochs.length <= EVICTED_SIZE) {
+                return;
+            }
+            // The entries used in the oldest epochs are evicted, which leaves at most EVICTED_SIZE entries.
+            int lastEvictedEpoch = usedEpochs[usedEpochs.length - EVICTED_SIZE - 1];
+            entries.values().removeIf(entry -> entry.usedEpoch <= lastEvictedEpoch);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static boolean isBuiltBySqlModule(BObject paramSQLString) {
+        Module module = TypeUtils.getType(paramSQLString).getPackage();
+        return module != null && SQL_MODULE_ORG.equals(module.getOrg()) && SQL_MODULE_NAME.equals(module.getName());
+    }
+
+    private static Type[] getSignature(BArray insertions) {
+        Type[] signature = new Type[insertions.size()];
+        for (int i = 0; i < signature.length; i++) {
+            Object insertion = insertions.get(i);
+            if (isTemplate(insertion)) {
+                return null;
+            }
+            signature[i] = TypeUtils.getType(insertion);
+        }
+        return signature;
+    }
+
+    /**
+     * The SQL query of a template, with the binding plan of its insertions if the template is cached.
+     */
+    public static final class Entry {
+        private final String sqlQuery;
+        private final Type[] signature;
+        private final BindingPlan bindingPlan;
+        private volatile int usedEpoch;
+
+        private Entry(String sqlQuery, Type[] signature, BindingPlan bindingPlan) {
+            this.sqlQuery = sqlQuery;
+            this.signature = signature;
+            this.bindingPlan = bindingPlan;
+        }
+
+        public String getSqlQuery() {
+            return sqlQuery;
+        }
+
+        /**
+         * Returns the binding plan of the insertions.
+         *
+         * @return the binding plan, or `null` if the template is not cached or its insertions cannot be bound with a
+         *         plan
+         */
+        public BindingPlan getBindingPlan() {
+            return bindingPlan;
+        }
+
+        private boolean matches(BArray insertions) {
+            if (insertions.size() != signature.length) {
+                return false;
+            }
+            for (int i = 0; i < signature.length; i++) {
+                if (TypeUtils.getType(insertions.get(i)) != signature[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class StringsKey {
+        private final BArray strings;
+        private final int hash;
+
+        private StringsKey(BArray strings) {
+            this.strings = strings;
+            int hash = 1;
+            for (int i = 0; i < strings.size(); i++) {
+                hash = 31 * hash + strings.get(i).hashCode();
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof StringsKey)) {
+                return false;
+            }
+            BArray otherStrings = ((StringsKey) other).strings;
+            if (otherStrings == strings) {
+                return true;
+            }
+            if (((StringsKey) other).hash != hash || otherStrings.size() != strings.size()) {
+                return false;
+            }
+            for (int i = 0; i < strings.size(); i++) {
+                // The strings of a template expression are the same constants on every evaluation.
+                Object string = strings.get(i);
+                Object otherString = otherStrings.get(i);
+                if (string != otherString && !string.equals(otherString)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -23,10 +23,35 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.postgresql.Constants;
 
+import java.util.Map;
+import java.util.Properties;
+
 /**
  * This class includes utility functions.
  */
 public class Utils {
+    public static String getJdbcUrl(BString host, long port, BString database) {
+        String url = Constants.JDBC_URL + host;
+        if (port > 0) {
+            url += ":" + port;
+        }
+        url += "/";
+        if (database != null && !database.getValue().isEmpty()) {
+            url += database.getValue();
+        }
+        return url;
+    }
+
+    public static Properties getDriverProperties(BMap<BString, Object> options) {
+        Properties properties = new Properties();
+        if (options != null) {
+            for (Map.Entry<BString, Object> option : options.entrySet()) {
+                properties.setProperty(option.getKey().getValue(), option.getValue().toString());
+            }
+        }
+        return properties;
+    }
+
     public static BMap generateOptionsMap(BMap postgresqlOptions) {
         if (postgresqlOptions != null) {
             BMap<BString, Object> options = ValueCreator.createMapValue();
@@ -23,7 +23,10 @@ module io.ballerina.stdlib.postgresql {
     requires io.ballerina.stdlib.sql;
     requires io.ballerina.lang;
     requires org.postgresql.jdbc;
+    requires com.zaxxer.hikari;
     requires java.sql;
+    requires java.logging;
+    requires jdk.jfr;
     exports io.ballerina.stdlib.postgresql;
     exports io.ballerina.stdlib.postgresql.nativeimpl;
 }
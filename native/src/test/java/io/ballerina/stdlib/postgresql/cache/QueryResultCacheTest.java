@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Tests that the {@link QueryResultCache} keeps nil results and does not keep a result read before a change of its
+ * table.
+ */
+public class QueryResultCacheTest {
+
+    private static final String SELECT = "SELECT name FROM Products WHERE id = ?";
+    private static final String UPDATE = "UPDATE Products SET name = ? WHERE id = ?";
+    private static final String KEY = SELECT + "\u00001";
+
+    @Test
+    public void testResultReadBeforeWrite() {
+        QueryResultCache cache = createCache();
+        // A read executes its query, and a write to the table is executed and drops the entries of the table before
+        // the read caches its result.
+        long generation = cache.getGeneration();
+        String staleName = "apple";
+        cache.invalidateTablesOf(UPDATE);
+        Assert.assertEquals(cache.put(KEY, SELECT, staleName, generation), staleName);
+        Assert.assertSame(cache.get(KEY), QueryResultCache.MISS, "A result read before the write should not be cached");
+
+        // A read which executes its query after the write caches its result.
+        generation = cache.getGeneration();
+        cache.put(KEY, SELECT, "pear", generation);
+        Assert.assertEquals(cache.get(KEY), "pear");
+    }
+
+    @Test
+    public void testResultCachedBeforeWrite() {
+        QueryResultCache cache = createCache();
+        cache.put(KEY, SELECT, "apple", cache.getGeneration());
+        Assert.assertEquals(cache.get(KEY), "apple");
+
+        // The write drops the entry once it is executed.
+        cache.invalidateTablesOf(UPDATE);
+        Assert.assertSame(cache.get(KEY), QueryResultCache.MISS);
+    }
+
+    @Test
+    public void testResultReadBeforeClear() {
+        QueryResultCache cache = createCache();
+        long generation = cache.getGeneration();
+        // A procedure call, or a lost invalidation channel, drops all the entries.
+        cache.clear();
+        cache.put(KEY, SELECT, "apple", generation);
+        Assert.assertSame(cache.get(KEY), QueryResultCache.MISS);
+    }
+
+    @Test
+    public void testNilResultCached() {
+        QueryResultCache cache = createCache();
+        Assert.assertSame(cache.get(KEY), QueryResultCache.MISS);
+
+        // A `queryRow` call returning `()` is cached, and is not mistaken for a miss.
+        Assert.assertNull(cache.put(KEY, SELECT, null, cache.getGeneration()));
+        Assert.assertNull(cache.get(KEY));
+    }
+
+    private static QueryResultCache createCache() {
+        return new QueryResultCache(100, 1024 * 1024, 60_000, Map.of());
+    }
+}
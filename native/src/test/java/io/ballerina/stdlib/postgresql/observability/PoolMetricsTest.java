@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the registration of the connection pool metrics of a client with the metrics registry, as done by the pool
+ * when the metrics of the client are published.
+ */
+public class PoolMetricsTest {
+
+    private static final List<String> POOL_METRICS = List.of(
+            "postgresql_pool_active_connections",
+            "postgresql_pool_connection_acquire_time_milliseconds",
+            "postgresql_pool_connection_creation_time_milliseconds",
+            "postgresql_pool_connection_hold_time_milliseconds",
+            "postgresql_pool_idle_connections",
+            "postgresql_pool_pending_requests",
+            "postgresql_pool_total_connections");
+
+    @Test
+    public void testPoolMetricsAreUnregisteredOnClose() {
+        IMetricsTracker tracker = new PoolMetrics("orders").create("orders-pool", new TestPoolStats());
+        Assert.assertEquals(getMetricNames("orders"), POOL_METRICS);
+
+        // The pool closes its tracker when it is shut down.
+        tracker.close();
+        Assert.assertEquals(getMetricNames("orders"), List.of());
+    }
+
+    @Test
+    public void testPoolMetricsOfClientsWithTheSameName() {
+        IMetricsTracker tracker = new PoolMetrics("payments").create("payments-pool", new TestPoolStats());
+        // The gauges of a second pool with the same name cannot be registered, which does not fail the pool.
+        IMetricsTracker duplicateTracker = new PoolMetrics("payments").create("payments-pool-2",
+                new TestPoolStats());
+        Assert.assertEquals(getMetricNames("payments"), POOL_METRICS);
+        duplicateTracker.recordConnectionAcquiredNanos(1_000_000);
+
+        tracker.close();
+        duplicateTracker.close();
+        Assert.assertEquals(getMetricNames("payments"), List.of());
+    }
+
+    private static List<String> getMetricNames(String clientName) {
+        Tag clientNameTag = Tag.of("client_name", clientName);
+        return Arrays.stream(DefaultMetricRegistry.getInstance().getAllMetrics())
+                .filter(metric -> metric.getId().getTags().contains(clientNameTag))
+                .map(Metric::getId)
+                .map(MetricId::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static final class TestPoolStats extends PoolStats {
+
+        private TestPoolStats() {
+            super(0);
+        }
+
+        @Override
+        protected void update() {
+            totalConnections = 2;
+            idleConnections = 1;
+            activeConnections = 1;
+            pendingThreads = 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Tag;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the registration of the query metrics of a client with the metrics registry.
+ */
+public class QueryMetricsTest {
+
+    private static final String CLIENT_NAME = "inventory";
+    private static final String SQL_QUERY = "SELECT * FROM Items WHERE id = ?";
+    private static final List<String> QUERY_METRICS = List.of(
+            "postgresql_query_acquire_time_milliseconds",
+            "postgresql_query_execute_time_milliseconds",
+            "postgresql_query_first_row_time_milliseconds",
+            "postgresql_query_rows",
+            "postgresql_query_total_time_milliseconds");
+
+    @Test
+    public void testQueryMetricsAreUnregisteredOnClose() {
+        QueryMetrics metrics = new QueryMetrics(CLIENT_NAME, true);
+        call(metrics, QueryMetrics.QUERY);
+        call(metrics, QueryMetrics.EXECUTE);
+        Assert.assertEquals(getMetricNames(), QUERY_METRICS.stream()
+                .flatMap(name -> List.of(name, name).stream()).collect(Collectors.toList()));
+
+        metrics.close();
+        Assert.assertEquals(getMetricNames(), List.of());
+
+        // A call which completes after the client is closed is not published.
+        call(metrics, QueryMetrics.QUERY);
+        Assert.assertEquals(getMetricNames(), List.of());
+    }
+
+    private static void call(QueryMetrics metrics, String operation) {
+        QueryTimer timer = new QueryTimer(metrics, CLIENT_NAME, SQL_QUERY, operation);
+        timer.acquired();
+        timer.executed();
+        timer.row();
+        timer.finish();
+    }
+
+    private static List<String> getMetricNames() {
+        Tag clientNameTag = Tag.of("client_name", CLIENT_NAME);
+        return Arrays.stream(DefaultMetricRegistry.getInstance().getAllMetrics())
+                .filter(metric -> metric.getId().getTags().contains(clientNameTag))
+                .map(Metric::getId)
+                .map(MetricId::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
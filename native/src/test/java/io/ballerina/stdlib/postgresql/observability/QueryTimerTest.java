@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.observability;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the JFR events recorded by the {@link QueryTimer} of a call.
+ */
+public class QueryTimerTest {
+
+    private static final String CLIENT_NAME = "orders";
+    // The template has a multibyte character, so that its size differs from its length.
+    private static final String SQL_QUERY = "SELECT * FROM Orders WHERE note = 'café' AND id > ?";
+    private static final String ACQUIRE_EVENT = "ballerinax.postgresql.ConnectionAcquire";
+    private static final String EXECUTE_EVENT = "ballerinax.postgresql.StatementExecute";
+    private static final String FETCH_EVENT = "ballerinax.postgresql.FetchBlock";
+
+    @Test
+    public void testQueryEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            QueryTimer timer = new QueryTimer(null, CLIENT_NAME, SQL_QUERY, QueryMetrics.QUERY);
+            timer.setFetchSize(2);
+            timer.acquired();
+            timer.executed();
+            for (int i = 0; i < 3; i++) {
+                timer.row();
+            }
+            timer.finish();
+        });
+
+        List<RecordedEvent> acquireEvents = getEvents(events, ACQUIRE_EVENT);
+        Assert.assertEquals(acquireEvents.size(), 1);
+        assertCallFields(acquireEvents.get(0));
+
+        List<RecordedEvent> executeEvents = getEvents(events, EXECUTE_EVENT);
+        Assert.assertEquals(executeEvents.size(), 1);
+        RecordedEvent executeEvent = executeEvents.get(0);
+        assertCallFields(executeEvent);
+        Assert.assertEquals(executeEvent.getString("operation"), QueryMetrics.QUERY);
+        Assert.assertEquals(executeEvent.getLong("sqlBytes"), SQL_QUERY.getBytes(StandardCharsets.UTF_8).length);
+        Assert.assertEquals(executeEvent.getLong("affectedRows"), -1);
+
+        // The rows are recorded in blocks of the fetch size.
+        List<RecordedEvent> fetchEvents = getEvents(events, FETCH_EVENT);
+        Assert.assertEquals(fetchEvents.stream().map(event -> event.getLong("rows")).collect(Collectors.toList()),
+                List.of(2L, 1L));
+        fetchEvents.forEach(QueryTimerTest::assertCallFields);
+    }
+
+    @Test
+    public void testExecuteEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            QueryTimer timer = new QueryTimer(null, CLIENT_NAME, SQL_QUERY, QueryMetrics.EXECUTE);
+            timer.acquired();
+            timer.executed(5);
+            timer.finish();
+        });
+
+        List<RecordedEvent> executeEvents = getEvents(events, EXECUTE_EVENT);
+        Assert.assertEquals(executeEvents.size(), 1);
+        Assert.assertEquals(executeEvents.get(0).getString("operation"), QueryMetrics.EXECUTE);
+        Assert.assertEquals(executeEvents.get(0).getLong("affectedRows"), 5);
+        // A statement which does not return rows has no fetch blocks.
+        Assert.assertEquals(getEvents(events, FETCH_EVENT).size(), 0);
+    }
+
+    private static List<RecordedEvent> record(Runnable call) throws Exception {
+        Path file = Files.createTempFile("query-timer", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ACQUIRE_EVENT);
+            recording.enable(EXECUTE_EVENT);
+            recording.enable(FETCH_EVENT);
+            recording.start();
+            call.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertCallFields(RecordedEvent event) {
+        Assert.assertEquals(event.getString("clientName"), CLIENT_NAME);
+        Assert.assertEquals(event.getString("sqlTemplate"), SQL_QUERY);
+    }
+}
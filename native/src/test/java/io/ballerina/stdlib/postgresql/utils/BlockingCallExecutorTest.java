@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests that the strand of an offloaded call is always completed by the {@link BlockingCallExecutor}.
+ */
+public class BlockingCallExecutorTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testOffloadedCallResult() throws Exception {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        BlockingCallExecutor.submit(() -> 1L, result::complete, e -> e);
+        Assert.assertEquals(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), 1L);
+    }
+
+    @Test
+    public void testThrowingOffloadedCall() throws Exception {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        // The failure is given as is, rather than as the `sql:Error` of the module, which is not loaded here.
+        BlockingCallExecutor.submit(() -> {
+            throw new IllegalStateException("Connection is lost");
+        }, result::complete, e -> e);
+        Object failure = result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertTrue(failure instanceof IllegalStateException, "The strand should be completed with the failure");
+        Assert.assertEquals(((IllegalStateException) failure).getMessage(), "Connection is lost");
+    }
+}
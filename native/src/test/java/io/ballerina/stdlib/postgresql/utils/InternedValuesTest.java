@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.postgresql.util.PGobject;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Tests the sharing of the values interned by the {@link InternedValues} dictionaries and the cut-off of a column
+ * which has more distinct values than `maxValuesPerColumn`.
+ */
+public class InternedValuesTest {
+
+    @AfterMethod
+    public void resetConfiguration() {
+        configure(1024);
+    }
+
+    @Test
+    public void testTextColumnValuesShared() throws SQLException {
+        configure(4, "status");
+        InternedValues.Dictionary dictionary = InternedValues.getDictionary(resultSet("Status", "varchar"), 1,
+                Types.VARCHAR);
+        Assert.assertNotNull(dictionary);
+        // Each row is read into a new string, which is decoded into the same `BString`.
+        BString open = dictionary.intern(new String("open"));
+        Assert.assertSame(dictionary.intern(new String("open")), open);
+        Assert.assertEquals(open.getValue(), "open");
+
+        // The dictionary of the column is shared by the results of other queries.
+        InternedValues.Dictionary otherResult = InternedValues.getDictionary(resultSet("status", "text"), 1,
+                Types.VARCHAR);
+        Assert.assertSame(otherResult, dictionary);
+        Assert.assertNull(InternedValues.getDictionary(resultSet("name", "varchar"), 1, Types.VARCHAR));
+        Assert.assertNull(InternedValues.getDictionary(resultSet("status", "int4"), 1, Types.INTEGER));
+    }
+
+    @Test
+    public void testDictionaryCutOff() throws SQLException {
+        configure(2, "status");
+        InternedValues.Dictionary dictionary = InternedValues.getDictionary(resultSet("status", "varchar"), 1,
+                Types.VARCHAR);
+        BString open = dictionary.intern("open");
+        BString closed = dictionary.intern("closed");
+
+        // Once the column has `maxValuesPerColumn` distinct values, the new values are not interned.
+        BString pending = dictionary.intern("pending");
+        BString pendingAgain = dictionary.intern("pending");
+        Assert.assertNotSame(pendingAgain, pending);
+        Assert.assertEquals(pendingAgain, pending);
+        Assert.assertSame(dictionary.intern(new String("open")), open);
+        Assert.assertSame(dictionary.intern(new String("closed")), closed);
+    }
+
+    @Test
+    public void testEnumColumnsInterned() throws SQLException {
+        configure(1024);
+        // The driver reports an enum column as VARCHAR with the name of the enum type.
+        InternedValues.Dictionary dictionary = InternedValues.getDictionary(resultSet("mood", "mood_type"), 1,
+                Types.VARCHAR);
+        Assert.assertNotNull(dictionary, "An enum column should be interned without being configured");
+        Assert.assertSame(dictionary.intern(new String("happy")), dictionary.intern(new String("happy")));
+
+        configure(0);
+        Assert.assertNull(InternedValues.getDictionary(resultSet("mood", "mood_type"), 1, Types.VARCHAR),
+                "No column should be interned if `maxValuesPerColumn` is 0");
+    }
+
+    @Test
+    public void testEnumParametersShared() throws SQLException {
+        PGobject value = InternedValues.getPGobject("mood_type", "happy");
+        Assert.assertSame(InternedValues.getPGobject("mood_type", new String("happy")), value);
+        Assert.assertEquals(value.getType(), "mood_type");
+        Assert.assertEquals(value.getValue(), "happy");
+        Assert.assertThrows(UnsupportedOperationException.class, () -> value.setValue("sad"));
+    }
+
+    private static void configure(long maxValues, String... textColumns) {
+        BString[] columns = new BString[textColumns.length];
+        for (int i = 0; i < textColumns.length; i++) {
+            columns[i] = StringUtils.fromString(textColumns[i]);
+        }
+        InternedValues.configure(ValueCreator.createArrayValue(columns), maxValues);
+    }
+
+    // Creates a result set of a single column, of which only the metadata is read.
+    private static ResultSet resultSet(String columnLabel, String typeName) {
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                InternedValuesTest.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount":
+                            return 1;
+                        case "getColumnLabel":
+                            return columnLabel;
+                        case "getColumnTypeName":
+                            return typeName;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        return (ResultSet) Proxy.newProxyInstance(InternedValuesTest.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    if ("getMetaData".equals(method.getName())) {
+                        return metaData;
+                    }
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.postgresql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the lookups, the admission and the eviction of the {@link SqlTemplateCache}.
+ */
+public class SqlTemplateCacheTest {
+
+    private static final BString SELECT = StringUtils.fromString("SELECT name FROM Products WHERE id = ");
+    private static final BString END = StringUtils.fromString("");
+
+    @Test
+    public void testCacheHitOnEvaluationsOfTemplate() {
+        SqlTemplateCache cache = new SqlTemplateCache();
+        // Each evaluation of a template expression has a strings array of the same string constants.
+        SqlTemplateCache.Entry first = cache.get(strings(SELECT, END), insertions(1), () -> "first");
+        Assert.assertNull(first.getBindingPlan(), "A template should not be cached when it is seen the first time");
+
+        SqlTemplateCache.Entry second = cache.get(strings(SELECT, END), insertions(2), () -> "second");
+        Assert.assertEquals(second.getSqlQuery(), "second");
+        Assert.assertNotNull(second.getBindingPlan());
+
+        SqlTemplateCache.Entry third = cache.get(strings(SELECT, END), insertions(3),
+                () -> {
+                    throw new AssertionError("The SQL query of a cached template should not be generated again");
+                });
+        Assert.assertSame(third, second);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testCacheMissOnOtherInsertionTypes() {
+        SqlTemplateCache cache = new SqlTemplateCache();
+        cache.get(strings(SELECT, END), insertions(1), () -> "int");
+        SqlTemplateCache.Entry cached = cache.get(strings(SELECT, END), insertions(1), () -> "int");
+        BArray stringInsertions = ValueCreator.createArrayValue(new BString[]{StringUtils.fromString("1")});
+        SqlTemplateCache.Entry replaced = cache.get(strings(SELECT, END), stringInsertions, () -> "string");
+        Assert.assertNotSame(replaced, cached);
+        Assert.assertEquals(replaced.getSqlQuery(), "string");
+        Assert.assertSame(cache.get(strings(SELECT, END), stringInsertions, () -> "string"), replaced);
+    }
+
+    @Test
+    public void testDynamicTemplatesNotCached() {
+        SqlTemplateCache cache = new SqlTemplateCache();
+        cache.get(strings(SELECT, END), insertions(1), () -> "hot");
+        SqlTemplateCache.Entry hot = cache.get(strings(SELECT, END), insertions(1), () -> "hot");
+        // Templates built at runtime with different strings on every evaluation are each seen once.
+        for (int i = 0; i < 3 * SqlTemplateCache.MAX_ENTRIES; i++) {
+            BString dynamic = StringUtils.fromString("SELECT name FROM Products_" + i + " WHERE id = ");
+            cache.get(strings(dynamic, END), insertions(i), () -> "dynamic");
+        }
+        Assert.assertTrue(cache.size() < SqlTemplateCache.MAX_ENTRIES / 2, "Size: " + cache.size());
+        Assert.assertSame(cache.get(strings(SELECT, END), insertions(1), () -> "hot"), hot);
+    }
+
+    @Test
+    public void testEvictionOfUnusedTemplates() {
+        SqlTemplateCache cache = new SqlTemplateCache();
+        cache.get(strings(SELECT, END), insertions(1), () -> "hot");
+        SqlTemplateCache.Entry hot = cache.get(strings(SELECT, END), insertions(1), () -> "hot");
+        for (int i = 0; i < 3 * SqlTemplateCache.MAX_ENTRIES; i++) {
+            BString[] template = {StringUtils.fromString("SELECT name FROM Products_" + i + " WHERE id = "), END};
+            cache.get(strings(template), insertions(i), () -> "other");
+            cache.get(strings(template), insertions(i), () -> "other");
+            // The hot template is used between the evictions, hence it is kept.
+            Assert.assertSame(cache.get(strings(SELECT, END), insertions(1), () -> "hot"), hot);
+            Assert.assertTrue(cache.size() <= SqlTemplateCache.MAX_ENTRIES, "Size: " + cache.size());
+        }
+    }
+
+    private static BArray strings(BString... strings) {
+        return ValueCreator.createArrayValue(strings);
+    }
+
+    private static BArray insertions(long id) {
+        return ValueCreator.createArrayValue(new long[]{id});
+    }
+}